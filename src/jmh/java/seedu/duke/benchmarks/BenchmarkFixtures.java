@@ -0,0 +1,42 @@
+package seedu.duke.benchmarks;
+
+import seedu.duke.models.logic.Api;
+import seedu.duke.models.schema.ModuleList;
+
+import static seedu.duke.models.logic.DataRepository.getRequirements;
+
+/**
+ * Shared fixture data for the benchmarks. Every module used here is in the test fixtures the benchmarks read, so
+ * the benchmarks never reach NUSMods.
+ */
+final class BenchmarkFixtures {
+    static final String MAJOR = "CEG";
+
+    //Modules of a typical first year of CEG, all of which are in the test fixtures
+    static final String FIRST_YEAR_MODULES = "CG1111A CS1010 MA1511 MA1512 EG1311 CG2111A MA1508E CS1231 CS2040C";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Checks that every requirement of the benchmarked major is served by the test fixtures, failing fast instead
+     * of timing a network lookup.
+     *
+     * @throws IllegalStateException If a requirement is missing from the test fixtures.
+     */
+    static void requireFixtures() throws IllegalStateException {
+        for (String module : getRequirements(MAJOR)) {
+            try {
+                if (!Api.doesModuleExist(module)) {
+                    throw new IllegalStateException(module + " is not in the test fixtures");
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalStateException(module + " is not in the test fixtures", e);
+            }
+        }
+    }
+
+    static ModuleList firstYearModules() {
+        return new ModuleList(FIRST_YEAR_MODULES);
+    }
+}
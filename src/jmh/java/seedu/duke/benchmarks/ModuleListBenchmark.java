@@ -0,0 +1,42 @@
+package seedu.duke.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.models.schema.Major;
+import seedu.duke.models.schema.ModuleList;
+
+import java.io.InvalidObjectException;
+
+/**
+ * Membership checks and set difference on module lists, as used by the "left" command.
+ */
+@State(Scope.Benchmark)
+public class ModuleListBenchmark {
+    private ModuleList requirements;
+    private ModuleList completedModules;
+
+    @Setup
+    public void setUp() {
+        requirements = new ModuleList(Major.CEG);
+        completedModules = BenchmarkFixtures.firstYearModules();
+    }
+
+    @Benchmark
+    public boolean exists_present() throws InvalidObjectException {
+        return requirements.exists("CS2113");
+    }
+
+    @Benchmark
+    public boolean exists_absent() throws InvalidObjectException {
+        return requirements.exists("CS9999");
+    }
+
+    @Benchmark
+    public ModuleList getDifference() throws InvalidObjectException {
+        ModuleList modulesLeft = new ModuleList();
+        modulesLeft.getDifference(requirements, completedModules);
+        return modulesLeft;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.duke.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.models.logic.Api;
+import seedu.duke.models.schema.ModuleList;
+
+import java.util.ArrayList;
+
+/**
+ * Prerequisite evaluation against compiled trees, and the course-filtered prerequisite lists used by the
+ * recommended schedule.
+ */
+@State(Scope.Benchmark)
+public class PrereqBenchmark {
+    private ModuleList completedModules;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.requireFixtures();
+        completedModules = BenchmarkFixtures.firstYearModules();
+    }
+
+    @Benchmark
+    public boolean satisfiesAllPrereq_satisfied() {
+        return Api.satisfiesAllPrereq("CS2113", completedModules);
+    }
+
+    @Benchmark
+    public boolean satisfiesAllPrereq_nestedTreeNotSatisfied() {
+        return Api.satisfiesAllPrereq("CG4002", completedModules);
+    }
+
+    @Benchmark
+    public ArrayList<String> getModulePrereqBasedOnCourse() {
+        return Api.getModulePrereqBasedOnCourse("EE2211", BenchmarkFixtures.MAJOR);
+    }
+}
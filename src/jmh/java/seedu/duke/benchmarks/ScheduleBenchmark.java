@@ -0,0 +1,45 @@
+package seedu.duke.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.exceptions.FailPrereqException;
+import seedu.duke.models.schema.Schedule;
+
+/**
+ * Adding modules to and deleting modules from a schedule, including a delete that is rejected because a later
+ * module depends on it.
+ */
+@State(Scope.Thread)
+public class ScheduleBenchmark {
+    private Schedule schedule;
+    private Schedule scheduleWithDependents;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkFixtures.requireFixtures();
+        schedule = new Schedule("CG1111A CS1010 MA1511 MA1512", new int[]{4, 0, 0, 0, 0, 0, 0, 0});
+        scheduleWithDependents = new Schedule("CG1111A CS1010 MA1511 MA1512 CS2040C CS2113",
+                new int[]{4, 1, 1, 0, 0, 0, 0, 0});
+    }
+
+    @Benchmark
+    public int addAndDeleteModules() throws Exception {
+        schedule.addModule("CS2040C", 2);
+        schedule.addModule("CS2113", 3);
+        schedule.deleteModule("CS2113");
+        schedule.deleteModule("CS2040C");
+        return schedule.getNumberOfModules();
+    }
+
+    @Benchmark
+    public String deleteModule_blockedByDependent() {
+        try {
+            scheduleWithDependents.deleteModule("CS2040C");
+        } catch (FailPrereqException e) {
+            return e.getMessage();
+        }
+        throw new IllegalStateException("CS2040C should not be deletable while CS2113 is scheduled");
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.duke.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.models.logic.AlternativePlanSearch;
+import seedu.duke.models.logic.Api;
+import seedu.duke.models.logic.CriticalPathScheduler;
+import seedu.duke.models.logic.DependencyGraph;
+import seedu.duke.models.logic.ScheduleGenerator;
+import seedu.duke.models.schema.PlanAlternative;
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.models.schema.SemesterPlan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static seedu.duke.models.logic.DataRepository.getRequirements;
+
+/**
+ * Generation of the recommended schedule for a whole major, end to end and for the in-memory planning step alone,
+ * re-planning from a kept dependency graph after an edit, and the search over alternative prerequisites. The test
+ * fixtures hold little beyond the major's own modules, so for the search every module outside the major that a
+ * prerequisite names is assumed to be a 4 MC module without prerequisites, which opens up every choice point of the
+ * major.
+ */
+@State(Scope.Benchmark)
+public class ScheduleGeneratorBenchmark {
+    private List<String> requirements;
+    private Map<String, ArrayList<String>> prereqs;
+    private Map<String, Integer> credits;
+    private CriticalPathScheduler scheduler;
+    private AlternativePlanSearch alternativeSearch;
+    private DependencyGraph dependencyGraph;
+    private boolean isCompleted;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.requireFixtures();
+        requirements = getRequirements(BenchmarkFixtures.MAJOR);
+        prereqs = ScheduleGenerator.prefetchPrereqs(requirements, BenchmarkFixtures.MAJOR);
+        credits = new HashMap<>();
+        for (String requirement : requirements) {
+            credits.put(requirement, Api.getModuleCredit(requirement));
+        }
+        scheduler = new CriticalPathScheduler(requirements, prereqs, credits);
+        dependencyGraph = new DependencyGraph();
+        for (String requirement : requirements) {
+            dependencyGraph.addModule(requirement, credits.get(requirement), prereqs.get(requirement));
+        }
+
+        Map<String, List<Set<String>>> alternatives = new HashMap<>();
+        Map<String, Integer> alternativeCredits = new HashMap<>(credits);
+        for (String requirement : requirements) {
+            List<Set<String>> moduleAlternatives = Api.getPrereqAlternatives(requirement, BenchmarkFixtures.MAJOR, 8);
+            alternatives.put(requirement, moduleAlternatives);
+            for (Set<String> alternative : moduleAlternatives) {
+                for (String module : alternative) {
+                    if (alternativeCredits.putIfAbsent(module, 4) == null) {
+                        alternatives.put(module, List.of(Set.of()));
+                    }
+                }
+            }
+        }
+        alternativeSearch = new AlternativePlanSearch(requirements, alternatives, alternativeCredits, 20,
+                Schedule.getMaximumSemesters(), 200_000);
+    }
+
+    @Benchmark
+    public ArrayList<String> generateRecommendedSchedule() {
+        return ScheduleGenerator.generateRecommendedSchedule(BenchmarkFixtures.MAJOR);
+    }
+
+    @Benchmark
+    public CriticalPathScheduler compileScheduler() {
+        return new CriticalPathScheduler(requirements, prereqs, credits);
+    }
+
+    @Benchmark
+    public SemesterPlan planSemesters() {
+        return scheduler.plan(20, Schedule.getMaximumSemesters());
+    }
+
+    @Benchmark
+    public SemesterPlan replanAfterCompletion() {
+        isCompleted = !isCompleted;
+        dependencyGraph.setCompleted(requirements.get(0), isCompleted);
+        return dependencyGraph.toScheduler().plan(20, Schedule.getMaximumSemesters());
+    }
+
+    @Benchmark
+    public List<PlanAlternative> searchAlternativePlans() {
+        return alternativeSearch.search(3);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.duke.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.duke.models.logic.Api;
+import seedu.duke.models.logic.ModuleSearchIndex;
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.util.List;
+
+/**
+ * Catalog search through the cached index, and the cost of building that index.
+ */
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+    private List<ModuleSummary> catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = Api.listAllModules();
+        if (catalog == null || catalog.isEmpty()) {
+            throw new IllegalStateException("The test fixtures have no catalog");
+        }
+    }
+
+    @Benchmark
+    public List<ModuleSummary> search_titleKeywords() {
+        return Api.search("machine learning", catalog);
+    }
+
+    @Benchmark
+    public List<ModuleSummary> search_moduleCodePrefix() {
+        return Api.search("CS2", catalog);
+    }
+
+    @Benchmark
+    public ModuleSearchIndex buildIndex() {
+        return new ModuleSearchIndex(catalog);
+    }
+}
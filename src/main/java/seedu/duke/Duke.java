@@ -1,6 +1,7 @@
 package seedu.duke;
 
 import seedu.duke.controllers.ModulePlannerController;
+import seedu.duke.utils.Metrics;
 
 public class Duke {
     /**
@@ -8,6 +9,7 @@ public class Duke {
      */
     //main should have basically no code except start
     public static void main(String[] args) {
+        Runtime.getRuntime().addShutdownHook(new Thread(Metrics::dumpIfConfigured));
         ModulePlannerController controller = new ModulePlannerController();
         controller.start();
     }
@@ -2,14 +2,21 @@ package seedu.duke.controllers;
 import org.json.simple.JSONObject;
 import seedu.duke.exceptions.FailPrereqException;
 import seedu.duke.models.logic.CompletePreqs;
+import seedu.duke.models.logic.DegreeAudit;
 import seedu.duke.models.logic.MajorRequirements;
 import seedu.duke.models.logic.ModulesLeft;
 import seedu.duke.models.schema.ModuleList;
 import seedu.duke.models.schema.Major;
+import seedu.duke.models.schema.PlanAlternative;
+import seedu.duke.models.schema.RequirementGroup;
 import seedu.duke.models.schema.Schedule;
+import seedu.duke.models.schema.SemesterPlan;
 import seedu.duke.models.schema.Student;
 import seedu.duke.models.logic.Api;
 import seedu.duke.views.CommandLineView;
+import seedu.duke.utils.Job;
+import seedu.duke.utils.JobManager;
+import seedu.duke.utils.Metrics;
 import seedu.duke.utils.Parser;
 import seedu.duke.views.ErrorHandler;
 
@@ -17,15 +24,40 @@ import java.io.InvalidObjectException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static seedu.duke.models.logic.Api.doesModuleExist;
 import static seedu.duke.models.logic.Api.getFullModuleInfo;
+import static seedu.duke.models.logic.Api.getModuleCredit;
 import static seedu.duke.models.logic.Api.getModulePrereqBasedOnCourse;
+import static seedu.duke.models.logic.Api.getReachabilityIndex;
+import static seedu.duke.models.logic.DataRepository.getRequirementTree;
 import static seedu.duke.models.logic.DataRepository.getRequirements;
-import static seedu.duke.models.logic.ScheduleGenerator.generateRecommendedSchedule;
+import static seedu.duke.models.logic.ScheduleGenerator.excludeModule;
+import static seedu.duke.models.logic.ScheduleGenerator.generateAlternativePlans;
+import static seedu.duke.models.logic.ScheduleGenerator.generateRecommendedPlan;
+import static seedu.duke.models.logic.ScheduleGenerator.getMaxCreditsPerSemester;
+import static seedu.duke.models.logic.ScheduleGenerator.includeModule;
+import static seedu.duke.models.logic.ScheduleGenerator.setModuleCompleted;
+import static seedu.duke.models.logic.ScheduleGenerator.warmUp;
 
 public class ModulePlannerController {
+    //Plans shown by the alternatives command when no number is given
+    private static final int DEFAULT_ALTERNATIVE_PLANS = 3;
+    //Seconds a background command may run before it is cancelled
+    private static final Map<String, Integer> DEADLINE_SECONDS = Map.of(
+            "recommend", 60,
+            "alternatives", 120,
+            "info", 30,
+            "search", 60,
+            "major", 120);
+    //Credits needed to graduate when no major is selected
+    private static final int TOTAL_CREDITS_TO_GRADUATE = 160;
+
     private CommandLineView view;
     private Parser parser;
     private Student student;
@@ -34,10 +66,21 @@ public class ModulePlannerController {
     private ModuleList modulesLeft;
     private HashMap<String, List<String>> modsWithPreqs;
     private CompletePreqs addModulePreqs;
+    //Credits completed and planned towards each requirement group of the major, updated by every command
+    private DegreeAudit degreeAudit;
+    //Runs slow commands off the prompt
+    private final JobManager jobManager;
+    //Recommended plan waiting for the user to answer whether to add it, set by the job that made it
+    private volatile SemesterPlan pendingPlan;
+    //Loads the modules of the selected major in the background, and the prerequisites it found for them
+    private Job warmUpJob;
+    private final AtomicReference<Map<String, ArrayList<String>>> warmedUpPrereqs;
 
     public ModulePlannerController() {
         this.view = new CommandLineView();
         this.parser = new Parser();
+        this.jobManager = new JobManager();
+        this.warmedUpPrereqs = new AtomicReference<>();
         this.student = new Student();
 
 
@@ -73,17 +116,35 @@ public class ModulePlannerController {
         String userInput = in.nextLine();
 
         while (!userInput.equals("bye")) {
+            //prerequisites found by the warm-up are registered here, as only the prompt uses addModulePreqs
+            Map<String, ArrayList<String>> prereqs = warmedUpPrereqs.getAndSet(null);
+            if (prereqs != null) {
+                addModulePreqs.addModsWithPreqs(prereqs);
+            }
+
+            //the answer to a recommended plan can come after other commands, as the plan is made in the background
+            if (pendingPlan != null && (userInput.equals("Y") || userInput.equals("N"))) {
+                answerPendingPlan(userInput);
+                userInput = in.nextLine();
+                continue;
+            }
 
             String[] words = userInput.split(" ");
 
             String initialWord = words[0].toLowerCase();
             boolean validInput;
+            long commandStart = System.nanoTime();
 
             validInput = Parser.isValidInput(initialWord, words);
             if (validInput) {
                 switch (initialWord) {
                 case "left": {
-                    if (modulesMajor != null && modulesTaken != null) {
+                    if (degreeAudit != null) {
+                        view.displayMessage("Modules left:");
+                        for (String module : degreeAudit.getModulesLeft()) {
+                            view.displayMessage(module);
+                        }
+                    } else if (modulesMajor != null && modulesTaken != null) {
                         ModulesLeft modulesLeft = new ModulesLeft(modulesMajor, modulesTaken);
                         ArrayList<String> modules = modulesLeft.listModulesLeft();
                         view.displayMessage("Modules left:");
@@ -97,10 +158,9 @@ public class ModulePlannerController {
                 }
                 case "pace": {
                     //assumed that everyone graduates at y4s2
-                    //waiting for retrieving logic
-                    int modulesCreditsCompleted = 100;
-                    int totalCreditsToGraduate = 160;
-                    int creditsLeft = totalCreditsToGraduate - modulesCreditsCompleted;
+                    int creditsLeft = degreeAudit != null
+                            ? degreeAudit.getOutstandingCredits()
+                            : TOTAL_CREDITS_TO_GRADUATE - student.getCreditLedger().getCompletedCredits();
                     computePace(words, creditsLeft);
                     break;
                 }
@@ -114,8 +174,24 @@ public class ModulePlannerController {
                     break;
                 }
                 case "recommend": {
-                    String keyword = words[1];
-                    chooseToAddToSchedule(generateRecommendedSchedule(keyword.toUpperCase()),in);
+                    String course = words[1].toUpperCase();
+                    //read here, as the schedule is only used on the prompt
+                    Map<String, Integer> scheduledSemesters = student.getSchedule().getSemestersOfModules();
+                    runInBackground(initialWord, userInput,
+                            () -> offerPlan(generateRecommendedPlan(course, scheduledSemesters)));
+                    break;
+                }
+                case "alternatives": {
+                    int count = words.length == 3
+                            ? Parser.parseAlternativesCount(words[2])
+                            : DEFAULT_ALTERNATIVE_PLANS;
+                    //checked again here, as a bad argument must never end the prompt
+                    if (words.length < 2 || count == -1) {
+                        ErrorHandler.invalidAlternativesFormat();
+                        break;
+                    }
+                    String course = words[1].toUpperCase();
+                    runInBackground(initialWord, userInput, () -> showAlternativePlans(course, count));
                     break;
                 }
                 case "major": {
@@ -123,8 +199,12 @@ public class ModulePlannerController {
                         Major major = Major.valueOf(words[1].toUpperCase());
                         student.setMajor(major);
                         modulesMajor = new ModuleList(student.getMajor());
+                        degreeAudit = createDegreeAudit(major);
                     }
                     view.handleMajorMessage(words.length, student.getMajor());
+                    if (words.length == 2) {
+                        startWarmUp(userInput, student.getMajor());
+                    }
                     break;
                 }
                 case "add": {
@@ -132,8 +212,15 @@ public class ModulePlannerController {
                     int targetSem = Integer.parseInt(words[2]);
                     try {
                         student.getSchedule().addModule(module, targetSem);
+                        if (modulesMajor != null) {
+                            includeModule(student.getMajor().toString(), module);
+                        }
+                        if (degreeAudit != null) {
+                            degreeAudit.markPlanned(module);
+                        }
                         view.displaySuccessfulAddMessage();
                         student.getSchedule().printMainModuleList();
+                        warnIfOverloaded(targetSem);
                     } catch (InvalidObjectException | IllegalArgumentException e) {
                         view.displayMessage(e.getMessage());
                     } catch (FailPrereqException f) {
@@ -146,6 +233,12 @@ public class ModulePlannerController {
                     String module = words[1].toUpperCase();
                     try {
                         student.getSchedule().deleteModule(module);
+                        if (modulesMajor != null) {
+                            excludeModule(student.getMajor().toString(), module);
+                        }
+                        if (degreeAudit != null) {
+                            degreeAudit.unmarkPlanned(module);
+                        }
                         view.displaySuccessfulDeleteMessage();
                         student.getSchedule().printMainModuleList();
                     } catch (IllegalArgumentException | FailPrereqException e) {
@@ -153,6 +246,21 @@ public class ModulePlannerController {
                     }
                     break;
                 }
+                case "unlocks": {
+                    showUnlocks(words[1].toUpperCase());
+                    break;
+                }
+                case "dependents": {
+                    String module = words[1].toUpperCase();
+                    List<String> dependents = student.getSchedule().getAllDependentsInSchedule(module);
+                    if (dependents.isEmpty()) {
+                        view.displayMessage("No module in your schedule depends on " + module);
+                    } else {
+                        view.displayMessage("Modules in your schedule that depend on " + module + ": "
+                                + String.join(", ", dependents));
+                    }
+                    break;
+                }
                 case "schedule": {
                     student.getSchedule().printMainModuleList();
                     break;
@@ -161,9 +269,16 @@ public class ModulePlannerController {
                     if (modulesMajor != null) {
                         if (addModulePreqs.checkModInput(words, modulesMajor)) {
                             String moduleCompleted = words[1].toUpperCase();
-                            addModulePreqs.getUnlockedMods(moduleCompleted);
-                            addModulePreqs.printUnlockedMods(moduleCompleted);
+                            //a module refused for uncompleted prerequisites is not completed anywhere else either
+                            if (!addModulePreqs.getUnlockedMods(moduleCompleted)) {
+                                break;
+                            }
                             modulesTaken.addModule(moduleCompleted);
+                            if (degreeAudit != null) {
+                                degreeAudit.markCompleted(moduleCompleted);
+                            }
+                            student.getSchedule().markCompleted(moduleCompleted, getCredits(moduleCompleted));
+                            setModuleCompleted(student.getMajor().toString(), moduleCompleted, true);
                             break;
                         }
                     } else {
@@ -180,21 +295,111 @@ public class ModulePlannerController {
                     break;
                 }
                 case "info": {
-                    Api.infoCommands(words[1], userInput);
+                    String command = words[1];
+                    String input = userInput;
+                    runInBackground(initialWord, userInput, () -> Api.infoCommands(command, input));
                     break;
                 }
                 case "search": {
-                    Api.searchCommand(userInput);
+                    //an empty search is reported straight away, as only the catalog download is slow
+                    if (!Parser.isValidKeywordInput(userInput)) {
+                        ErrorHandler.emptyKeywordforSearchCommand();
+                        break;
+                    }
+                    String input = userInput;
+                    runInBackground(initialWord, userInput, () -> Api.searchCommand(input));
+                    break;
+                }
+                case "stats": {
+                    view.displayMessage(Metrics.report());
+                    break;
+                }
+                case "jobs": {
+                    showJobs();
+                    break;
+                }
+                case "cancel": {
+                    Job job = jobManager.cancel(Integer.parseInt(words[1]));
+                    view.displayMessage(job == null
+                            ? "No running job with id " + words[1]
+                            : "Cancelled job " + job.getId() + ": " + job.getCommand());
                     break;
                 }
                 default: {
                     view.displayMessage("Invalid Input");
+                    initialWord = "invalid";
                     break;
                 }
                 }
+            } else {
+                initialWord = "invalid";
             }
+            Metrics.recordSince("command." + initialWord, commandStart);
             userInput = in.nextLine();
         }
+        jobManager.shutdown();
+    }
+
+    /**
+     * Runs a slow command in the background, so that the prompt stays responsive, cancelling it if it runs past
+     * the command's deadline. The deadline can be changed with {@code -Dduke.jobs.<command>.deadlineSeconds}.
+     *
+     * @param command   The command word, e.g. "recommend".
+     * @param userInput The full command, shown by the jobs command.
+     * @param task      The work of the command.
+     */
+    private void runInBackground(String command, String userInput, Runnable task) {
+        int deadlineSeconds = Integer.getInteger("duke.jobs." + command + ".deadlineSeconds",
+                DEADLINE_SECONDS.get(command));
+        Job job = jobManager.submit(userInput, deadlineSeconds, task);
+        view.displayMessage("Started job " + job.getId() + ": " + userInput);
+    }
+
+    /**
+     * Loads the module info and prerequisites of every module of a major in the background, so that the commands
+     * that follow do not wait on NUSMods. A warm-up still loading a previously selected major is cancelled.
+     *
+     * @param userInput The major command, shown by the jobs command.
+     * @param major     The selected major.
+     */
+    private void startWarmUp(String userInput, Major major) {
+        if (warmUpJob != null) {
+            jobManager.cancel(warmUpJob.getId());
+        }
+        warmUpJob = jobManager.submit(userInput, Integer.getInteger("duke.jobs.major.deadlineSeconds",
+                DEADLINE_SECONDS.get("major")), () -> {
+                    long start = System.nanoTime();
+                    Map<String, ArrayList<String>> prereqs = warmUp(major.toString());
+                    if (Job.current().isRunning()) {
+                        warmedUpPrereqs.set(prereqs);
+                        view.displayMessage("Modules of " + major + " loaded in "
+                                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+                    }
+                });
+    }
+
+    private void showAlternativePlans(String course, int count) {
+        List<PlanAlternative> plans = generateAlternativePlans(course, count);
+        if (!Job.current().isRunning()) {
+            return;
+        }
+        for (int i = 0; i < plans.size(); i++) {
+            view.displayMessage("Plan " + (i + 1) + ": " + plans.get(i));
+        }
+    }
+
+    private void showJobs() {
+        List<Job> jobs = jobManager.listJobs();
+        if (jobs.isEmpty()) {
+            view.displayMessage("No jobs running");
+            return;
+        }
+        for (Job job : jobs) {
+            String progress = job.getProgress().isEmpty() ? "" : ", " + job.getProgress();
+            view.displayMessage("Job " + job.getId() + ": " + job.getCommand() + " - running for "
+                    + TimeUnit.NANOSECONDS.toSeconds(job.getElapsedNanos()) + "s" + progress
+                    + ", cancelled in " + TimeUnit.NANOSECONDS.toSeconds(job.getRemainingNanos()) + "s");
+        }
     }
 
     public void determinePrereq(String module, String major){
@@ -209,28 +414,47 @@ public class ModulePlannerController {
     }
 
     /**
-     * Prompts the user to choose whether to add a list of modules to their draft schedule.
-     * Displays the list of modules and asks for user input. Handles user input validation.
+     * Shows a semester plan and asks the user whether to add it to their draft schedule. The answer is read by the
+     * prompt as the next 'Y' or 'N' input, so other commands can be run in the meantime.
      *
-     * @param scheduleToAdd A list of modules to be added to the schedule.
-     * @param in            A Scanner object for user input.
+     * @param planToAdd The plan to be added to the schedule.
      */
-    public void chooseToAddToSchedule(ArrayList<String> scheduleToAdd, Scanner in){
-
-        view.displayMessage(scheduleToAdd);
+    public void offerPlan(SemesterPlan planToAdd) {
+        //a cancelled recommendation is not shown
+        Job job = Job.current();
+        if (job != null && !job.isRunning()) {
+            return;
+        }
+        pendingPlan = planToAdd;
+        view.displayMessage(planToAdd);
         view.displayMessage("Do you want to add this to your draft schedule?, please input 'Y' or 'N'");
+    }
 
-        String userInput = in.nextLine();
-
-        while (!userInput.equals("N") && !userInput.equals(("Y"))){
-            view.displayMessage("Invalid input, please choose Y/N");
-            userInput = in.nextLine();
-        }
+    /**
+     * Adds the plan last offered to the draft schedule if the user chose 'Y'.
+     *
+     * @param userInput The user's answer, 'Y' or 'N'.
+     */
+    public void answerPendingPlan(String userInput) {
+        SemesterPlan planToAdd = pendingPlan;
+        pendingPlan = null;
 
         if(userInput.equals("Y")){
             view.displayMessage("yes was chosen");
-            student.getSchedule().addRecommendedScheduleListToSchedule(scheduleToAdd);
+            List<String> unplacedModules = student.getSchedule().addSemesterPlan(planToAdd);
+            if (degreeAudit != null) {
+                for (String module : student.getSchedule().getMainModuleList()) {
+                    degreeAudit.markPlanned(module);
+                }
+            }
             student.getSchedule().printMainModuleList();
+            if (!unplacedModules.isEmpty()) {
+                view.displayMessage("These modules could not be added to your schedule: "
+                        + String.join(", ", unplacedModules));
+            }
+            for (int sem = 1; sem <= planToAdd.getNumberOfSemesters(); sem++) {
+                warnIfOverloaded(sem);
+            }
 
         }else {
             view.displayMessage("No was chosen");
@@ -278,6 +502,73 @@ public class ModulePlannerController {
                 + "Recommended Pace: " + creditsPerSem + "MCs per sem until graduation");
     }
 
+    /**
+     * Creates an audit of the student's completed and scheduled modules against the requirements of a major.
+     *
+     * @param major The major of the student.
+     * @return The audit, or null if the major has no structured requirements.
+     */
+    private DegreeAudit createDegreeAudit(Major major) {
+        RequirementGroup requirements = getRequirementTree(major.toString());
+        if (requirements == null) {
+            return null;
+        }
+        DegreeAudit audit = new DegreeAudit(requirements, this::getCredits);
+        for (String module : modulesTaken.getMainModuleList()) {
+            audit.markCompleted(module);
+        }
+        for (String module : student.getSchedule().getMainModuleList()) {
+            audit.markPlanned(module);
+        }
+        return audit;
+    }
+
+    //Credits already in the ledger are not looked up again. Modules whose credits cannot be looked up are counted
+    //as zero credits rather than failing the command
+    private int getCredits(String module) {
+        int credits = student.getCreditLedger().getCreditsOf(module);
+        if (credits >= 0) {
+            return credits;
+        }
+        try {
+            return getModuleCredit(module);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private void warnIfOverloaded(int sem) {
+        int maxCredits = getMaxCreditsPerSemester();
+        if (student.getCreditLedger().isOverloaded(sem, 0, maxCredits)) {
+            view.displayMessage("Semester " + sem + " now has " + student.getCreditLedger().getCredits(sem)
+                    + " MCs, more than the usual " + maxCredits + " MCs");
+        }
+    }
+
+    /**
+     * Prints what completing a module would unlock straight away and which further modules it leads to.
+     *
+     * @param module The module code.
+     */
+    private void showUnlocks(String module) {
+        //the lookup reports an unknown module itself
+        if (!doesModuleExist(module)) {
+            return;
+        }
+        List<String> unlockedMods = addModulePreqs.getModsUnlockedBy(module);
+        List<String> laterMods = addModulePreqs.getModsEventuallyUnlockedBy(module, getReachabilityIndex());
+        if (unlockedMods.isEmpty() && laterMods.isEmpty()) {
+            view.displayMessage(module + " is not a prerequisite of any module");
+            return;
+        }
+        if (!unlockedMods.isEmpty()) {
+            view.displayMessage("Completing " + module + " unlocks: " + String.join(", ", unlockedMods));
+        }
+        if (!laterMods.isEmpty()) {
+            view.displayMessage(module + " eventually leads to: " + String.join(", ", laterMods));
+        }
+    }
+
     /**
      * Add all mods that require prerequisites to a map storing the mod and a set of preqs
      *
@@ -334,7 +625,7 @@ public class ModulePlannerController {
             throw new NullPointerException();
         }
         MajorRequirements modulesRequired = new MajorRequirements(major);
-        modulesRequired.printRequiredModules(major);
+        modulesRequired.printRequiredModules(major, degreeAudit);
     }
 
 }
@@ -0,0 +1,442 @@
+package seedu.duke.models.logic;
+
+import seedu.duke.models.schema.PlanAlternative;
+import seedu.duke.models.schema.SemesterPlan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Branch-and-bound search for the best plans of a course over the different ways its modules' prerequisites can be
+ * satisfied. Every module with more than one set of prerequisites is a choice point, and choosing prerequisites
+ * outside the course adds those modules, with their own choice points, to the plan. Each complete set of choices is
+ * planned with a {@link CriticalPathScheduler}, and the best distinct plans are kept.
+ *
+ * <p>Plans are ranked by the number of modules they could not fit, then the semester they finish in, then their
+ * heaviest semester, then how evenly their credits are spread. All prerequisites and credits are given up front, so
+ * the search makes no lookups of its own. Branches near the root are explored in parallel on the common fork-join
+ * pool, and a branch is cut off as soon as its longest prerequisite chain or its total credits show that it cannot
+ * finish as early as the worst of the plans kept so far.
+ */
+public class AlternativePlanSearch {
+    //Choice points this close to the root are searched as separate fork-join tasks, deeper ones within their task
+    private static final int FORK_DEPTH = 4;
+    private static final int NOT_IN_PLAN = -2;
+    private static final int UNDECIDED = -1;
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingInt((Candidate candidate) -> candidate.unscheduledCount)
+            .thenComparingInt(candidate -> candidate.lastSemester)
+            .thenComparingInt(candidate -> candidate.peakCredits)
+            .thenComparingLong(candidate -> candidate.squaredCredits)
+            .thenComparing((first, second) -> Arrays.compare(first.choices, second.choices));
+
+    private final String[] moduleCodes;
+    private final int[] credits;
+    private final int requiredCount;
+    private final int[][][] alternatives;
+    private final int[][] mandatoryPrereqs;
+    private final int maxCreditsPerSemester;
+    private final int semesters;
+    private final long maxEvaluatedPlans;
+    private final AtomicLong evaluatedPlans = new AtomicLong();
+    private final AtomicLong prunedBranches = new AtomicLong();
+    private volatile boolean isTruncated;
+
+    /**
+     * Compiles the choice points of a course.
+     *
+     * @param requiredModules       The modules the course requires, in their preferred order when otherwise tied.
+     * @param prereqAlternatives    The sets of prerequisites each module can be taken with, preferred set first.
+     *                              Modules outside the course can only be added to a plan if they are listed here
+     *                              and have credits; sets needing any other module are ignored.
+     * @param credits               The modular credits of each module.
+     * @param maxCreditsPerSemester The most modular credits to plan in one semester.
+     * @param semesters             The number of semesters available.
+     * @param maxEvaluatedPlans     The most complete plans to evaluate before the search gives up on the branches
+     *                              it has not explored, to keep very wide searches interactive.
+     * @throws IllegalArgumentException If a required module has no credits given.
+     */
+    public AlternativePlanSearch(List<String> requiredModules,
+            Map<String, ? extends List<? extends Set<String>>> prereqAlternatives, Map<String, Integer> credits,
+            int maxCreditsPerSemester, int semesters, long maxEvaluatedPlans) throws IllegalArgumentException {
+        assert maxCreditsPerSemester > 0 : "credit cap must be positive";
+        for (String module : requiredModules) {
+            if (!credits.containsKey(module)) {
+                throw new IllegalArgumentException("No modular credits given for " + module);
+            }
+        }
+        List<String> modules = new ArrayList<>(new LinkedHashSet<>(requiredModules));
+        requiredCount = modules.size();
+        modules.addAll(findUsableAdditionalModules(modules, prereqAlternatives, credits));
+
+        Map<String, Integer> indexOfModule = new HashMap<>();
+        for (int i = 0; i < modules.size(); i++) {
+            indexOfModule.put(modules.get(i), i);
+        }
+        moduleCodes = modules.toArray(new String[0]);
+        this.credits = new int[moduleCodes.length];
+        alternatives = new int[moduleCodes.length][][];
+        mandatoryPrereqs = new int[moduleCodes.length][];
+        for (int i = 0; i < moduleCodes.length; i++) {
+            this.credits[i] = credits.get(moduleCodes[i]);
+            alternatives[i] = compileAlternatives(moduleCodes[i], prereqAlternatives.get(moduleCodes[i]),
+                    indexOfModule);
+            mandatoryPrereqs[i] = intersect(alternatives[i]);
+        }
+        this.maxCreditsPerSemester = maxCreditsPerSemester;
+        this.semesters = semesters;
+        this.maxEvaluatedPlans = maxEvaluatedPlans;
+    }
+
+    //Modules outside the course with credits and at least one set of prerequisites made of usable modules
+    private static List<String> findUsableAdditionalModules(List<String> requiredModules,
+            Map<String, ? extends List<? extends Set<String>>> prereqAlternatives, Map<String, Integer> credits) {
+        Set<String> usable = new LinkedHashSet<>(requiredModules);
+        List<String> additionalModules = new ArrayList<>();
+        for (String module : prereqAlternatives.keySet()) {
+            if (!usable.contains(module) && credits.containsKey(module)) {
+                additionalModules.add(module);
+            }
+        }
+        additionalModules.sort(Comparator.naturalOrder());
+        usable.addAll(additionalModules);
+
+        boolean isChanged = true;
+        while (isChanged) {
+            isChanged = false;
+            for (String module : new ArrayList<>(additionalModules)) {
+                boolean isTakeable = prereqAlternatives.get(module).stream()
+                        .anyMatch(alternative -> !alternative.contains(module) && usable.containsAll(alternative));
+                if (!isTakeable) {
+                    usable.remove(module);
+                    additionalModules.remove(module);
+                    isChanged = true;
+                }
+            }
+        }
+        return additionalModules;
+    }
+
+    private static int[][] compileAlternatives(String module, List<? extends Set<String>> moduleAlternatives,
+            Map<String, Integer> indexOfModule) {
+        List<int[]> compiled = new ArrayList<>();
+        if (moduleAlternatives != null) {
+            for (Set<String> alternative : moduleAlternatives) {
+                if (!alternative.contains(module) && indexOfModule.keySet().containsAll(alternative)) {
+                    compiled.add(alternative.stream().mapToInt(indexOfModule::get).sorted().toArray());
+                }
+            }
+        }
+        if (compiled.isEmpty()) {
+            //like the recommended schedule, fall back to the preferred prerequisites that are in the plan
+            compiled.add(moduleAlternatives == null || moduleAlternatives.isEmpty() ? new int[0]
+                    : moduleAlternatives.get(0).stream()
+                    .filter(prereq -> !prereq.equals(module) && indexOfModule.containsKey(prereq))
+                    .mapToInt(indexOfModule::get).sorted().toArray());
+        }
+        return compiled.toArray(new int[0][]);
+    }
+
+    private static int[] intersect(int[][] alternatives) {
+        return Arrays.stream(alternatives[0])
+                .filter(prereq -> Arrays.stream(alternatives).allMatch(
+                        alternative -> Arrays.binarySearch(alternative, prereq) >= 0))
+                .toArray();
+    }
+
+    /**
+     * Retrieves the number of modules that can appear in a plan, including those outside the course.
+     *
+     * @return The number of usable modules.
+     */
+    public int getModuleCount() {
+        return moduleCodes.length;
+    }
+
+    /**
+     * Retrieves the number of modules that can be taken with more than one set of prerequisites.
+     *
+     * @return The number of choice points.
+     */
+    public int getChoicePointCount() {
+        int choicePoints = 0;
+        for (int[][] moduleAlternatives : alternatives) {
+            if (moduleAlternatives.length > 1) {
+                choicePoints++;
+            }
+        }
+        return choicePoints;
+    }
+
+    public long getEvaluatedPlans() {
+        return evaluatedPlans.get();
+    }
+
+    public long getPrunedBranches() {
+        return prunedBranches.get();
+    }
+
+    /**
+     * Checks whether the last search explored or pruned every branch, rather than stopping at its plan limit.
+     *
+     * @return True if the returned plans are the best ones over all choices.
+     */
+    public boolean isExhaustive() {
+        return !isTruncated;
+    }
+
+    /**
+     * Searches for the best distinct plans.
+     *
+     * @param count The number of plans to return.
+     * @return Up to {@code count} plans that differ in at least one semester, best first.
+     */
+    public List<PlanAlternative> search(int count) {
+        assert count > 0 : "count must be positive";
+        evaluatedPlans.set(0);
+        prunedBranches.set(0);
+        isTruncated = false;
+        Leaderboard leaderboard = new Leaderboard(count);
+        int[] choices = new int[moduleCodes.length];
+        Arrays.fill(choices, NOT_IN_PLAN);
+        Arrays.fill(choices, 0, requiredCount, UNDECIDED);
+        ForkJoinPool.commonPool().invoke(new SearchTask(choices, 0, leaderboard));
+
+        List<PlanAlternative> plans = new ArrayList<>();
+        for (Candidate candidate : leaderboard.getRanked()) {
+            plans.add(toPlanAlternative(candidate));
+        }
+        return plans;
+    }
+
+    private void explore(int[] choices, int depth, Leaderboard leaderboard) {
+        decideForcedChoices(choices);
+        if (leaderboard.canPrune(lowerBound(choices))) {
+            prunedBranches.incrementAndGet();
+            return;
+        }
+        int module = firstUndecided(choices);
+        if (module < 0) {
+            evaluate(choices, leaderboard);
+            return;
+        }
+        if (evaluatedPlans.get() >= maxEvaluatedPlans) {
+            isTruncated = true;
+            return;
+        }
+        List<SearchTask> branches = new ArrayList<>();
+        for (int alternative = 0; alternative < alternatives[module].length; alternative++) {
+            int[] branch = choices.clone();
+            choose(branch, module, alternative);
+            if (depth < FORK_DEPTH) {
+                branches.add(new SearchTask(branch, depth + 1, leaderboard));
+            } else {
+                explore(branch, depth + 1, leaderboard);
+            }
+        }
+        ForkJoinTask.invokeAll(branches);
+    }
+
+    private void decideForcedChoices(int[] choices) {
+        boolean isChanged = true;
+        while (isChanged) {
+            isChanged = false;
+            for (int module = 0; module < choices.length; module++) {
+                if (choices[module] == UNDECIDED && alternatives[module].length == 1) {
+                    choose(choices, module, 0);
+                    isChanged = true;
+                }
+            }
+        }
+    }
+
+    private void choose(int[] choices, int module, int alternative) {
+        choices[module] = alternative;
+        for (int prereq : alternatives[module][alternative]) {
+            if (choices[prereq] == NOT_IN_PLAN) {
+                choices[prereq] = UNDECIDED;
+            }
+        }
+    }
+
+    private static int firstUndecided(int[] choices) {
+        for (int module = 0; module < choices.length; module++) {
+            if (choices[module] == UNDECIDED) {
+                return module;
+            }
+        }
+        return -1;
+    }
+
+    //Fewest semesters any completion of the choices can take: the longest chain of prerequisites that are chosen
+    //or needed whatever is chosen, and the credits already in the plan. A module with more credits than the cap
+    //fills a semester on its own, so it only counts for the cap.
+    private int lowerBound(int[] choices) {
+        int[] chainLengths = new int[choices.length];
+        int longestChain = 0;
+        int cappedCredits = 0;
+        for (int module = 0; module < choices.length; module++) {
+            if (choices[module] != NOT_IN_PLAN) {
+                longestChain = Math.max(longestChain, chainLength(module, choices, chainLengths));
+                cappedCredits += Math.min(credits[module], maxCreditsPerSemester);
+            }
+        }
+        int creditSemesters = (cappedCredits + maxCreditsPerSemester - 1) / maxCreditsPerSemester;
+        return Math.max(longestChain, creditSemesters);
+    }
+
+    //Modules on a prerequisite cycle are never scheduled, so the cycle does not add to the chain
+    private int chainLength(int module, int[] choices, int[] chainLengths) {
+        if (chainLengths[module] != 0) {
+            return Math.max(chainLengths[module], 0);
+        }
+        chainLengths[module] = -1;
+        int longestPrereqChain = 0;
+        int[] prereqs = choices[module] >= 0 ? alternatives[module][choices[module]] : mandatoryPrereqs[module];
+        for (int prereq : prereqs) {
+            longestPrereqChain = Math.max(longestPrereqChain, chainLength(prereq, choices, chainLengths));
+        }
+        chainLengths[module] = longestPrereqChain + 1;
+        return chainLengths[module];
+    }
+
+    private void evaluate(int[] choices, Leaderboard leaderboard) {
+        evaluatedPlans.incrementAndGet();
+        int[] planIndex = new int[choices.length];
+        List<Integer> planModules = new ArrayList<>();
+        for (int module = 0; module < choices.length; module++) {
+            if (choices[module] != NOT_IN_PLAN) {
+                planIndex[module] = planModules.size();
+                planModules.add(module);
+            }
+        }
+        String[] planCodes = new String[planModules.size()];
+        int[] planCredits = new int[planModules.size()];
+        int[][] planPrereqs = new int[planModules.size()][];
+        for (int i = 0; i < planModules.size(); i++) {
+            int module = planModules.get(i);
+            planCodes[i] = moduleCodes[module];
+            planCredits[i] = credits[module];
+            planPrereqs[i] = Arrays.stream(alternatives[module][choices[module]]).map(prereq -> planIndex[prereq])
+                    .toArray();
+        }
+        SemesterPlan plan = new CriticalPathScheduler(planCodes, planCredits, planPrereqs)
+                .plan(maxCreditsPerSemester, semesters);
+        leaderboard.offer(new Candidate(plan, choices));
+    }
+
+    private PlanAlternative toPlanAlternative(Candidate candidate) {
+        Map<String, Set<String>> chosenPrereqs = new LinkedHashMap<>();
+        List<String> additionalModules = new ArrayList<>();
+        for (int module = 0; module < moduleCodes.length; module++) {
+            int alternative = candidate.choices[module];
+            if (alternative == NOT_IN_PLAN) {
+                continue;
+            }
+            if (alternative > 0) {
+                Set<String> prereqs = new LinkedHashSet<>();
+                for (int prereq : alternatives[module][alternative]) {
+                    prereqs.add(moduleCodes[prereq]);
+                }
+                chosenPrereqs.put(moduleCodes[module], prereqs);
+            }
+            if (module >= requiredCount) {
+                additionalModules.add(moduleCodes[module]);
+            }
+        }
+        return new PlanAlternative(candidate.plan, chosenPrereqs, additionalModules);
+    }
+
+    private final class SearchTask extends RecursiveAction {
+        private final int[] choices;
+        private final int depth;
+        private final Leaderboard leaderboard;
+
+        SearchTask(int[] choices, int depth, Leaderboard leaderboard) {
+            this.choices = choices;
+            this.depth = depth;
+            this.leaderboard = leaderboard;
+        }
+
+        @Override
+        protected void compute() {
+            explore(choices, depth, leaderboard);
+        }
+    }
+
+    private static final class Candidate {
+        private final SemesterPlan plan;
+        private final int[] choices;
+        private final int unscheduledCount;
+        private final int lastSemester;
+        private final int peakCredits;
+        private final long squaredCredits;
+
+        Candidate(SemesterPlan plan, int[] choices) {
+            this.plan = plan;
+            this.choices = choices;
+            this.unscheduledCount = plan.getUnscheduledModules().size();
+            this.lastSemester = plan.getLastSemester();
+            int peak = 0;
+            long squared = 0;
+            for (int sem = 1; sem <= plan.getNumberOfSemesters(); sem++) {
+                peak = Math.max(peak, plan.getCredits(sem));
+                squared += (long) plan.getCredits(sem) * plan.getCredits(sem);
+            }
+            this.peakCredits = peak;
+            this.squaredCredits = squared;
+        }
+    }
+
+    //Best plans found so far, one entry per distinct plan, shared by all search tasks
+    private static final class Leaderboard {
+        private final int capacity;
+        private final TreeSet<Candidate> ranked = new TreeSet<>(RANKING);
+        private final Map<SemesterPlan, Candidate> candidateOfPlan = new HashMap<>();
+        private volatile int pruneAboveSemester = Integer.MAX_VALUE;
+
+        Leaderboard(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized void offer(Candidate candidate) {
+            Candidate samePlan = candidateOfPlan.get(candidate.plan);
+            if (samePlan != null) {
+                if (RANKING.compare(candidate, samePlan) >= 0) {
+                    return;
+                }
+                ranked.remove(samePlan);
+            }
+            ranked.add(candidate);
+            candidateOfPlan.put(candidate.plan, candidate);
+            if (ranked.size() > capacity) {
+                candidateOfPlan.remove(ranked.pollLast().plan);
+            }
+            if (ranked.size() == capacity && ranked.last().unscheduledCount == 0) {
+                pruneAboveSemester = ranked.last().lastSemester;
+            }
+        }
+
+        //A branch that cannot finish by the last kept plan's semester can only give worse plans
+        boolean canPrune(int lowerBound) {
+            return lowerBound > pruneAboveSemester;
+        }
+
+        synchronized List<Candidate> getRanked() {
+            return new ArrayList<>(ranked);
+        }
+    }
+}
@@ -1,26 +1,35 @@
 package seedu.duke.models.logic;
 
 import java.io.IOException;
-import java.io.InvalidObjectException;
-import java.net.URI;
+import java.io.InputStream;
 import java.net.URISyntaxException;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 //import java.util.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
-import seedu.duke.models.schema.ModuleList;
+import seedu.duke.models.schema.Major;
+import seedu.duke.models.schema.ModuleSet;
+import seedu.duke.models.schema.ModuleSummary;
 
+import static seedu.duke.models.logic.DataRepository.getRequirementSet;
 import static seedu.duke.models.logic.DataRepository.getRequirements;
 
+import seedu.duke.utils.Metrics;
 import seedu.duke.utils.Parser;
+import seedu.duke.utils.jfr.PrereqEvaluationEvent;
 import seedu.duke.views.ErrorHandler;
 import seedu.duke.views.ModuleInfo;
 import seedu.duke.views.UnknownCommandException;
@@ -28,32 +37,72 @@ import seedu.duke.views.UnknownCommandException;
 
 public class Api {
 
+    private static final String ACADEMIC_YEAR = "2023-2024";
+    private static final ModuleInfoDiskCache MODULE_INFO_DISK_CACHE =
+            ModuleInfoDiskCache.fromSystemProperties(ACADEMIC_YEAR);
+    private static final ModuleInfoCache MODULE_INFO_CACHE =
+            new ModuleInfoCache(Integer.getInteger("duke.cache.memoryEntries", 512));
+
+    //Bundled catalog snapshot, consulted only when NUSMods cannot be reached; null if unavailable
+    private static final CatalogStore CATALOG_STORE = CatalogStore.loadBundled(ACADEMIC_YEAR);
+
+    private static final ConcurrentHashMap<String, PrereqTree> COMPILED_PREREQ_TREES = new ConcurrentHashMap<>();
+
+    //Modules that NUSMods does not know, remembered by lookups that must not report or repeat them
+    private static final Set<String> MISSING_MODULES = ConcurrentHashMap.newKeySet();
+
+    static {
+        Metrics.gauge("cache.memory.hit", MODULE_INFO_CACHE::getHitCount);
+        Metrics.gauge("cache.memory.miss", MODULE_INFO_CACHE::getMissCount);
+        Metrics.gauge("cache.memory.eviction", MODULE_INFO_CACHE::getEvictionCount);
+        Metrics.gauge("cache.memory.coalesced", MODULE_INFO_CACHE::getCoalescedCount);
+    }
+
+    private static volatile ModuleSearchIndex catalogIndex;
+
+    private static volatile ModuleSearchIndex lastSearchIndex;
+
+    //Empty until built by the warm-up of a major, so that the commands using it never wait on NUSMods
+    private static volatile ReachabilityIndex reachabilityIndex = new ReachabilityIndex(Map.of());
+    private static volatile boolean isReachabilityIndexBuilt;
+
+    //Created on first use, as setting up the HTTP client is slow and cached lookups never need it
+    private static volatile ModuleDataSource dataSource;
+
     /**
-     * Retrieves the prerequisite tree for a module specified by its code.
+     * Retrieves the compiled prerequisite tree for a module specified by its code. Each module's tree is compiled
+     * once and reused, taking into account modules whose prerequisites are incorrectly identified by NUSMods.
      *
      * @author ryanlohyr
      * @param moduleCode The code of the module for which prerequisites are to be retrieved.
-     * @return A JSON object representing the prerequisite tree for the module. The prerequisite tree can be in one of
+     * @return The compiled prerequisite tree, {@link PrereqTree#NONE} if the module has no prerequisites,
+     *     or null if the module does not exist.
      */
-    private static JSONObject getModulePrereqTree(String moduleCode) {
+    public static PrereqTree getPrereqTree(String moduleCode) {
+        PrereqTree compiledTree = COMPILED_PREREQ_TREES.get(moduleCode);
+        if (compiledTree != null) {
+            return compiledTree;
+        }
         JSONObject fullModuleInfo = getFullModuleInfo(moduleCode);
         if (fullModuleInfo == null) {
             return null;
         }
+        compiledTree = compilePrereqTree(moduleCode, fullModuleInfo);
+        COMPILED_PREREQ_TREES.putIfAbsent(moduleCode, compiledTree);
+        return compiledTree;
+    }
+
+    private static PrereqTree compilePrereqTree(String moduleCode, JSONObject fullModuleInfo) {
         //prereqTree can be returned as a string(single pre requisite), null(No pre requisites) or object
         Object prereqTree = fullModuleInfo.get("prereqTree");
         if (prereqTree == null) {
-            return null;
-        } else if (prereqTree instanceof String) {
-            JSONObject jsonObject = new JSONObject();
-            ArrayList<String> requirementList = new ArrayList<>();
-            requirementList.add((String) prereqTree);
-            jsonObject.put("or", requirementList);
-
-            return jsonObject;
+            return PrereqTree.NONE;
         }
-
-        return (JSONObject) fullModuleInfo.get("prereqTree");
+        //Modules that has prerequisites incorrectly identified by NUSMods
+        if (isModuleException(moduleCode)) {
+            return PrereqTree.allOf(getExemptedPrerequisite(moduleCode));
+        }
+        return PrereqTree.compile(prereqTree);
     }
 
     /**
@@ -103,38 +152,124 @@ public class Api {
         return map.get(moduleCode);
     }
 
-    private static String sendHttpRequestAndGetResponseBody(String url) throws ParseException,
+    /**
+     * Retrieves a resource from NUSMods through the configured data source.
+     *
+     * @param path The path of the resource relative to the NUSMods API root.
+     * @return The response body, or null if there is no such resource.
+     */
+    private static String sendHttpRequestAndGetResponseBody(String path) throws ParseException,
             IOException, InterruptedException, URISyntaxException {
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(new URI(url))
-                .GET()
-                .build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        return response.body();
+        long start = System.nanoTime();
+        try {
+            return getDataSource().fetch(path);
+        } catch (IOException e) {
+            Metrics.increment("http.failures");
+            throw e;
+        } catch (InterruptedException e) {
+            Metrics.increment("http.cancelled");
+            throw e;
+        } finally {
+            Metrics.recordSince("http.module", start);
+        }
+    }
 
+    private static ModuleDataSource getDataSource() {
+        ModuleDataSource source = dataSource;
+        if (source != null) {
+            return source;
+        }
+        synchronized (Api.class) {
+            if (dataSource == null) {
+                dataSource = ModuleDataSource.fromSystemProperties();
+            }
+            return dataSource;
+        }
     }
+
     /**
-     * Retrieves detailed module information from an external API based on the module code.
+     * Replaces the source of all NUSMods data, e.g. with recorded fixtures or a client of a local stub server.
+     *
+     * @param source The data source to use for subsequent lookups.
+     */
+    public static void setDataSource(ModuleDataSource source) {
+        assert source != null : "source cannot be null";
+        dataSource = source;
+    }
+
+    /**
+     * Retrieves detailed module information based on the module code from an external API. Responses are cached
+     * on disk, so repeated lookups within the freshness window and lookups made while NUSMods is unreachable are
+     * answered without the network; modules never cached are then read from the bundled catalog snapshot, if any.
+     * Parsed records are additionally kept in a bounded in-memory cache, and concurrent lookups of the same module
+     * share a single fetch.
      *
      * @author rohitcube
      * @param moduleCode The module code to retrieve information for.
      * @return A JSONObject containing module information.
      */
     public static JSONObject getFullModuleInfo(String moduleCode) {
+        return MODULE_INFO_CACHE.get(moduleCode, Api::fetchFullModuleInfo);
+    }
+
+    /**
+     * Retrieves the in-memory module cache, e.g. to inspect its hit, miss and eviction counters.
+     *
+     * @return The in-memory module cache.
+     */
+    public static ModuleInfoCache getModuleInfoCache() {
+        return MODULE_INFO_CACHE;
+    }
+
+    private static JSONObject fetchFullModuleInfo(String moduleCode) {
+        return fetchFullModuleInfo(moduleCode, true);
+    }
+
+    private static JSONObject fetchFullModuleInfo(String moduleCode, boolean isReportingMissing) {
+        JSONObject cachedModuleInfo = parseModuleInfo(MODULE_INFO_DISK_CACHE.read(moduleCode));
+        if (cachedModuleInfo != null) {
+            Metrics.increment("cache.disk.hit");
+            return cachedModuleInfo;
+        }
+        Metrics.increment("cache.disk.miss");
         try {
-            String url = "https://api.nusmods.com/v2/2023-2024/modules/" + moduleCode + ".json";
+            String path = ACADEMIC_YEAR + "/modules/" + moduleCode + ".json";
 
-            String responseBody = sendHttpRequestAndGetResponseBody(url);
+            String responseBody = sendHttpRequestAndGetResponseBody(path);
+            if (responseBody == null) {
+                if (isReportingMissing) {
+                    System.out.println("Invalid Module Name");
+                }
+                return null;
+            }
             if (responseBody.isEmpty()) {
                 return new JSONObject();
             }
             JSONParser parser = new JSONParser();
-            return (JSONObject) parser.parse(responseBody);
+            JSONObject moduleInfo = (JSONObject) parser.parse(responseBody);
+            //only cache actual module records, not error responses
+            if (moduleInfo.containsKey("moduleCode")) {
+                MODULE_INFO_DISK_CACHE.write(moduleCode, responseBody);
+            }
+            return moduleInfo;
         } catch (ParseException e) {
             //to be replaced with more robust error class in the future
             System.out.println("Invalid Module Name");
-        } catch (IOException | InterruptedException e) {
+        } catch (InterruptedException e) {
+            //the background job doing the lookup was cancelled, so it is not worth falling back or reporting
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Lookup of " + moduleCode + " was cancelled");
+        } catch (IOException e) {
+            JSONObject staleModuleInfo = parseModuleInfo(MODULE_INFO_DISK_CACHE.readStale(moduleCode));
+            if (staleModuleInfo != null) {
+                Metrics.increment("cache.disk.stale");
+                return staleModuleInfo;
+            }
+            JSONObject storedModuleInfo = CATALOG_STORE == null ? null : CATALOG_STORE.getModuleInfo(moduleCode);
+            if (storedModuleInfo != null) {
+                Metrics.increment("cache.catalog.hit");
+                return storedModuleInfo;
+            }
             System.out.println("Invalid Module Name");
             throw new RuntimeException(e);
         } catch (URISyntaxException e) {
@@ -147,6 +282,24 @@ public class Api {
         return null;
     }
 
+    /**
+     * Parses a cached module response.
+     *
+     * @param responseBody The cached response body, may be null.
+     * @return The parsed module information, or null if there is no usable entry.
+     */
+    private static JSONObject parseModuleInfo(String responseBody) {
+        if (responseBody == null) {
+            return null;
+        }
+        try {
+            Object parsed = new JSONParser().parse(responseBody);
+            return parsed instanceof JSONObject ? (JSONObject) parsed : null;
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
     /**
      * Retrieves the name of a module based on its module code.
      *
@@ -197,44 +350,22 @@ public class Api {
     }
 
     /**
-     * Recursively flattens and processes a list of module prerequisites.
+     * Retrieves the number of modular credits of a module.
      *
-     * @author ryanlohyr
-     * @param major              The major or program for which prerequisites are being flattened.
-     * @param prerequisites      An ArrayList to store the flattened prerequisites.
-     * @param modulePrereqArray  An ArrayList containing the module prerequisites to be processed.
-     * @param courseRequirements An ArrayList containing course requirements.
-     * @param currRequisite      The type of the current prerequisite (e.g., "and" or "or").
+     * @param moduleCode The module code to retrieve the credits for.
+     * @return The modular credits, rounded to a whole number.
+     * @throws IllegalArgumentException If the module does not exist or has no valid credit information.
      */
-    private static void flattenPrereq(
-            String major,
-            ArrayList<String> prerequisites,
-            ArrayList<Objects> modulePrereqArray,
-            ArrayList<String> courseRequirements,
-            String currRequisite) {
-        //base case
-        for (Object module : modulePrereqArray) {
-            if (module instanceof String) {
-                String formattedModule = ((String) module).replace(":D", "");
-                formattedModule = formattedModule.replace("%", "");
-
-                if (courseRequirements.contains(formattedModule)) {
-                    prerequisites.add(formattedModule);
-                    if (currRequisite.equals("or")) {
-                        return;
-                    }
-                }
-            } else {
-                //item is an object
-                //here, we determine if its 'or' or 'and'
-                JSONObject moduleJSON = (JSONObject) module;
-                String key = (String) moduleJSON.keySet().toArray()[0];
-
-                ArrayList<Objects> initial = (ArrayList<Objects>) moduleJSON.get(key);
-
-                flattenPrereq(major, prerequisites, initial, getRequirements(major), key);
-
-            }
+    public static int getModuleCredit(String moduleCode) throws IllegalArgumentException {
+        JSONObject moduleInfo = getFullModuleInfo(moduleCode);
+        Object moduleCredit = moduleInfo == null ? null : moduleInfo.get("moduleCredit");
+        if (moduleCredit == null) {
+            throw new IllegalArgumentException("Invalid module code");
+        }
+        try {
+            return (int) Math.round(Double.parseDouble(String.valueOf(moduleCredit)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid modular credits for " + moduleCode);
         }
     }
 
@@ -257,22 +388,58 @@ public class Api {
             return getExemptedPrerequisite(moduleCode);
         }
 
+        PrereqTree modulePrereqTree = getPrereqTree(moduleCode);
+
+        if (modulePrereqTree == null || modulePrereqTree == PrereqTree.NONE) {
+            return null;
+        }
+
         ArrayList<String> prerequisites = new ArrayList<>();
+        modulePrereqTree.collectCoursePrereqs(getRequirementSet(major), prerequisites);
 
-        JSONObject modulePrereqTree = getModulePrereqTree(moduleCode);
+        return prerequisites;
 
-        if (modulePrereqTree == null) {
+    }
+
+    /**
+     * Retrieves the different sets of prerequisites a module can be taken with, as listed by
+     * {@link PrereqTree#listAlternatives}. Sets that stay within the major's requirements come first; the others
+     * name the modules outside the major that would have to be taken instead.
+     *
+     * @param moduleCode The code of the module.
+     * @param major      The major whose requirements are preferred.
+     * @param limit      The most sets to list.
+     * @return The sets of prerequisites, with a single empty set if the module has no prerequisites, or null if the
+     *     major is not supported or the module does not exist.
+     */
+    public static List<Set<String>> getPrereqAlternatives(String moduleCode, String major, int limit) {
+        // Only accepts CEG requirements now
+        if (!Objects.equals(major, "CEG")) {
             return null;
         }
-        String key = (String) modulePrereqTree.keySet().toArray()[0];
-
-        //settle this warning
-        ArrayList<Objects> initial = (ArrayList<Objects>) modulePrereqTree.get(key);
 
-        flattenPrereq(major, prerequisites, initial, getRequirements(major), key);
+        //prerequisites outside the major may name retired modules, which are skipped silently
+        Set<String> requirements = getRequirementSet(major);
+        if (!requirements.contains(moduleCode) && !COMPILED_PREREQ_TREES.containsKey(moduleCode)) {
+            if (MISSING_MODULES.contains(moduleCode)
+                    || MODULE_INFO_CACHE.get(moduleCode, code -> fetchFullModuleInfo(code, false)) == null) {
+                MISSING_MODULES.add(moduleCode);
+                return null;
+            }
+        }
 
-        return prerequisites;
+        //Modules that has prerequisites incorrectly identified by NUSMods
+        if (isModuleException(moduleCode)) {
+            List<Set<String>> alternatives = new ArrayList<>();
+            alternatives.add(Collections.unmodifiableSet(new LinkedHashSet<>(getExemptedPrerequisite(moduleCode))));
+            return alternatives;
+        }
 
+        PrereqTree modulePrereqTree = getPrereqTree(moduleCode);
+        if (modulePrereqTree == null) {
+            return null;
+        }
+        return modulePrereqTree.listAlternatives(requirements, limit);
     }
 
     /**
@@ -294,146 +461,173 @@ public class Api {
      * @return `true` if the student satisfies all prerequisites for the module, `false` otherwise.
      * @throws IllegalArgumentException If the module code is invalid.
      */
-    public static boolean satisfiesAllPrereq(String moduleCode, ModuleList completedModules)
+    public static boolean satisfiesAllPrereq(String moduleCode, ModuleSet completedModules)
             throws IllegalArgumentException {
 
-        if (!doesModuleExist(moduleCode)) {
-            throw new IllegalArgumentException("Invalid module code");
-        }
-
-        JSONObject modulePrereqTree = getModulePrereqTree(moduleCode);
-
-        if (modulePrereqTree == null) {
-            return true;
-        }
-
-        String key = (String) modulePrereqTree.keySet().toArray()[0];
-        ArrayList<Objects> initial = (ArrayList<Objects>) modulePrereqTree.get(key);
-
-        //Modules that has prerequisites incorrectly identified by NUSMods
-        if (isModuleException(moduleCode)) {
-            JSONObject exceptionPrereqTree = new JSONObject();
-            ArrayList<String> requirementList = getExemptedPrerequisite(moduleCode);
-            exceptionPrereqTree.put("and", requirementList);
-
-            key = (String) exceptionPrereqTree.keySet().toArray()[0];
-            initial = (ArrayList<Objects>) exceptionPrereqTree.get(key);
-        }
-
-        return checkPrereq(initial, key, completedModules);
-
-    }
+        long start = System.nanoTime();
+        try {
+            PrereqTree modulePrereqTree = getPrereqTree(moduleCode);
+            if (modulePrereqTree == null) {
+                throw new IllegalArgumentException("Invalid module code");
+            }
 
-    /**
-     * Recursively checks if each branch of the prereq tree is satisfied by the student.
-     *
-     * @param modulePrereqArray The array of prerequisite modules or conditions to be checked.
-     * @param currRequisite     The type of prerequisite condition ("or" or "and").
-     * @param completedModules  The list of completed modules by the student.
-     * @return `true` if the student satisfies all prerequisites, `false` otherwise.
-     */
-    private static boolean checkPrereq(
-            ArrayList<Objects> modulePrereqArray,
-            String currRequisite,
-            ModuleList completedModules) {
-
-        if (currRequisite.equals("or")) {
-            for (Object module : modulePrereqArray) {
-                if (module instanceof String) {
-                    String formattedModule = ((String) module).replace(":D", "");
-                    formattedModule = formattedModule.replace("%", "");
-                    try {
-                        if (completedModules.exists(formattedModule)) {
-                            return true;
-                        }
-                    } catch (InvalidObjectException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else {
-                    JSONObject prereqBranch = (JSONObject) module;
-                    String key = (String) prereqBranch.keySet().toArray()[0];
-
-
-                    JSONArray prereqBranchArray = (JSONArray) prereqBranch.get(key);
-                    return checkPrereq(prereqBranchArray, key, completedModules);
-                }
+            //the event is only filled in while a recording is running, so the common path is the plain evaluation
+            PrereqEvaluationEvent event = new PrereqEvaluationEvent();
+            if (!event.isEnabled()) {
+                return modulePrereqTree.isSatisfiedBy(completedModules);
             }
-            return false;
-        } else {
-            for (Object module : modulePrereqArray) {
-                if (module instanceof String) {
-                    String formattedModule = ((String) module).replace(":D", "");
-                    formattedModule = formattedModule.replace("%", "");
-                    try {
-                        if (!completedModules.exists(formattedModule)) {
-                            return false;
-                        }
-                    } catch (InvalidObjectException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else {
-                    JSONObject prereqBranch = (JSONObject) module;
-                    String key = (String) prereqBranch.keySet().toArray()[0];
-
-
-                    JSONArray prereqBranchArray = (JSONArray) prereqBranch.get(key);
-                    if (!checkPrereq(prereqBranchArray, key, completedModules)) {
-                        return false;
-                    }
-                }
+            event.begin();
+            int[] nodesVisited = new int[1];
+            boolean isSatisfied = modulePrereqTree.isSatisfiedBy(completedModules, nodesVisited);
+            event.end();
+            if (event.shouldCommit()) {
+                event.module = moduleCode;
+                event.satisfied = isSatisfied;
+                event.nodesVisited = nodesVisited[0];
+                event.commit();
             }
-            return true;
+            return isSatisfied;
+        } finally {
+            Metrics.recordSince("prereq.evaluate", start);
         }
+
     }
 
     /**
-     * Retrieves a list of modules from an external API and returns it as a JSONArray.
+     * Retrieves the module catalog from an external API, or from the bundled catalog snapshot if NUSMods cannot be
+     * reached. The response is parsed as it streams in, into compact module entries, so the raw catalog is never
+     * held in memory as a whole.
      *
      * @author rohitcube
-     * @return A JSONArray containing module information.
-     * @throws RuntimeException If there is an issue with the HTTP request or JSON parsing.
+     * @return The modules of the catalog, or null if the catalog could not be parsed.
+     * @throws RuntimeException If there is an issue with the HTTP request and no catalog snapshot is bundled.
      */
-    public static JSONArray listAllModules() {
-        try {
-            String url = "https://api.nusmods.com/v2/2023-2024/moduleList.json";
-            String responseBody = sendHttpRequestAndGetResponseBody(url);
-            JSONParser parser = new JSONParser();
-            return (JSONArray) parser.parse(responseBody);
+    public static List<ModuleSummary> listAllModules() {
+        String path = ACADEMIC_YEAR + "/moduleList.json";
+        long start = System.nanoTime();
+        try (InputStream catalog = getDataSource().open(path)) {
+            if (catalog == null) {
+                System.out.println("Sorry, the module catalog could not be found");
+                return null;
+            }
+            return ModuleCatalogParser.parseAll(catalog);
         } catch (URISyntaxException e) {
             System.out.println("Sorry, there was an error with" +
                     " the provided URL: " + e.getMessage());
             throw new RuntimeException(e);
-        } catch (IOException | InterruptedException e) {
+        } catch (IOException e) {
+            Metrics.increment("http.failures");
+            if (CATALOG_STORE != null) {
+                Metrics.increment("cache.catalog.hit");
+                return CATALOG_STORE.listModules();
+            }
             throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Metrics.increment("http.cancelled");
+            throw new CancellationException("Retrieving the module catalog was cancelled");
         } catch (ParseException e) {
             //to be replaced with more robust error class in the future
             System.out.println("Sorry, the JSON object could not be parsed");
+        } finally {
+            Metrics.recordSince("http.catalog", start);
         }
         return null;
     }
 
     /**
-     * Searches for modules containing a specified keyword in their title within a given module list.
+     * Retrieves the search index over the module catalog. The catalog is downloaded and indexed on first use only,
+     * so later searches do not touch the network.
+     *
+     * @return The catalog search index, or null if the catalog could not be retrieved.
+     */
+    private static ModuleSearchIndex getCatalogIndex() {
+        ModuleSearchIndex index = catalogIndex;
+        if (index != null) {
+            return index;
+        }
+        synchronized (Api.class) {
+            if (catalogIndex == null) {
+                List<ModuleSummary> allModules = listAllModules();
+                if (allModules != null) {
+                    catalogIndex = new ModuleSearchIndex(allModules);
+                }
+            }
+            return catalogIndex;
+        }
+    }
+
+    /**
+     * Retrieves the reachability index over the prerequisite graph of every major's requirements. The index is built
+     * in the background by {@link #buildReachabilityIndex(Map)}, so this never makes a request. Until it is built,
+     * the index is empty.
+     *
+     * @return The index, shared by every caller.
+     */
+    public static ReachabilityIndex getReachabilityIndex() {
+        return reachabilityIndex;
+    }
+
+    public static boolean isReachabilityIndexBuilt() {
+        return isReachabilityIndexBuilt;
+    }
+
+    /**
+     * Lists the modules the reachability index is built over: the requirements of every major.
+     *
+     * @return The required modules of every major, without duplicates.
+     */
+    public static List<String> getReachabilityIndexModules() {
+        Set<String> modules = new LinkedHashSet<>();
+        for (Major major : Major.values()) {
+            modules.addAll(getRequirements(major.toString()));
+        }
+        return new ArrayList<>(modules);
+    }
+
+    /**
+     * Builds the reachability index from the compiled prerequisite trees of the modules listed by
+     * {@link #getReachabilityIndexModules()}, and shares it with every later caller of
+     * {@link #getReachabilityIndex()}. The trees are looked up beforehand, so the index is built without any request.
+     *
+     * @param prereqTrees The compiled prerequisite tree of each module, or null for modules that were not found.
+     */
+    public static void buildReachabilityIndex(Map<String, PrereqTree> prereqTrees) {
+        long start = System.nanoTime();
+        HashMap<String, List<String>> prereqsOfModule = new HashMap<>();
+        for (Map.Entry<String, PrereqTree> entry : prereqTrees.entrySet()) {
+            if (entry.getValue() != null) {
+                prereqsOfModule.put(entry.getKey(), entry.getValue().getModuleCodes());
+            }
+        }
+        reachabilityIndex = new ReachabilityIndex(prereqsOfModule);
+        isReachabilityIndexBuilt = true;
+        Metrics.recordSince("reachability.build", start);
+    }
+
+    /**
+     * Searches for modules whose title or module code contains every keyword, ignoring case, within a given
+     * module list. Results are ranked by how closely they match.
      *
      * @author rohitcube
-     * @param keyword    The keyword to search for.
+     * @param keyword    The keyword(s) to search for, separated by whitespace.
      * @param moduleList The list of modules to search within.
-     * @return A JSONArray containing modules matching the keyword.
+     * @return The modules matching the keyword, best match first.
      */
-    public static JSONArray search(String keyword, JSONArray moduleList) {
-        JSONArray modulesContainingKeyword = new JSONArray();
-        if (keyword.isEmpty()) {
-            return new JSONArray();
-        }
-        for (Object moduleObject : moduleList) {
-            JSONObject module = (JSONObject) moduleObject; // Cast to JSONObject
-            String title = (String) module.get("title");
-            if (title.contains(keyword)) {
-                modulesContainingKeyword.add(module);
-                //not sure how to resolve this yellow line
-            }
+    public static List<ModuleSummary> search(String keyword, List<ModuleSummary> moduleList) {
+        if (keyword.isBlank()) {
+            return new ArrayList<>();
+        }
+        ModuleSearchIndex index = catalogIndex;
+        if (index == null || !index.isIndexOf(moduleList)) {
+            index = lastSearchIndex;
+        }
+        if (index == null || !index.isIndexOf(moduleList)) {
+            //kept so that repeated searches of the same list do not index it again
+            index = new ModuleSearchIndex(moduleList);
+            lastSearchIndex = index;
         }
-        return modulesContainingKeyword;
+        return index.search(keyword);
     }
 
     /**
@@ -449,20 +643,20 @@ public class Api {
         if (command.equals("description")) {
             String moduleCode =
                     userInput.substring(userInput.indexOf("description") + 11).trim().toUpperCase();
-            if (!Api.getDescription(moduleCode).isEmpty()) {
-                String description = Api.getDescription(moduleCode);
+            String description = Api.getDescription(moduleCode);
+            if (!description.isEmpty()) {
                 System.out.println(description);
             }
         } else if (command.equals("workload")) {
             String moduleCode = userInput.substring(userInput.indexOf("workload") + 8).trim().toUpperCase();
-            if (!Api.getWorkload(moduleCode).isEmpty()) {
-                JSONArray workload = Api.getWorkload(moduleCode);
+            JSONArray workload = Api.getWorkload(moduleCode);
+            if (!workload.isEmpty()) {
                 System.out.println(workload);
             }
         } else if (command.equals("all")) {
-            JSONArray allModules = listAllModules();
-            assert allModules != null;
-            ModuleInfo.printJsonArray(allModules);
+            ModuleSearchIndex index = getCatalogIndex();
+            assert index != null;
+            ModuleInfo.printModules(index.getModules());
         } else {
             System.out.println("man");
             ErrorHandler.invalidCommandforInfoCommand();
@@ -475,12 +669,13 @@ public class Api {
             return;
         }
         String keywords = userInput.substring(userInput.indexOf("search") + 6);
-        JSONArray modulesToPrint = Api.search(keywords, Api.listAllModules());
+        ModuleSearchIndex index = getCatalogIndex();
+        List<ModuleSummary> modulesToPrint = index == null ? new ArrayList<>() : index.search(keywords);
         if (modulesToPrint.isEmpty()) {
             ErrorHandler.emptyArrayforSearchCommand();
             return;
         }
         ModuleInfo.searchHeader();
-        ModuleInfo.printJsonArray(modulesToPrint);
+        ModuleInfo.printModules(modulesToPrint);
     }
 }
@@ -0,0 +1,384 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only snapshot of the NUSMods catalog in the compact binary format written by {@link CatalogStoreWriter}.
+ * The file is memory-mapped and read in place: module records have a fixed width and are sorted by module code,
+ * strings live in a shared table and prerequisite trees are stored pre-encoded, so a lookup is a binary search
+ * followed by a few reads, with no JSON parsing.
+ *
+ * <p>Layout, with all integers big-endian:
+ * <ul>
+ *     <li>header: magic, version, academic year, string count, string data offset, module count,
+ *     module records offset, catalog entry count, catalog entries offset, prerequisite trees offset</li>
+ *     <li>string offsets: stringCount + 1 ints, relative to the string data offset</li>
+ *     <li>string data: UTF-8 bytes</li>
+ *     <li>module records: {@link #MODULE_RECORD_SIZE} bytes each, sorted by module code</li>
+ *     <li>catalog entries: {@link #CATALOG_ENTRY_SIZE} bytes each (code, title, semesters), in catalog order</li>
+ *     <li>prerequisite trees: nodes in pre-order, each a kind byte followed by its operands</li>
+ * </ul>
+ */
+public class CatalogStore {
+    static final int MAGIC = 0x4E555343;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 10 * Integer.BYTES;
+    static final int NONE = -1;
+
+    static final int WORKLOAD_SLOTS = 5;
+    static final int CODE_FIELD = 0;
+    static final int TITLE_FIELD = 4;
+    static final int DESCRIPTION_FIELD = 8;
+    static final int CREDIT_FIELD = 12;
+    static final int DEPARTMENT_FIELD = 16;
+    static final int FACULTY_FIELD = 20;
+    static final int PREREQUISITE_FIELD = 24;
+    static final int PREREQ_TREE_FIELD = 28;
+    static final int WORKLOAD_TEXT_FIELD = 32;
+    static final int WORKLOAD_COUNT_FIELD = 36;
+    static final int WORKLOAD_FIELD = 40;
+    static final int MODULE_RECORD_SIZE = WORKLOAD_FIELD + WORKLOAD_SLOTS * Double.BYTES;
+    static final int CATALOG_ENTRY_SIZE = 3 * Integer.BYTES;
+
+    static final byte NODE_MODULE = 0;
+    static final byte NODE_AND = 1;
+    static final byte NODE_OR = 2;
+    static final byte NODE_N_OF = 3;
+
+    private static final String ENABLED_PROPERTY = "duke.catalog.enabled";
+    private static final String FILE_PROPERTY = "duke.catalog.file";
+
+    private final ByteBuffer buffer;
+    private final String academicYear;
+    private final int stringCount;
+    private final int stringOffsetsStart;
+    private final int stringDataStart;
+    private final int moduleCount;
+    private final int modulesStart;
+    private final int catalogCount;
+    private final int catalogStart;
+    private final int prereqStart;
+    private final List<ModuleSummary> catalog;
+
+    private CatalogStore(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a module catalog store");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported module catalog store version: " + buffer.getInt(4));
+        }
+        stringCount = buffer.getInt(12);
+        stringOffsetsStart = HEADER_SIZE;
+        stringDataStart = buffer.getInt(16);
+        moduleCount = buffer.getInt(20);
+        modulesStart = buffer.getInt(24);
+        catalogCount = buffer.getInt(28);
+        catalogStart = buffer.getInt(32);
+        prereqStart = buffer.getInt(36);
+        academicYear = string(buffer.getInt(8));
+        catalog = new CatalogView();
+    }
+
+    /**
+     * Reads a store held in a buffer.
+     *
+     * @param buffer The contents of a store file.
+     * @return The store.
+     * @throws IllegalArgumentException If the buffer does not hold a store of a supported version.
+     */
+    public static CatalogStore fromBuffer(ByteBuffer buffer) throws IllegalArgumentException {
+        return new CatalogStore(buffer);
+    }
+
+    /**
+     * Memory-maps a store file.
+     *
+     * @param file The store file.
+     * @return The store.
+     * @throws IllegalArgumentException If the file does not hold a store of a supported version.
+     */
+    public static CatalogStore open(Path file) throws IOException, IllegalArgumentException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new CatalogStore(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Loads the store bundled with the application for an academic year. The {@code duke.catalog.file} system
+     * property points to a store file to use instead, and {@code duke.catalog.enabled=false} disables the store so
+     * that every lookup goes to NUSMods. A bundled store on the file system (e.g. when running from the build
+     * directory) is memory-mapped; one inside the application jar is read into memory once.
+     *
+     * @param academicYear The academic year, e.g. "2023-2024".
+     * @return The store, or null if it is disabled, missing or unreadable.
+     */
+    public static CatalogStore loadBundled(String academicYear) {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return null;
+        }
+        try {
+            String file = System.getProperty(FILE_PROPERTY);
+            if (file != null) {
+                return open(Paths.get(file));
+            }
+            URL resource = CatalogStore.class.getResource("/catalog/" + academicYear + ".bin");
+            if (resource == null) {
+                return null;
+            }
+            if (resource.getProtocol().equals("file")) {
+                return open(Paths.get(resource.toURI()));
+            }
+            try (InputStream store = resource.openStream()) {
+                return new CatalogStore(ByteBuffer.wrap(store.readAllBytes()));
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            //fall back to NUSMods rather than failing to start
+            return null;
+        }
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public int size() {
+        return moduleCount;
+    }
+
+    /**
+     * Checks whether the store holds the full information of a module.
+     *
+     * @param moduleCode The module code to look up.
+     * @return True if the module is in the store.
+     */
+    public boolean contains(String moduleCode) {
+        return findRecord(moduleCode) != NONE;
+    }
+
+    /**
+     * Retrieves the codes of the modules whose full information is in the store.
+     *
+     * @return The module codes, in alphabetical order.
+     */
+    public List<String> listStoredModuleCodes() {
+        List<String> moduleCodes = new ArrayList<>(moduleCount);
+        for (int i = 0; i < moduleCount; i++) {
+            moduleCodes.add(string(buffer.getInt(modulesStart + i * MODULE_RECORD_SIZE + CODE_FIELD)));
+        }
+        return moduleCodes;
+    }
+
+    /**
+     * Retrieves the information of a module in the same shape as a NUSMods module response, limited to the fields
+     * kept in the store: "moduleCode", "title", "description", "moduleCredit", "department", "faculty", "workload",
+     * "prerequisite" and "prereqTree".
+     *
+     * @param moduleCode The module code to look up.
+     * @return The module information, or null if the module is not in the store.
+     */
+    public JSONObject getModuleInfo(String moduleCode) {
+        int record = findRecord(moduleCode);
+        if (record == NONE) {
+            return null;
+        }
+        JSONObject moduleInfo = new JSONObject();
+        moduleInfo.put("moduleCode", moduleCode);
+        putString(moduleInfo, "title", record + TITLE_FIELD);
+        putString(moduleInfo, "description", record + DESCRIPTION_FIELD);
+        putString(moduleInfo, "moduleCredit", record + CREDIT_FIELD);
+        putString(moduleInfo, "department", record + DEPARTMENT_FIELD);
+        putString(moduleInfo, "faculty", record + FACULTY_FIELD);
+        putString(moduleInfo, "prerequisite", record + PREREQUISITE_FIELD);
+
+        int workloadCount = buffer.getInt(record + WORKLOAD_COUNT_FIELD);
+        if (workloadCount != NONE) {
+            JSONArray workload = new JSONArray();
+            for (int i = 0; i < workloadCount; i++) {
+                double hours = buffer.getDouble(record + WORKLOAD_FIELD + i * Double.BYTES);
+                //json-simple reads whole numbers as Long, so keep them that way
+                workload.add(hours == Math.rint(hours) ? (Object) (long) hours : (Object) hours);
+            }
+            moduleInfo.put("workload", workload);
+        } else {
+            putString(moduleInfo, "workload", record + WORKLOAD_TEXT_FIELD);
+        }
+
+        int tree = buffer.getInt(record + PREREQ_TREE_FIELD);
+        if (tree != NONE) {
+            moduleInfo.put("prereqTree", decodeRawTree(new int[]{prereqStart + tree}));
+        }
+        return moduleInfo;
+    }
+
+    /**
+     * Retrieves the compiled prerequisite tree of a module, decoded straight from its pre-encoded form.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The tree, {@link PrereqTree#NONE} if the module has no prerequisites,
+     *     or null if the module is not in the store.
+     */
+    public PrereqTree getPrereqTree(String moduleCode) {
+        int record = findRecord(moduleCode);
+        if (record == NONE) {
+            return null;
+        }
+        int tree = buffer.getInt(record + PREREQ_TREE_FIELD);
+        return tree == NONE ? PrereqTree.NONE : decodeTree(new int[]{prereqStart + tree});
+    }
+
+    /**
+     * Retrieves the module catalog. Entries are read from the store as they are accessed. The same view is returned
+     * on every call, so it can be recognised by caches built over it.
+     *
+     * @return An unmodifiable view of the catalog, in catalog order.
+     */
+    public List<ModuleSummary> listModules() {
+        return catalog;
+    }
+
+    private class CatalogView extends AbstractList<ModuleSummary> {
+        @Override
+        public ModuleSummary get(int index) {
+            if (index < 0 || index >= catalogCount) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            int entry = catalogStart + index * CATALOG_ENTRY_SIZE;
+            return new ModuleSummary(string(buffer.getInt(entry)), string(buffer.getInt(entry + 4)),
+                    semestersOf(buffer.getInt(entry + 8)));
+        }
+
+        @Override
+        public int size() {
+            return catalogCount;
+        }
+    }
+
+    private static int[] semestersOf(int semesterMask) {
+        int[] semesters = new int[Integer.bitCount(semesterMask)];
+        int count = 0;
+        for (int semester = 0; semester < Integer.SIZE; semester++) {
+            if ((semesterMask & (1 << semester)) != 0) {
+                semesters[count++] = semester;
+            }
+        }
+        return semesters;
+    }
+
+    private int findRecord(String moduleCode) {
+        int low = 0;
+        int high = moduleCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int record = modulesStart + middle * MODULE_RECORD_SIZE;
+            int comparison = string(buffer.getInt(record + CODE_FIELD)).compareTo(moduleCode);
+            if (comparison == 0) {
+                return record;
+            } else if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return NONE;
+    }
+
+    private String string(int index) {
+        if (index == NONE) {
+            return null;
+        }
+        assert index < stringCount : "string index out of range";
+        int start = buffer.getInt(stringOffsetsStart + index * Integer.BYTES);
+        int end = buffer.getInt(stringOffsetsStart + (index + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        //duplicate so that concurrent readers do not share a position
+        ByteBuffer view = buffer.duplicate();
+        view.position(stringDataStart + start);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void putString(JSONObject moduleInfo, String key, int field) {
+        String value = string(buffer.getInt(field));
+        if (value != null) {
+            moduleInfo.put(key, value);
+        }
+    }
+
+    /**
+     * Decodes the tree node at position[0], advancing position[0] past it.
+     */
+    private PrereqTree decodeTree(int[] position) {
+        byte kind = buffer.get(position[0]++);
+        if (kind == NODE_MODULE) {
+            return PrereqTree.module(string(readInt(position)));
+        }
+        int requiredCount = kind == NODE_N_OF ? readInt(position) : 0;
+        PrereqTree[] children = new PrereqTree[readInt(position)];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = decodeTree(position);
+        }
+        switch (kind) {
+        case NODE_AND:
+            return PrereqTree.and(children);
+        case NODE_OR:
+            return PrereqTree.or(children);
+        default:
+            return PrereqTree.nOf(requiredCount, children);
+        }
+    }
+
+    /**
+     * Decodes the tree node at position[0] into its NUSMods JSON form, advancing position[0] past it.
+     */
+    private Object decodeRawTree(int[] position) {
+        byte kind = buffer.get(position[0]++);
+        if (kind == NODE_MODULE) {
+            return string(readInt(position));
+        }
+        long requiredCount = kind == NODE_N_OF ? readInt(position) : 0;
+        JSONArray children = new JSONArray();
+        int childCount = readInt(position);
+        for (int i = 0; i < childCount; i++) {
+            children.add(decodeRawTree(position));
+        }
+        JSONObject tree = new JSONObject();
+        switch (kind) {
+        case NODE_AND:
+            tree.put("and", children);
+            break;
+        case NODE_OR:
+            tree.put("or", children);
+            break;
+        default:
+            JSONArray nOf = new JSONArray();
+            nOf.add(requiredCount);
+            nOf.add(children);
+            tree.put("nOf", nOf);
+            break;
+        }
+        return tree;
+    }
+
+    private int readInt(int[] position) {
+        int value = buffer.getInt(position[0]);
+        position[0] += Integer.BYTES;
+        return value;
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Build-time tool that compiles a NUSMods catalog snapshot into the binary format read by {@link CatalogStore}.
+ * A snapshot directory holds one sub-directory per academic year, each with the catalog list in
+ * {@code moduleList.json} and the full information of individual modules in {@code modules/<moduleCode>.json},
+ * exactly as served by the NUSMods API.
+ */
+public class CatalogStoreWriter {
+    private final HashMap<String, Integer> stringIds = new HashMap<>();
+    private final List<byte[]> strings = new ArrayList<>();
+    private final ByteArrayOutputStream prereqBytes = new ByteArrayOutputStream();
+    private final DataOutputStream prereqs = new DataOutputStream(prereqBytes);
+
+    private CatalogStoreWriter() {
+    }
+
+    /**
+     * Compiles every academic year of a snapshot directory into {@code <output>/catalog/<academicYear>.bin}.
+     *
+     * @param args The snapshot directory and the output directory.
+     */
+    public static void main(String[] args) throws IOException, ParseException {
+        if (args.length != 2) {
+            System.err.println("Usage: CatalogStoreWriter <snapshot directory> <output directory>");
+            System.exit(1);
+        }
+        Path snapshot = Paths.get(args[0]);
+        Path output = Paths.get(args[1]).resolve("catalog");
+        Files.createDirectories(output);
+        try (DirectoryStream<Path> years = Files.newDirectoryStream(snapshot, Files::isDirectory)) {
+            for (Path year : years) {
+                String academicYear = year.getFileName().toString();
+                write(year, academicYear, output.resolve(academicYear + ".bin"));
+            }
+        }
+    }
+
+    /**
+     * Compiles the snapshot of one academic year into a store file.
+     *
+     * @param yearDirectory The directory holding {@code moduleList.json} and {@code modules/}.
+     * @param academicYear  The academic year, e.g. "2023-2024".
+     * @param output        The store file to write. It is replaced atomically.
+     * @throws ParseException If a snapshot file is not valid JSON.
+     */
+    public static void write(Path yearDirectory, String academicYear, Path output) throws IOException,
+            ParseException {
+        CatalogStoreWriter writer = new CatalogStoreWriter();
+        Path temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        try (OutputStream store = Files.newOutputStream(temporary)) {
+            writer.writeStore(yearDirectory, academicYear, store);
+        }
+        Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeStore(Path yearDirectory, String academicYear, OutputStream output) throws IOException,
+            ParseException {
+        List<ModuleSummary> catalog;
+        try (InputStream moduleList = Files.newInputStream(yearDirectory.resolve("moduleList.json"))) {
+            catalog = ModuleCatalogParser.parseAll(moduleList);
+        }
+
+        //records are looked up by binary search, so they are written in module code order
+        TreeMap<String, JSONObject> modules = new TreeMap<>();
+        Path modulesDirectory = yearDirectory.resolve("modules");
+        if (Files.isDirectory(modulesDirectory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(modulesDirectory, "*.json")) {
+                for (Path file : files) {
+                    JSONObject moduleInfo = (JSONObject) new JSONParser().parse(
+                            Files.readString(file, StandardCharsets.UTF_8));
+                    modules.put((String) moduleInfo.get("moduleCode"), moduleInfo);
+                }
+            }
+        }
+
+        int yearId = intern(academicYear);
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        for (Map.Entry<String, JSONObject> module : modules.entrySet()) {
+            writeModuleRecord(module.getKey(), module.getValue(), records);
+        }
+        ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+        DataOutputStream entries = new DataOutputStream(entryBytes);
+        for (ModuleSummary module : catalog) {
+            entries.writeInt(intern(module.getModuleCode()));
+            entries.writeInt(intern(module.getTitle()));
+            int semesterMask = 0;
+            for (int semester : module.getSemesters()) {
+                semesterMask |= 1 << semester;
+            }
+            entries.writeInt(semesterMask);
+        }
+
+        int stringDataLength = 0;
+        for (byte[] string : strings) {
+            stringDataLength += string.length;
+        }
+        int stringDataStart = CatalogStore.HEADER_SIZE + (strings.size() + 1) * Integer.BYTES;
+        int modulesStart = stringDataStart + stringDataLength;
+        int catalogStart = modulesStart + recordBytes.size();
+        int prereqStart = catalogStart + entryBytes.size();
+
+        DataOutputStream store = new DataOutputStream(output);
+        store.writeInt(CatalogStore.MAGIC);
+        store.writeInt(CatalogStore.VERSION);
+        store.writeInt(yearId);
+        store.writeInt(strings.size());
+        store.writeInt(stringDataStart);
+        store.writeInt(modules.size());
+        store.writeInt(modulesStart);
+        store.writeInt(catalog.size());
+        store.writeInt(catalogStart);
+        store.writeInt(prereqStart);
+        int stringOffset = 0;
+        store.writeInt(stringOffset);
+        for (byte[] string : strings) {
+            stringOffset += string.length;
+            store.writeInt(stringOffset);
+        }
+        for (byte[] string : strings) {
+            store.write(string);
+        }
+        recordBytes.writeTo(store);
+        entryBytes.writeTo(store);
+        prereqBytes.writeTo(store);
+        store.flush();
+    }
+
+    private void writeModuleRecord(String moduleCode, JSONObject moduleInfo, DataOutputStream records)
+            throws IOException {
+        records.writeInt(intern(moduleCode));
+        records.writeInt(internField(moduleInfo, "title"));
+        records.writeInt(internField(moduleInfo, "description"));
+        records.writeInt(internField(moduleInfo, "moduleCredit"));
+        records.writeInt(internField(moduleInfo, "department"));
+        records.writeInt(internField(moduleInfo, "faculty"));
+        records.writeInt(internField(moduleInfo, "prerequisite"));
+        Object prereqTree = moduleInfo.get("prereqTree");
+        records.writeInt(prereqTree == null ? CatalogStore.NONE : encodeTree(prereqTree));
+
+        //workload is usually a list of hours, but NUSMods occasionally gives a free-text description instead
+        Object workload = moduleInfo.get("workload");
+        double[] hours = new double[CatalogStore.WORKLOAD_SLOTS];
+        int workloadCount = CatalogStore.NONE;
+        if (workload instanceof List) {
+            List<?> workloadList = (List<?>) workload;
+            if (workloadList.size() > CatalogStore.WORKLOAD_SLOTS) {
+                throw new IllegalArgumentException("Workload of " + moduleCode + " has too many entries");
+            }
+            workloadCount = workloadList.size();
+            for (int i = 0; i < workloadCount; i++) {
+                hours[i] = ((Number) workloadList.get(i)).doubleValue();
+            }
+        }
+        records.writeInt(workload instanceof String ? intern((String) workload) : CatalogStore.NONE);
+        records.writeInt(workloadCount);
+        for (double hour : hours) {
+            records.writeDouble(hour);
+        }
+    }
+
+    /**
+     * Encodes a raw NUSMods prerequisite tree in pre-order.
+     *
+     * @return The offset of the encoded tree within the prerequisite section.
+     */
+    private int encodeTree(Object rawTree) throws IOException {
+        int offset = prereqs.size();
+        if (rawTree instanceof String) {
+            prereqs.writeByte(CatalogStore.NODE_MODULE);
+            prereqs.writeInt(intern((String) rawTree));
+            return offset;
+        }
+        if (!(rawTree instanceof Map) || ((Map<?, ?>) rawTree).size() != 1) {
+            throw new IllegalArgumentException("Unrecognised prerequisite tree: " + rawTree);
+        }
+        Map.Entry<?, ?> branch = ((Map<?, ?>) rawTree).entrySet().iterator().next();
+        Object children = branch.getValue();
+        switch ((String) branch.getKey()) {
+        case "and":
+            prereqs.writeByte(CatalogStore.NODE_AND);
+            break;
+        case "or":
+            prereqs.writeByte(CatalogStore.NODE_OR);
+            break;
+        case "nOf":
+            prereqs.writeByte(CatalogStore.NODE_N_OF);
+            prereqs.writeInt(((Number) ((List<?>) children).get(0)).intValue());
+            children = ((List<?>) children).get(1);
+            break;
+        default:
+            throw new IllegalArgumentException("Unrecognised prerequisite tree: " + rawTree);
+        }
+        List<?> childList = (List<?>) children;
+        prereqs.writeInt(childList.size());
+        for (Object child : childList) {
+            encodeTree(child);
+        }
+        return offset;
+    }
+
+    private int internField(JSONObject moduleInfo, String key) {
+        Object value = moduleInfo.get(key);
+        return value == null ? CatalogStore.NONE : intern(String.valueOf(value));
+    }
+
+    private int intern(String string) {
+        Integer id = stringIds.get(string);
+        if (id == null) {
+            id = strings.size();
+            stringIds.put(string, id);
+            strings.add(string.getBytes(StandardCharsets.UTF_8));
+        }
+        return id;
+    }
+}
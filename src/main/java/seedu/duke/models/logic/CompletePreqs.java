@@ -1,27 +1,76 @@
 package seedu.duke.models.logic;
 import seedu.duke.models.schema.ModuleList;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
- * CompletePreqs checks which mods are unlocked once you finish a specific module
+ * CompletePreqs checks which mods are unlocked once you finish a specific module.
+ * For every mod it keeps a count of prerequisites that are not completed yet, together with a reverse index from
+ * each prerequisite to the mods that need it, so completing a mod only touches its direct dependents.
  */
 public class CompletePreqs {
     //Full list of mods with modulesWithPreqs
     private HashMap<String, List<String>> modulesWithPreqs;
-    private ArrayList<String> addToModulesCompleted;
+    private LinkedHashSet<String> addToModulesCompleted;
+
+    //Number of prerequisites of each mod that are not completed yet
+    private HashMap<String, Integer> unmetPreqCount;
+    //Reverse index: prerequisite -> mods that require it
+    private HashMap<String, List<String>> dependentsOfPreq;
 
     // To track modules that are already unlocked
     private Set<String> unlockedModulesSet;
+    // Mods unlocked by the latest completion that have not been printed yet
+    private ArrayList<String> newlyUnlockedMods;
 
     public CompletePreqs(HashMap<String, List<String>> inputMods) {
-        modulesWithPreqs = new HashMap<>(inputMods);
+        modulesWithPreqs = new HashMap<>();
+        unmetPreqCount = new HashMap<>();
+        dependentsOfPreq = new HashMap<>();
         unlockedModulesSet = new HashSet<>();
-        addToModulesCompleted = new ArrayList<>();
+        addToModulesCompleted = new LinkedHashSet<>();
+        newlyUnlockedMods = new ArrayList<>();
+        addModsWithPreqs(inputMods);
+    }
+
+    /**
+     * Registers more mods and their prerequisites, e.g. every module of a major once its prerequisites are known.
+     * Mods that are already registered are left unchanged.
+     *
+     * @param inputMods Map of mods to their prerequisites.
+     */
+    public void addModsWithPreqs(Map<String, ? extends List<String>> inputMods) {
+        for (Map.Entry<String, ? extends List<String>> entry : inputMods.entrySet()) {
+            addModWithPreqs(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void addModWithPreqs(String mod, List<String> preqs) {
+        if (modulesWithPreqs.containsKey(mod)) {
+            return;
+        }
+        List<String> distinctPreqs = new ArrayList<>(new LinkedHashSet<>(preqs));
+        modulesWithPreqs.put(mod, distinctPreqs);
+
+        int unmet = 0;
+        for (String preq : distinctPreqs) {
+            dependentsOfPreq.computeIfAbsent(preq, key -> new ArrayList<>()).add(mod);
+            if (!addToModulesCompleted.contains(preq)) {
+                unmet++;
+            }
+        }
+        unmetPreqCount.put(mod, unmet);
+        if (unmet == 0 && !addToModulesCompleted.contains(mod)) {
+            unlockedModulesSet.add(mod);
+        }
     }
 
     /**
@@ -30,22 +79,45 @@ public class CompletePreqs {
      * @param list
      */
     public void initializeCompletedMods(ModuleList list) {
-        addToModulesCompleted.addAll(list.getMainModuleList());
-        for (String mod : addToModulesCompleted) {
-            processModuleForUnlockingWithoutPrint(mod);
+        for (String mod : list.getMainModuleList()) {
+            markCompleted(mod);
         }
+        newlyUnlockedMods.clear();
     }
 
     /**
-     * Prints what mods have been unlocked after input
+     * Marks a mod as completed and updates the unmet prerequisite counts of the mods that depend on it.
+     *
+     * @param moduleCompleted The mod that was completed.
+     * @return The mods that became unlocked because of this completion.
+     */
+    private List<String> markCompleted(String moduleCompleted) {
+        List<String> unlocked = new ArrayList<>();
+        if (!addToModulesCompleted.add(moduleCompleted)) {
+            return unlocked;
+        }
+        for (String dependent : dependentsOfPreq.getOrDefault(moduleCompleted, List.of())) {
+            int unmet = unmetPreqCount.merge(dependent, -1, Integer::sum);
+            //If new unlocked mod isn't marked as complete or unlocked already
+            if (unmet == 0 && !addToModulesCompleted.contains(dependent) && unlockedModulesSet.add(dependent)) {
+                unlocked.add(dependent);
+            }
+        }
+        newlyUnlockedMods.addAll(unlocked);
+        return unlocked;
+    }
+
+    /**
+     * Marks a module as completed if its prerequisites are met, and prints what mods have been unlocked after input
      *
      * @param moduleCompleted
+     * @return true if the module was marked as completed, false if it has uncompleted prerequisites
      */
-    public void getUnlockedMods(String moduleCompleted) {
+    public boolean getUnlockedMods(String moduleCompleted) {
 
 
         // Check prerequisites of the moduleCompleted
-        if (modulesWithPreqs.containsKey(moduleCompleted)) {
+        if (unmetPreqCount.getOrDefault(moduleCompleted, 0) > 0) {
             List<String> unmetPrerequisites = new ArrayList<>();
             for (String preq : modulesWithPreqs.get(moduleCompleted)) {
                 if (!addToModulesCompleted.contains(preq)) {
@@ -53,78 +125,78 @@ public class CompletePreqs {
                 }
             }
             //Stops if a completedMod shouldn't be able to be completed with proper preqs
-            if (!unmetPrerequisites.isEmpty()) {
-                System.out.println(moduleCompleted +
-                        " cannot be marked as completed because of uncompleted prerequisites: "
-                        + unmetPrerequisites);
-                return;
-            }
+            System.out.println(moduleCompleted +
+                    " cannot be marked as completed because of uncompleted prerequisites: "
+                    + unmetPrerequisites);
+            return false;
         }
         //If its not marked as completed, properly add it to the list
-        if (!addToModulesCompleted.contains(moduleCompleted)) {
-            addToModulesCompleted.add(moduleCompleted);
-        }
+        markCompleted(moduleCompleted);
 
         System.out.println("Mod completed: " + moduleCompleted);
         printUnlockedMods(moduleCompleted);
+        return true;
     }
 
     /**
-     * This is only used for the first initalization of the mods.
+     * Prints the mods unlocked by the latest completion that have not been printed yet.
+     *
      * @param moduleCompleted
      */
-    private void processModuleForUnlockingWithoutPrint(String moduleCompleted) {
-        ArrayList<String> newMods = new ArrayList<>();
-
+    public void printUnlockedMods(String moduleCompleted) {
+        for (String mod : newlyUnlockedMods) {
+            System.out.println(mod + " has been unlocked!");
+        }
+        newlyUnlockedMods.clear();
+    }
 
-        for (String key : modulesWithPreqs.keySet()) {
-            //If new unlocked mod isn't marked as complete or unlocked already
-            if (!unlockedModulesSet.contains(key) && !addToModulesCompleted.contains(key)) {
-                boolean allPrerequisitesMet = true;
-                for (String preq : modulesWithPreqs.get(key)) {
-                    if (!addToModulesCompleted.contains(preq)) {
-                        //Make sure preq isn't already marked as done
-                        allPrerequisitesMet = false;
-                        break;
-                    }
-                }
-                if (allPrerequisitesMet) {
-                    newMods.add(key);
-                    unlockedModulesSet.add(key);
-                }
+    /**
+     * Lists the mods that completing a mod would unlock straight away, i.e. those whose only uncompleted
+     * prerequisite it is.
+     *
+     * @param mod The mod that would be completed.
+     * @return The mods it would unlock, in alphabetical order.
+     */
+    public List<String> getModsUnlockedBy(String mod) {
+        TreeSet<String> unlocked = new TreeSet<>();
+        if (addToModulesCompleted.contains(mod)) {
+            return new ArrayList<>(unlocked);
+        }
+        for (String dependent : dependentsOfPreq.getOrDefault(mod, List.of())) {
+            if (unmetPreqCount.get(dependent) == 1 && !addToModulesCompleted.contains(dependent)) {
+                unlocked.add(dependent);
             }
         }
+        return new ArrayList<>(unlocked);
     }
 
-
-
     /**
-     * @param moduleCompleted
+     * Lists the uncompleted mods that a mod eventually leads to but would not unlock straight away, combining the
+     * catalog's reachability index with the mods registered here, which the catalog may not cover.
+     *
+     * @param mod               The mod that would be completed.
+     * @param reachabilityIndex The reachability index of the catalog's prerequisite graph.
+     * @return The mods it leads to, in alphabetical order.
      */
-    public void printUnlockedMods(String moduleCompleted) {
-        ArrayList<String> newlyUnlockedMods = new ArrayList<>();
-
-        for (String key : modulesWithPreqs.keySet()) {
-            //If new unlocked mod isn't marked as complete or unlocked already
-            if (!unlockedModulesSet.contains(key) && !addToModulesCompleted.contains(key)) {
-                boolean allPrerequisitesMet = true;
-                for (String preq : modulesWithPreqs.get(key)) {
-                    if (!addToModulesCompleted.contains(preq)) {
-                        //Make sure preq isn't already marked as done
-                        allPrerequisitesMet = false;
-                        break;
-                    }
-                }
-                if (allPrerequisitesMet) {
-                    newlyUnlockedMods.add(key);
-                    unlockedModulesSet.add(key);
+    public List<String> getModsEventuallyUnlockedBy(String mod, ReachabilityIndex reachabilityIndex) {
+        TreeSet<String> eventuallyUnlocked = new TreeSet<>();
+        ArrayDeque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(mod);
+        while (!toVisit.isEmpty()) {
+            String current = toVisit.poll();
+            //a chain may pass between the two graphs, so each step follows both
+            List<String> dependents = new ArrayList<>(dependentsOfPreq.getOrDefault(current, List.of()));
+            dependents.addAll(reachabilityIndex.getUnlocks(current));
+            for (String dependent : dependents) {
+                if (eventuallyUnlocked.add(dependent)) {
+                    toVisit.add(dependent);
                 }
             }
         }
-        for (String mod : newlyUnlockedMods) {
-            System.out.println(mod + " has been unlocked!");
-        }
-
+        eventuallyUnlocked.remove(mod);
+        eventuallyUnlocked.removeAll(addToModulesCompleted);
+        eventuallyUnlocked.removeAll(getModsUnlockedBy(mod));
+        return new ArrayList<>(eventuallyUnlocked);
     }
 
     public void printModsCompleted(){
@@ -147,5 +219,3 @@ public class CompletePreqs {
         return false;
     }
 }
-
-
@@ -0,0 +1,290 @@
+package seedu.duke.models.logic;
+
+import seedu.duke.models.schema.SemesterPlan;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * List scheduler that spreads the modules of a course over semesters. The prerequisite relations between the
+ * modules are compiled once into arrays; each plan is then a single pass over them. Within a semester, modules
+ * whose prerequisites are all in earlier semesters are taken in order of their longest chain of dependent modules,
+ * so that long chains start early and the plan finishes in as few semesters as the chains and credit cap allow.
+ */
+public class CriticalPathScheduler {
+    private final String[] moduleCodes;
+    private final int[] credits;
+    private final int[][] dependents;
+    private final int[] prereqCounts;
+    private final int[] chainLengths;
+    private final int edgeCount;
+
+    /**
+     * Compiles the prerequisite graph of a set of modules.
+     *
+     * @param modules The modules to schedule, in their preferred order when otherwise tied.
+     * @param prereqs The prerequisites of each module. Prerequisites that are not among the modules are ignored.
+     * @param credits The modular credits of each module.
+     * @throws IllegalArgumentException If a module has no credits given.
+     */
+    public CriticalPathScheduler(List<String> modules, Map<String, ? extends List<String>> prereqs,
+            Map<String, Integer> credits) throws IllegalArgumentException {
+        this(modules.toArray(new String[0]), creditsOf(modules, credits), prereqIndicesOf(modules, prereqs));
+    }
+
+    /**
+     * Compiles a prerequisite graph whose modules are already numbered.
+     *
+     * @param moduleCodes The modules to schedule, in their preferred order when otherwise tied.
+     * @param credits     The modular credits of each module.
+     * @param prereqs     The indices of the prerequisites of each module.
+     */
+    CriticalPathScheduler(String[] moduleCodes, int[] credits, int[][] prereqs) {
+        this(moduleCodes, credits, prereqs, null);
+    }
+
+    /**
+     * Compiles a prerequisite graph whose modules are already numbered and sorted, e.g. by a {@link DependencyGraph}.
+     *
+     * @param moduleCodes       The modules to schedule, in their preferred order when otherwise tied.
+     * @param credits           The modular credits of each module.
+     * @param prereqs           The indices of the prerequisites of each module.
+     * @param topologicalOrder  The indices of all modules, each after its prerequisites, or null to sort them here.
+     */
+    CriticalPathScheduler(String[] moduleCodes, int[] credits, int[][] prereqs, int[] topologicalOrder) {
+        assert moduleCodes.length == credits.length && moduleCodes.length == prereqs.length
+                : "every module needs credits and prerequisites";
+        int moduleCount = moduleCodes.length;
+        this.moduleCodes = moduleCodes;
+        this.credits = credits;
+        List<Set<Integer>> dependentSets = new ArrayList<>();
+        for (int i = 0; i < moduleCount; i++) {
+            dependentSets.add(new LinkedHashSet<>());
+        }
+        prereqCounts = new int[moduleCount];
+        int edges = 0;
+        for (int i = 0; i < moduleCount; i++) {
+            for (int prereqIndex : prereqs[i]) {
+                if (prereqIndex != i && dependentSets.get(prereqIndex).add(i)) {
+                    prereqCounts[i]++;
+                    edges++;
+                }
+            }
+        }
+        edgeCount = edges;
+        dependents = new int[moduleCount][];
+        for (int i = 0; i < moduleCount; i++) {
+            dependents[i] = dependentSets.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        chainLengths = computeChainLengths(topologicalOrder == null ? sortTopologically() : topologicalOrder);
+    }
+
+    private static int[] creditsOf(List<String> modules, Map<String, Integer> credits)
+            throws IllegalArgumentException {
+        int[] moduleCredits = new int[modules.size()];
+        for (int i = 0; i < modules.size(); i++) {
+            Integer credit = credits.get(modules.get(i));
+            if (credit == null) {
+                throw new IllegalArgumentException("No modular credits given for " + modules.get(i));
+            }
+            moduleCredits[i] = credit;
+        }
+        return moduleCredits;
+    }
+
+    //Prerequisites that are not among the modules are dropped
+    private static int[][] prereqIndicesOf(List<String> modules, Map<String, ? extends List<String>> prereqs) {
+        Map<String, Integer> indexOfModule = new HashMap<>();
+        for (int i = 0; i < modules.size(); i++) {
+            indexOfModule.put(modules.get(i), i);
+        }
+        int[][] prereqIndices = new int[modules.size()][];
+        for (int i = 0; i < modules.size(); i++) {
+            List<String> modulePrereqs = prereqs.get(modules.get(i));
+            prereqIndices[i] = modulePrereqs == null ? new int[0] : modulePrereqs.stream()
+                    .map(indexOfModule::get)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        return prereqIndices;
+    }
+
+    //Modules on a prerequisite cycle are never scheduled, so they are left out of the order
+    private int[] sortTopologically() {
+        int moduleCount = moduleCodes.length;
+        int[] remainingPrereqs = prereqCounts.clone();
+        int[] order = new int[moduleCount];
+        int orderSize = 0;
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < moduleCount; i++) {
+            if (remainingPrereqs[i] == 0) {
+                ready.add(i);
+            }
+        }
+        while (!ready.isEmpty()) {
+            int module = ready.poll();
+            order[orderSize++] = module;
+            for (int dependent : dependents[module]) {
+                if (--remainingPrereqs[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        return Arrays.copyOf(order, orderSize);
+    }
+
+    //Longest chain of semesters starting at each module, computed in reverse topological order.
+    //Modules on a prerequisite cycle are not in the order, so their length is left at 1.
+    private int[] computeChainLengths(int[] order) {
+        int[] lengths = new int[moduleCodes.length];
+        Arrays.fill(lengths, 1);
+        for (int i = order.length - 1; i >= 0; i--) {
+            int module = order[i];
+            for (int dependent : dependents[module]) {
+                lengths[module] = Math.max(lengths[module], lengths[dependent] + 1);
+            }
+        }
+        return lengths;
+    }
+
+    public int getModuleCount() {
+        return moduleCodes.length;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Retrieves the length of the longest prerequisite chain, which is the fewest semesters any plan can take.
+     *
+     * @return The number of modules on the longest chain, or 0 if there are no modules.
+     */
+    public int getCriticalPathLength() {
+        int longest = 0;
+        for (int length : chainLengths) {
+            longest = Math.max(longest, length);
+        }
+        return longest;
+    }
+
+    /**
+     * Assigns the modules to semesters. Each semester is filled with the modules whose prerequisites are all in
+     * earlier semesters, longest remaining chain first, for as long as their credits fit under the cap; a module
+     * that does not fit waits for a later semester while smaller ones may still fill the gap. A module with more
+     * credits than the cap is given a semester of its own.
+     *
+     * @param maxCreditsPerSemester The most modular credits to plan in one semester.
+     * @param semesters             The number of semesters available.
+     * @return The plan. Modules that did not fit in the available semesters, or that are on a prerequisite cycle,
+     *     are listed as unscheduled.
+     */
+    public SemesterPlan plan(int maxCreditsPerSemester, int semesters) {
+        return plan(maxCreditsPerSemester, semesters, Map.of());
+    }
+
+    /**
+     * Assigns the modules to semesters around the modules whose semesters are fixed, e.g. as the student has already
+     * scheduled them. A fixed module is placed in its semester whatever its credits, and the modules that need it
+     * are only taken from the next semester on. The other modules fill the credits left in each semester as in
+     * {@link #plan(int, int)}.
+     *
+     * @param maxCreditsPerSemester The most modular credits to plan in one semester.
+     * @param semesters             The number of semesters available.
+     * @param fixedSemesters        The semester each fixed module is taken in, from 1 to {@code semesters}. Modules
+     *     that are not being scheduled are ignored.
+     * @return The plan, including the fixed modules. Modules that did not fit in the available semesters, or that
+     *     are on a prerequisite cycle, are listed as unscheduled.
+     */
+    public SemesterPlan plan(int maxCreditsPerSemester, int semesters, Map<String, Integer> fixedSemesters) {
+        assert maxCreditsPerSemester > 0 : "credit cap must be positive";
+        int moduleCount = moduleCodes.length;
+        int[] remainingPrereqs = prereqCounts.clone();
+        //fixedSemesterOf[i] is 0 for a module that is free to be planned
+        int[] fixedSemesterOf = new int[moduleCount];
+        List<List<Integer>> fixedModulesOfSemester = new ArrayList<>();
+        for (int sem = 0; sem < semesters; sem++) {
+            fixedModulesOfSemester.add(new ArrayList<>());
+        }
+        for (int i = 0; i < moduleCount; i++) {
+            Integer fixedSemester = fixedSemesters.get(moduleCodes[i]);
+            if (fixedSemester != null && fixedSemester >= 1 && fixedSemester <= semesters) {
+                fixedSemesterOf[i] = fixedSemester;
+                fixedModulesOfSemester.get(fixedSemester - 1).add(i);
+            }
+        }
+        boolean[] isScheduled = new boolean[moduleCount];
+        PriorityQueue<Integer> ready = new PriorityQueue<>(Math.max(1, moduleCount), (first, second) -> {
+            if (chainLengths[first] != chainLengths[second]) {
+                return chainLengths[second] - chainLengths[first];
+            }
+            if (dependents[first].length != dependents[second].length) {
+                return dependents[second].length - dependents[first].length;
+            }
+            return first - second;
+        });
+        for (int i = 0; i < moduleCount; i++) {
+            if (remainingPrereqs[i] == 0 && fixedSemesterOf[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        List<List<String>> plannedSemesters = new ArrayList<>();
+        int[] creditsPerSemester = new int[semesters];
+        List<Integer> deferred = new ArrayList<>();
+        List<Integer> taken = new ArrayList<>();
+        for (int sem = 0; sem < semesters; sem++) {
+            List<String> semester = new ArrayList<>();
+            int semesterCredits = 0;
+            for (int module : fixedModulesOfSemester.get(sem)) {
+                semester.add(moduleCodes[module]);
+                semesterCredits += credits[module];
+                isScheduled[module] = true;
+                taken.add(module);
+            }
+            while (!ready.isEmpty()) {
+                int module = ready.poll();
+                boolean fits = semesterCredits + credits[module] <= maxCreditsPerSemester;
+                if (fits || semester.isEmpty()) {
+                    semester.add(moduleCodes[module]);
+                    semesterCredits += credits[module];
+                    isScheduled[module] = true;
+                    taken.add(module);
+                } else {
+                    deferred.add(module);
+                }
+            }
+            plannedSemesters.add(semester);
+            creditsPerSemester[sem] = semesterCredits;
+
+            //dependents of this semester's modules can be taken from the next semester on
+            ready.addAll(deferred);
+            deferred.clear();
+            for (int module : taken) {
+                for (int dependent : dependents[module]) {
+                    if (--remainingPrereqs[dependent] == 0 && fixedSemesterOf[dependent] == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+            taken.clear();
+        }
+
+        List<String> unscheduledModules = new ArrayList<>();
+        for (int i = 0; i < moduleCount; i++) {
+            if (!isScheduled[i]) {
+                unscheduledModules.add(moduleCodes[i]);
+            }
+        }
+        return new SemesterPlan(plannedSemesters, creditsPerSemester, unscheduledModules);
+    }
+}
@@ -2,54 +2,192 @@ package seedu.duke.models.logic;
 
 
 import seedu.duke.models.schema.Major;
+import seedu.duke.models.schema.RequirementGroup;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Scanner;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+/**
+ * Reads the module requirements of each major. Requirements are parsed once per major and kept as an immutable list
+ * and hash set, so repeated lookups cost a map lookup and membership checks are constant time. The structured
+ * requirements, with their groups and unit totals, are parsed into a {@link RequirementGroup} tree the same way.
+ *
+ * <p>Requirements are read from the {@code <major>RequirementsModuleCodes} and {@code <major>Requirements} files in
+ * the directory named by the {@code duke.requirements.dir} system property, or in the source tree when running from
+ * the project directory. A file's modification time and size are checked at most once a second, and the file re-read
+ * when either has changed. Without such a file, the copy bundled on the classpath is used, which does not change
+ * while the application runs.
+ */
 public class DataRepository {
+    private static final String DIRECTORY_PROPERTY = "duke.requirements.dir";
+    private static final String SOURCE_DIRECTORY = "src/main/java/seedu/duke/models/data";
+    private static final String RESOURCE_DIRECTORY = "/requirements/";
+    private static final String MODULE_CODES_SUFFIX = "RequirementsModuleCodes";
+    private static final String REQUIREMENTS_SUFFIX = "Requirements";
+    //Reading a file's attributes takes microseconds, so a file is checked for changes at most this often
+    private static final long CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final ConcurrentHashMap<String, CachedFile<Requirements>> REQUIREMENTS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, CachedFile<RequirementGroup>> REQUIREMENT_TREES =
+            new ConcurrentHashMap<>();
 
     /**
      * Retrieves a list of modules requirements for a specified major.
      *
      * @param major The major for which to retrieve requirements.
-     * @return An ArrayList of module codes.
-     * @throws RuntimeException If the specified major requirements file is not found.
+     * @return An unmodifiable list of module codes, in the order of the requirements file.
+     * @throws UncheckedIOException If the requirements file cannot be read.
+     */
+    public static List<String> getRequirements(String major) {
+        return getRequirements(major, getRequirementsDirectory(), CHECK_INTERVAL_NANOS).getModules();
+    }
+
+    /**
+     * Retrieves the module requirements of a major as a set, for checking whether modules are required.
+     *
+     * @param major The major for which to retrieve requirements.
+     * @return An unmodifiable set of module codes, iterated in the order of the requirements file.
+     * @throws UncheckedIOException If the requirements file cannot be read.
+     */
+    public static Set<String> getRequirementSet(String major) {
+        return getRequirements(major, getRequirementsDirectory(), CHECK_INTERVAL_NANOS).getModuleSet();
+    }
+
+    /**
+     * Retrieves the structured requirements of a major, with each group of modules and the units it needs.
+     *
+     * @param major The major for which to retrieve requirements.
+     * @return The root group of the requirements, or null if the major has no structured requirements.
+     * @throws UncheckedIOException If the requirements file cannot be read.
      */
-    public static ArrayList<String> getRequirements(String major) {
+    public static RequirementGroup getRequirementTree(String major) {
+        return getRequirementTree(major, getRequirementsDirectory(), CHECK_INTERVAL_NANOS);
+    }
+
+    static Requirements getRequirements(String major, Path directory) {
+        return getRequirements(major, directory, 0);
+    }
+
+    static RequirementGroup getRequirementTree(String major, Path directory) {
+        return getRequirementTree(major, directory, 0);
+    }
+
+    private static Requirements getRequirements(String major, Path directory, long checkIntervalNanos) {
+        return getCached(REQUIREMENTS, major + MODULE_CODES_SUFFIX, directory, checkIntervalNanos,
+            lines -> new Requirements(parseModuleCodes(lines)), DataRepository::getDefaultRequirements);
+    }
+
+    private static RequirementGroup getRequirementTree(String major, Path directory, long checkIntervalNanos) {
+        return getCached(REQUIREMENT_TREES, major + REQUIREMENTS_SUFFIX, directory, checkIntervalNanos,
+            RequirementGroup::parse, () -> null);
+    }
+
+    //Returns the parsed contents of a file, parsing it again if it changed since it was last checked
+    private static <T> T getCached(ConcurrentHashMap<String, CachedFile<T>> cache, String fileName, Path directory,
+            long checkIntervalNanos, Function<List<String>, T> parser, Supplier<T> fallback) {
+        CachedFile<T> cached = cache.get(fileName);
+        if (cached != null && cached.isRecentlyChecked(directory, checkIntervalNanos)) {
+            return cached.value;
+        }
+        Path file = directory.resolve(fileName);
+        BasicFileAttributes attributes = readAttributes(file);
+        if (cached == null || !cached.isCurrent(file, attributes)) {
+            cached = cache.compute(fileName, (key, current) -> current != null && current.isCurrent(file, attributes)
+                    ? current
+                    : load(fileName, attributes == null ? null : file, attributes, parser, fallback));
+        }
+        cached.markChecked(directory);
+        return cached.value;
+    }
+
+    private static Path getRequirementsDirectory() {
+        return Paths.get(System.getProperty(DIRECTORY_PROPERTY, SOURCE_DIRECTORY));
+    }
+
+    //null if there is no such file
+    private static BasicFileAttributes readAttributes(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.isRegularFile() ? attributes : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> CachedFile<T> load(String fileName, Path file, BasicFileAttributes attributes,
+            Function<List<String>, T> parser, Supplier<T> fallback) {
         try {
-            //add validation if wrong major?
-            String fileName = String.format("src/main/java/seedu/duke/models/data/%sRequirementsModuleCodes", major);
-            File f = new File(fileName);
-            if (!f.exists()) {
-                String[] courseArray = {
-                    "CG1111A", "MA1511", "MA1512", "CS1010", "GESS1000",
-                    "GEC1000", "GEN2000", "ES2631", "GEA1000", "DTK1234",
-                    "EG1311", "IE2141", "EE2211", "EG2501", "CDE2000",
-                    "PF1101", "CG4002", "MA1508E", "EG2401A", "CP3880",
-                    "CG2111A", "CS1231", "CG2023", "CG2027", "CG2028",
-                    "CG2271", "ST2334", "CS2040C", "CS2113", "EE2026", "EE4204"
-                };
-
-                return new ArrayList<>(Arrays.asList(courseArray));
+            if (file != null) {
+                try (InputStream contents = Files.newInputStream(file)) {
+                    return new CachedFile<>(parser.apply(readLines(contents)), file, attributes);
+                }
+            }
+            try (InputStream contents = DataRepository.class.getResourceAsStream(RESOURCE_DIRECTORY + fileName)) {
+                if (contents != null) {
+                    return new CachedFile<>(parser.apply(readLines(contents)), null, null);
+                }
             }
-            ArrayList<String> currentArray = new ArrayList<>();
-            Scanner s = new Scanner(f);
-            while (s.hasNext()) {
-                String currentLine = s.nextLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new CachedFile<>(fallback.get(), null, null);
+    }
+
+    //last resort when neither a requirements file nor the bundled copy is available
+    private static Requirements getDefaultRequirements() {
+        String[] courseArray = {
+            "CG1111A", "MA1511", "MA1512", "CS1010", "GESS1000",
+            "GEC1000", "GEN2000", "ES2631", "GEA1000", "DTK1234",
+            "EG1311", "IE2141", "EE2211", "EG2501", "CDE2000",
+            "PF1101", "CG4002", "MA1508E", "EG2401A", "CP3880",
+            "CG2111A", "CS1231", "CG2023", "CG2027", "CG2028",
+            "CG2271", "ST2334", "CS2040C", "CS2113", "EE2026", "EE4204"
+        };
+        return new Requirements(Arrays.asList(courseArray));
+    }
 
-                String[] words = currentLine.split(" ");
+    private static List<String> readLines(InputStream contents) throws IOException {
+        List<String> lines = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(contents, StandardCharsets.UTF_8));
+        String currentLine;
+        while ((currentLine = reader.readLine()) != null) {
+            lines.add(currentLine);
+        }
+        return lines;
+    }
 
-                if (!currentLine.isEmpty() && !currentLine.startsWith("*")) { // not empty line, not title
-                    currentArray.add(words[0]);
-                }
+    private static List<String> parseModuleCodes(List<String> lines) {
+        List<String> modules = new ArrayList<>();
+        for (String currentLine : lines) {
+            String[] words = currentLine.split(" ");
+
+            if (!currentLine.isEmpty() && !currentLine.startsWith("*")) { // not empty line, not title
+                modules.add(words[0]);
             }
-            return currentArray;
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException(e);
         }
+        return modules;
     }
 
     /**
@@ -62,4 +200,56 @@ public class DataRepository {
         return String.format("src/main/java/seedu/duke/models/data/%sRequirements", major.toString());
     }
 
+    //Parsed module codes of a major
+    static final class Requirements {
+        private final List<String> modules;
+        private final Set<String> moduleSet;
+
+        private Requirements(List<String> modules) {
+            this.modules = Collections.unmodifiableList(new ArrayList<>(modules));
+            this.moduleSet = Collections.unmodifiableSet(new LinkedHashSet<>(modules));
+        }
+
+        List<String> getModules() {
+            return modules;
+        }
+
+        Set<String> getModuleSet() {
+            return moduleSet;
+        }
+    }
+
+    //Parsed contents of a file, with the attributes of the file it was read from, or a null file if bundled
+    private static final class CachedFile<T> {
+        private final T value;
+        private final Path file;
+        private final FileTime lastModified;
+        private final long size;
+        private volatile Path checkedDirectory;
+        private volatile long checkedAtNanos;
+
+        private CachedFile(T value, Path file, BasicFileAttributes attributes) {
+            this.value = value;
+            this.file = file;
+            this.lastModified = attributes == null ? null : attributes.lastModifiedTime();
+            this.size = attributes == null ? -1 : attributes.size();
+        }
+
+        private void markChecked(Path directory) {
+            checkedDirectory = directory;
+            checkedAtNanos = System.nanoTime();
+        }
+
+        private boolean isRecentlyChecked(Path directory, long checkIntervalNanos) {
+            return directory.equals(checkedDirectory) && System.nanoTime() - checkedAtNanos < checkIntervalNanos;
+        }
+
+        private boolean isCurrent(Path currentFile, BasicFileAttributes attributes) {
+            if (attributes == null) {
+                return file == null;
+            }
+            return currentFile.equals(file) && attributes.lastModifiedTime().equals(lastModified)
+                    && attributes.size() == size;
+        }
+    }
 }
@@ -0,0 +1,301 @@
+package seedu.duke.models.logic;
+
+import seedu.duke.models.schema.ModuleRequirement;
+import seedu.duke.models.schema.RequirementGroup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Audits a student's modules against the requirement groups of their major, keeping for every group the credits
+ * completed and planned towards it.
+ *
+ * <p>Each module is placed once, into the first requirement it meets that no other module meets yet, or else into an
+ * open group such as unrestricted electives. Placing or removing a module only updates the groups above it, each
+ * counting at most the credits it needs, so the audit can be queried after every command without recomputing it.
+ */
+public class DegreeAudit {
+    private final RequirementGroup root;
+    private final ToIntFunction<String> creditsOf;
+
+    //Requirements naming a module code exactly, and those naming a code prefix
+    private final Map<String, List<ModuleRequirement>> requirementsOfModule;
+    private final List<ModuleRequirement> prefixRequirements;
+    private final Map<ModuleRequirement, RequirementGroup> groupOfRequirement;
+    //Groups any module can count towards, in the order of the requirements file
+    private final List<RequirementGroup> openGroups;
+
+    private final Map<String, Placement> placements;
+    private final Map<ModuleRequirement, String> moduleOfRequirement;
+    private final Map<RequirementGroup, Credits> creditsOfGroup;
+
+    /**
+     * Constructs an empty audit of a major's requirements.
+     *
+     * @param root      The root group of the major's requirements.
+     * @param creditsOf Looks up the modular credits of a module whose requirement does not state them.
+     */
+    public DegreeAudit(RequirementGroup root, ToIntFunction<String> creditsOf) {
+        assert root != null : "requirements cannot be null";
+        this.root = root;
+        this.creditsOf = creditsOf;
+        requirementsOfModule = new HashMap<>();
+        prefixRequirements = new ArrayList<>();
+        groupOfRequirement = new IdentityHashMap<>();
+        openGroups = new ArrayList<>();
+        placements = new LinkedHashMap<>();
+        moduleOfRequirement = new IdentityHashMap<>();
+        creditsOfGroup = new IdentityHashMap<>();
+        index(root);
+    }
+
+    private void index(RequirementGroup group) {
+        creditsOfGroup.put(group, new Credits());
+        if (group.isOpen()) {
+            openGroups.add(group);
+        }
+        for (ModuleRequirement requirement : group.getRequirements()) {
+            groupOfRequirement.put(requirement, group);
+            for (String option : requirement.getOptions()) {
+                if (ModuleRequirement.isPrefix(option)) {
+                    prefixRequirements.add(requirement);
+                } else {
+                    requirementsOfModule.computeIfAbsent(option, key -> new ArrayList<>()).add(requirement);
+                }
+            }
+        }
+        for (RequirementGroup subgroup : group.getSubgroups()) {
+            index(subgroup);
+        }
+    }
+
+    public RequirementGroup getRequirements() {
+        return root;
+    }
+
+    /**
+     * Counts a module as completed, placing it first if it is not already planned.
+     *
+     * @param module The module code.
+     */
+    public void markCompleted(String module) {
+        Placement placement = placements.get(module);
+        if (placement == null) {
+            place(module, true);
+        } else if (!placement.isCompleted) {
+            placement.isCompleted = true;
+            creditsOfGroup.get(placement.group).completed += placement.credits;
+            update(placement.group);
+        }
+    }
+
+    /**
+     * Counts a module as planned, unless it is already planned or completed.
+     *
+     * @param module The module code.
+     */
+    public void markPlanned(String module) {
+        if (!placements.containsKey(module)) {
+            place(module, false);
+        }
+    }
+
+    /**
+     * Stops counting a planned module, e.g. when it is deleted from the schedule. Completed modules stay counted.
+     *
+     * @param module The module code.
+     */
+    public void unmarkPlanned(String module) {
+        Placement placement = placements.get(module);
+        if (placement == null || placement.isCompleted) {
+            return;
+        }
+        placements.remove(module);
+        if (placement.requirement != null) {
+            moduleOfRequirement.remove(placement.requirement);
+        }
+        creditsOfGroup.get(placement.group).projected -= placement.credits;
+        update(placement.group);
+    }
+
+    private void place(String module, boolean isCompleted) {
+        ModuleRequirement requirement = findUnmetRequirement(module);
+        RequirementGroup group = requirement == null ? findOpenGroup() : groupOfRequirement.get(requirement);
+        int credits = requirement != null && requirement.getCredits() >= 0
+                ? requirement.getCredits()
+                : creditsOf.applyAsInt(module);
+        Placement placement = new Placement(group, requirement, credits, isCompleted);
+        placements.put(module, placement);
+        if (requirement != null) {
+            moduleOfRequirement.put(requirement, module);
+        }
+        Credits groupCredits = creditsOfGroup.get(group);
+        groupCredits.projected += credits;
+        if (isCompleted) {
+            groupCredits.completed += credits;
+        }
+        update(group);
+    }
+
+    private ModuleRequirement findUnmetRequirement(String module) {
+        for (ModuleRequirement requirement : requirementsOfModule.getOrDefault(module, List.of())) {
+            if (!moduleOfRequirement.containsKey(requirement)) {
+                return requirement;
+            }
+        }
+        for (ModuleRequirement requirement : prefixRequirements) {
+            if (!moduleOfRequirement.containsKey(requirement) && requirement.matches(module)) {
+                return requirement;
+            }
+        }
+        return null;
+    }
+
+    //The first open group with credits to spare, or else the last one, or else the root
+    private RequirementGroup findOpenGroup() {
+        for (RequirementGroup group : openGroups) {
+            if (creditsOfGroup.get(group).countedProjected < group.getRequiredCredits()) {
+                return group;
+            }
+        }
+        return openGroups.isEmpty() ? root : openGroups.get(openGroups.size() - 1);
+    }
+
+    //Recounts a group and the groups above it, each counting at most the credits it needs
+    private void update(RequirementGroup group) {
+        for (RequirementGroup current = group; current != null; current = current.getParent()) {
+            Credits credits = creditsOfGroup.get(current);
+            int completed = credits.completed;
+            int projected = credits.projected;
+            for (RequirementGroup subgroup : current.getSubgroups()) {
+                completed += creditsOfGroup.get(subgroup).countedCompleted;
+                projected += creditsOfGroup.get(subgroup).countedProjected;
+            }
+            credits.countedCompleted = Math.min(completed, current.getRequiredCredits());
+            credits.countedProjected = Math.min(projected, current.getRequiredCredits());
+        }
+    }
+
+    public int getRequiredCredits() {
+        return root.getRequiredCredits();
+    }
+
+    public int getCompletedCredits() {
+        return getCompletedCredits(root);
+    }
+
+    public int getPlannedCredits() {
+        return getPlannedCredits(root);
+    }
+
+    /**
+     * Returns the credits still needed to graduate, not counting planned modules.
+     *
+     * @return The credits of the degree not yet completed.
+     */
+    public int getOutstandingCredits() {
+        return getOutstandingCredits(root);
+    }
+
+    public int getCompletedCredits(RequirementGroup group) {
+        return creditsOfGroup.get(group).countedCompleted;
+    }
+
+    /**
+     * Returns the credits planned towards a group on top of those completed.
+     *
+     * @param group A group of the audited requirements.
+     * @return The credits of planned modules the group counts.
+     */
+    public int getPlannedCredits(RequirementGroup group) {
+        Credits credits = creditsOfGroup.get(group);
+        return credits.countedProjected - credits.countedCompleted;
+    }
+
+    public int getOutstandingCredits(RequirementGroup group) {
+        return group.getRequiredCredits() - getCompletedCredits(group);
+    }
+
+    /**
+     * Returns the module placed into a requirement.
+     *
+     * @param requirement A requirement of the audited major.
+     * @return The module code, or null if no module meets the requirement yet.
+     */
+    public String getModuleOf(ModuleRequirement requirement) {
+        return moduleOfRequirement.get(requirement);
+    }
+
+    /**
+     * Returns the modules placed into a group without meeting one of its requirements, e.g. electives.
+     *
+     * @param group A group of the audited requirements.
+     * @return The module codes, in the order they were placed.
+     */
+    public List<String> getModulesCountedIn(RequirementGroup group) {
+        List<String> modules = new ArrayList<>();
+        for (Map.Entry<String, Placement> entry : placements.entrySet()) {
+            if (entry.getValue().group == group && entry.getValue().requirement == null) {
+                modules.add(entry.getKey());
+            }
+        }
+        return modules;
+    }
+
+    public boolean isCompleted(String module) {
+        Placement placement = placements.get(module);
+        return placement != null && placement.isCompleted;
+    }
+
+    /**
+     * Lists the modules still needed, one per requirement that no completed module meets, in the order of the
+     * requirements file. Requirements that name no module are left out.
+     *
+     * @return The module codes left, or the first option of requirements with several.
+     */
+    public List<String> getModulesLeft() {
+        List<String> modulesLeft = new ArrayList<>();
+        addModulesLeft(root, modulesLeft);
+        return modulesLeft;
+    }
+
+    private void addModulesLeft(RequirementGroup group, List<String> modulesLeft) {
+        for (ModuleRequirement requirement : group.getRequirements()) {
+            String module = moduleOfRequirement.get(requirement);
+            if (requirement.hasOptions() && (module == null || !isCompleted(module))) {
+                modulesLeft.add(requirement.getDisplayCode());
+            }
+        }
+        for (RequirementGroup subgroup : group.getSubgroups()) {
+            addModulesLeft(subgroup, modulesLeft);
+        }
+    }
+
+    //Where a module is counted
+    private static final class Placement {
+        private final RequirementGroup group;
+        private final ModuleRequirement requirement;
+        private final int credits;
+        private boolean isCompleted;
+
+        private Placement(RequirementGroup group, ModuleRequirement requirement, int credits, boolean isCompleted) {
+            this.group = group;
+            this.requirement = requirement;
+            this.credits = credits;
+            this.isCompleted = isCompleted;
+        }
+    }
+
+    //Credits of modules placed directly into a group, and the credits it counts including its subgroups
+    private static final class Credits {
+        private int completed;
+        private int projected;
+        private int countedCompleted;
+        private int countedProjected;
+    }
+}
@@ -0,0 +1,386 @@
+package seedu.duke.models.logic;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prerequisite graph of the modules planned for a major, kept between recommendations and updated in place as
+ * modules are added, removed or completed. The graph maintains a topological order of its modules with the
+ * Pearce-Kelly algorithm: a new prerequisite that is already ordered before its module costs nothing, and one that
+ * is not only reorders the modules between the two that depend on either, rather than sorting the whole graph again.
+ *
+ * <p>Each module remembers the prerequisites it was declared with, so a prerequisite that is not in the graph yet, or
+ * that is removed and later added again, is linked as soon as it is present. A prerequisite that would close a cycle
+ * is left out, which keeps every order the graph gives a valid order to take the modules in. The graph is not
+ * thread-safe.
+ */
+public class DependencyGraph {
+    private static final int NO_MODULE = -1;
+
+    private final Map<String, Integer> idOfModule = new HashMap<>();
+    private final List<String> moduleOfId = new ArrayList<>();
+    private final List<Integer> creditsOfId = new ArrayList<>();
+    private final List<Set<Integer>> prereqsOfId = new ArrayList<>();
+    private final List<Set<Integer>> dependentsOfId = new ArrayList<>();
+    private final Map<String, Set<String>> declaredPrereqs = new HashMap<>();
+    private final Map<String, Set<String>> declaringModules = new HashMap<>();
+    private final Set<Integer> completedIds = new LinkedHashSet<>();
+
+    //position of each module in the topological order, and the module at each position, with gaps left by removals
+    private int[] positionOfId = new int[16];
+    private int[] idAtPosition = new int[16];
+    private int positionCount;
+    private int moduleCount;
+
+    private int[] visitStamps = new int[16];
+    private int visitStamp;
+    private long reorderedCount;
+
+    /**
+     * Adds a module, or replaces the credits and prerequisites of a module already in the graph.
+     *
+     * @param module  The module code.
+     * @param credits The modular credits of the module.
+     * @param prereqs The prerequisites of the module. Those not in the graph are linked once they are added.
+     * @return True if every prerequisite in the graph was linked, false if some were left out as they would close
+     *     a cycle.
+     */
+    public boolean addModule(String module, int credits, Collection<String> prereqs) {
+        Integer existingId = idOfModule.get(module);
+        if (existingId != null) {
+            creditsOfId.set(existingId, credits);
+            return setPrereqs(module, prereqs);
+        }
+        int id = moduleOfId.size();
+        idOfModule.put(module, id);
+        moduleOfId.add(module);
+        creditsOfId.add(credits);
+        prereqsOfId.add(new LinkedHashSet<>());
+        dependentsOfId.add(new LinkedHashSet<>());
+        ensureCapacity(id + 1, positionCount + 1);
+        positionOfId[id] = positionCount;
+        idAtPosition[positionCount++] = id;
+        moduleCount++;
+
+        boolean isAcyclic = true;
+        //modules that named this one as a prerequisite before it was added
+        for (String dependent : declaringModules.getOrDefault(module, Set.of())) {
+            isAcyclic &= addEdge(id, idOfModule.get(dependent));
+        }
+        return setPrereqs(module, prereqs) && isAcyclic;
+    }
+
+    /**
+     * Replaces the prerequisites of a module in the graph, e.g. when the requirements of the major change.
+     *
+     * @param module  The module code.
+     * @param prereqs The new prerequisites of the module.
+     * @return True if every prerequisite in the graph was linked, false if some were left out as they would close
+     *     a cycle.
+     * @throws IllegalArgumentException If the module is not in the graph.
+     */
+    public boolean setPrereqs(String module, Collection<String> prereqs) throws IllegalArgumentException {
+        int id = idOf(module);
+        Set<String> newPrereqs = new LinkedHashSet<>(prereqs);
+        if (newPrereqs.equals(declaredPrereqs.get(module))) {
+            return newPrereqs.stream().filter(idOfModule::containsKey).count() == prereqsOfId.get(id).size();
+        }
+        for (int prereqId : prereqsOfId.get(id)) {
+            dependentsOfId.get(prereqId).remove(id);
+        }
+        prereqsOfId.get(id).clear();
+        undeclarePrereqs(module);
+        declaredPrereqs.put(module, newPrereqs);
+        for (String prereq : newPrereqs) {
+            declaringModules.computeIfAbsent(prereq, key -> new LinkedHashSet<>()).add(module);
+        }
+        boolean isAcyclic = true;
+        for (String prereq : newPrereqs) {
+            Integer prereqId = idOfModule.get(prereq);
+            if (prereqId != null) {
+                isAcyclic &= addEdge(prereqId, id);
+            }
+        }
+        return isAcyclic;
+    }
+
+    /**
+     * Removes a module. Modules that needed it keep it as a declared prerequisite, so they are linked to it again if
+     * it is added back. Removing a module never invalidates the order of the others.
+     *
+     * @param module The module code.
+     * @return True if the module was in the graph.
+     */
+    public boolean removeModule(String module) {
+        Integer id = idOfModule.remove(module);
+        if (id == null) {
+            return false;
+        }
+        for (int prereqId : prereqsOfId.get(id)) {
+            dependentsOfId.get(prereqId).remove(id);
+        }
+        for (int dependentId : dependentsOfId.get(id)) {
+            prereqsOfId.get(dependentId).remove(id);
+        }
+        prereqsOfId.get(id).clear();
+        dependentsOfId.get(id).clear();
+        undeclarePrereqs(module);
+        completedIds.remove(id);
+        moduleOfId.set(id, null);
+        idAtPosition[positionOfId[id]] = NO_MODULE;
+        moduleCount--;
+        if (positionCount > 2 * moduleCount + 16) {
+            compactPositions();
+        }
+        return true;
+    }
+
+    /**
+     * Marks a module as completed or not. Completed modules stay in the graph but are left out of plans, and no
+     * longer hold back the modules that need them.
+     *
+     * @param module      The module code.
+     * @param isCompleted Whether the module has been completed.
+     * @throws IllegalArgumentException If the module is not in the graph.
+     */
+    public void setCompleted(String module, boolean isCompleted) throws IllegalArgumentException {
+        int id = idOf(module);
+        if (isCompleted) {
+            completedIds.add(id);
+        } else {
+            completedIds.remove(id);
+        }
+    }
+
+    public boolean isCompleted(String module) {
+        Integer id = idOfModule.get(module);
+        return id != null && completedIds.contains(id);
+    }
+
+    public boolean contains(String module) {
+        return idOfModule.containsKey(module);
+    }
+
+    public int size() {
+        return moduleCount;
+    }
+
+    /**
+     * Retrieves the number of modules moved in the topological order over the lifetime of the graph, as a measure of
+     * how much work the updates have taken.
+     *
+     * @return The number of modules given a new position.
+     */
+    public long getReorderedCount() {
+        return reorderedCount;
+    }
+
+    /**
+     * Retrieves the modules in the graph, in the order they were first added.
+     *
+     * @return The module codes.
+     */
+    public List<String> getModules() {
+        List<String> modules = new ArrayList<>();
+        for (String module : moduleOfId) {
+            if (module != null) {
+                modules.add(module);
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Retrieves the prerequisites of a module that are in the graph.
+     *
+     * @param module The module code.
+     * @return The linked prerequisites, in the order they were declared.
+     * @throws IllegalArgumentException If the module is not in the graph.
+     */
+    public List<String> getPrereqs(String module) throws IllegalArgumentException {
+        List<String> prereqs = new ArrayList<>();
+        for (int prereqId : prereqsOfId.get(idOf(module))) {
+            prereqs.add(moduleOfId.get(prereqId));
+        }
+        return prereqs;
+    }
+
+    /**
+     * Retrieves every module in an order in which each comes after all of its prerequisites.
+     *
+     * @return The module codes in topological order.
+     */
+    public List<String> getTopologicalOrder() {
+        List<String> order = new ArrayList<>();
+        for (int position = 0; position < positionCount; position++) {
+            if (idAtPosition[position] != NO_MODULE) {
+                order.add(moduleOfId.get(idAtPosition[position]));
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Creates a scheduler for the modules that are not completed. The scheduler reuses the topological order kept by
+     * the graph, so only the credits and prerequisite links are copied.
+     *
+     * @return The scheduler, with the modules in the order they were first added as its preferred order.
+     */
+    public CriticalPathScheduler toScheduler() {
+        int[] planIndexOfId = new int[moduleOfId.size()];
+        Arrays.fill(planIndexOfId, NO_MODULE);
+        List<String> planModules = new ArrayList<>();
+        for (int id = 0; id < moduleOfId.size(); id++) {
+            if (moduleOfId.get(id) != null && !completedIds.contains(id)) {
+                planIndexOfId[id] = planModules.size();
+                planModules.add(moduleOfId.get(id));
+            }
+        }
+        int[] credits = new int[planModules.size()];
+        int[][] prereqs = new int[planModules.size()][];
+        for (int id = 0; id < moduleOfId.size(); id++) {
+            int planIndex = planIndexOfId[id];
+            if (planIndex != NO_MODULE) {
+                credits[planIndex] = creditsOfId.get(id);
+                prereqs[planIndex] = prereqsOfId.get(id).stream().mapToInt(prereqId -> planIndexOfId[prereqId])
+                        .filter(prereqIndex -> prereqIndex != NO_MODULE).toArray();
+            }
+        }
+        int[] order = new int[planModules.size()];
+        int orderSize = 0;
+        for (int position = 0; position < positionCount; position++) {
+            int id = idAtPosition[position];
+            if (id != NO_MODULE && planIndexOfId[id] != NO_MODULE) {
+                order[orderSize++] = planIndexOfId[id];
+            }
+        }
+        return new CriticalPathScheduler(planModules.toArray(new String[0]), credits, prereqs, order);
+    }
+
+    private void undeclarePrereqs(String module) {
+        Set<String> prereqs = declaredPrereqs.remove(module);
+        if (prereqs == null) {
+            return;
+        }
+        for (String prereq : prereqs) {
+            Set<String> declaring = declaringModules.get(prereq);
+            declaring.remove(module);
+            if (declaring.isEmpty()) {
+                declaringModules.remove(prereq);
+            }
+        }
+    }
+
+    private int idOf(String module) throws IllegalArgumentException {
+        Integer id = idOfModule.get(module);
+        if (id == null) {
+            throw new IllegalArgumentException(module + " is not in the dependency graph");
+        }
+        return id;
+    }
+
+    //Links prereq -> dependent. If the dependent is ordered first, the modules between the two that depend on the
+    //dependent are moved after those that the prerequisite depends on, keeping their relative order.
+    private boolean addEdge(int prereqId, int dependentId) {
+        if (prereqId == dependentId) {
+            return false;
+        }
+        int lowerBound = positionOfId[dependentId];
+        int upperBound = positionOfId[prereqId];
+        if (lowerBound < upperBound) {
+            List<Integer> forward = new ArrayList<>();
+            List<Integer> backward = new ArrayList<>();
+            if (!collectAffected(dependentId, upperBound, true, forward)) {
+                return false;
+            }
+            collectAffected(prereqId, lowerBound, false, backward);
+            reorder(backward, forward);
+        }
+        prereqsOfId.get(dependentId).add(prereqId);
+        dependentsOfId.get(prereqId).add(dependentId);
+        return true;
+    }
+
+    //Modules reachable from start within the affected region: forward through dependents up to the bound, or
+    //backward through prerequisites down to it. Going forward and reaching the bound itself means a cycle.
+    private boolean collectAffected(int startId, int bound, boolean isForward, List<Integer> affected) {
+        visitStamp++;
+        ArrayDeque<Integer> pending = new ArrayDeque<>();
+        pending.push(startId);
+        visitStamps[startId] = visitStamp;
+        while (!pending.isEmpty()) {
+            int id = pending.pop();
+            affected.add(id);
+            for (int nextId : isForward ? dependentsOfId.get(id) : prereqsOfId.get(id)) {
+                int position = positionOfId[nextId];
+                if (isForward && position == bound) {
+                    return false;
+                }
+                boolean isInRegion = isForward ? position < bound : position > bound;
+                if (isInRegion && visitStamps[nextId] != visitStamp) {
+                    visitStamps[nextId] = visitStamp;
+                    pending.push(nextId);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void reorder(List<Integer> backward, List<Integer> forward) {
+        Comparator<Integer> byPosition = Comparator.comparingInt(id -> positionOfId[id]);
+        backward.sort(byPosition);
+        forward.sort(byPosition);
+        int[] positions = new int[backward.size() + forward.size()];
+        int index = 0;
+        for (int id : backward) {
+            positions[index++] = positionOfId[id];
+        }
+        for (int id : forward) {
+            positions[index++] = positionOfId[id];
+        }
+        Arrays.sort(positions);
+        index = 0;
+        for (int id : backward) {
+            place(id, positions[index++]);
+        }
+        for (int id : forward) {
+            place(id, positions[index++]);
+        }
+        reorderedCount += positions.length;
+    }
+
+    private void place(int id, int position) {
+        positionOfId[id] = position;
+        idAtPosition[position] = id;
+    }
+
+    private void compactPositions() {
+        int compactedCount = 0;
+        for (int position = 0; position < positionCount; position++) {
+            int id = idAtPosition[position];
+            if (id != NO_MODULE) {
+                place(id, compactedCount++);
+            }
+        }
+        Arrays.fill(idAtPosition, compactedCount, positionCount, NO_MODULE);
+        positionCount = compactedCount;
+    }
+
+    private void ensureCapacity(int ids, int positions) {
+        if (ids > positionOfId.length) {
+            positionOfId = Arrays.copyOf(positionOfId, 2 * ids);
+            visitStamps = Arrays.copyOf(visitStamps, 2 * ids);
+        }
+        if (positions > idAtPosition.length) {
+            idAtPosition = Arrays.copyOf(idAtPosition, 2 * positions);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.duke.models.logic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * Data source that replays recorded NUSMods responses from a directory instead of the network. Each resource is the
+ * file at its API path under the directory, e.g. {@code <directory>/2023-2024/modules/CS2113.json}, which is the same
+ * layout as the catalog snapshot in {@code src/main/catalog}. A missing file is treated as a missing module.
+ */
+public class FixtureModuleDataSource implements ModuleDataSource {
+    private final Path directory;
+
+    /**
+     * Constructs a data source over a fixture directory.
+     *
+     * @param directory The directory holding one sub-directory per academic year.
+     */
+    public FixtureModuleDataSource(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Opens the fixture file of a resource.
+     *
+     * @param path The path of the resource relative to the API root.
+     * @return The file contents, or null if there is no fixture for the path. Paths that would leave the fixture
+     *     directory have no fixture.
+     */
+    @Override
+    public InputStream open(String path) throws IOException {
+        Path file;
+        try {
+            file = directory.resolve(path).normalize();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public String toString() {
+        return "fixtures at " + directory;
+    }
+}
@@ -1,10 +1,21 @@
 package seedu.duke.models.logic;
 
 import seedu.duke.models.schema.Major;
+import seedu.duke.models.schema.ModuleRequirement;
+import seedu.duke.models.schema.RequirementGroup;
 import seedu.duke.views.CommandLineView;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 public class MajorRequirements {
+    private static final String TITLE_BORDER =
+            "#===========================================================================================#";
+    private static final String GROUP_BORDER =
+            "+-------------------------------------------------------------------------------------------+";
+    private static final int TEXT_WIDTH = 76;
+
     private CommandLineView view;
     private Major major;
 
@@ -16,60 +27,93 @@ public class MajorRequirements {
 
 
     public void printRequiredModules(Major major) {
-        if (major != Major.valueOf("CEG")) {
+        printRequiredModules(major, null);
+    }
+
+    /**
+     * Prints the requirements of a major as a table of groups and their modules, read from the major's requirements
+     * file. With an audit, each group also shows the credits completed and planned towards it, and each module
+     * whether it is completed or planned.
+     *
+     * @param major The major to print the requirements of.
+     * @param audit The audit of the student's modules against the major, or null to print the requirements only.
+     */
+    public void printRequiredModules(Major major, DegreeAudit audit) {
+        RequirementGroup requirements = audit != null
+                ? audit.getRequirements()
+                : DataRepository.getRequirementTree(major.toString());
+        if (requirements == null) {
             view.displayMessage("Sorry this major has not be included in our app yet.");
             return;
         }
-        view.displayMessage(
-                "#===========================================================================================#\n" +
-                "║\tModular Requirements for CEG                                                \tUnits\t║\n" +
-                "#===========================================================================================#\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                "│\tCommon Curriculum Requirements                                              \t60\t\t│\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                "\tGES1000 (Singapore Studies)                                                 \t4\n" +
-                "\tGEC1000 (Cultures and Connections)                                          \t4\n" +
-                "\tGEN2000 (Communities and Engagement)                                        \t4\n" +
-                "\tES2631 Critique & Communication of Thinking & Design (Critique & Expression)\t4\n" +
-                "\tCS1010 Programming Methodology (Digital Literacy)                           \t4\n" +
-                "\tGEA1000 Quantitative Reasoning with Data (Data Literacy)                    \t4\n" +
-                "\tDTK1234 Design Thinking (Design Thinking)                                   \t4\n" +
-                "\tEG1311 Design and Make (Maker Space)                                        \t4\n" +
-                "\tIE2141 Systems Thinking and Dynamics (Systems Thinking)                     \t4\n" +
-                "\tEE2211 Introduction to Machine Learning (Artificial Intelligence)           \t4\n" +
-                "\tCDE2501 Liveable Cities (Sustainable Futures)                               \t4\n" +
-                "\tCDE2000 (Creating Narratives)                                               \t4\n" +
-                "\tPF1101 Fundamentals of Project Management (Project Management)              \t4\n" +
-                "\tCG4002 Computer Engineering Capstone Project 1 (Integrated Project)         \t8\n" +
-                "\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                "│\tProgramme Requirements                                                      \t60\t\t│\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                " ~~\tEngineering Core                                                            \t20\t ~~\n" +
-                "\n" +
-                "\tMA1511 Engineering Calculus                                                 \t2\n" +
-                "\tMA1512 Differential Equations for Engineering                               \t2\n" +
-                "\tMA1508E Linear Algebra for Engineering                                      \t4\n" +
-                "\tEG2401A Engineering Professionalism                                         \t2\n" +
-                "\tCP3880 Advanced Technology Attachment Programme                             \t12\n" +
-                "\n" +
-                " ~~\tCEG Major                                                                   \t40\t ~~\n" +
-                "\n" +
-                "\tCG1111A Engineering Principles and Practice I                               \t4\n" +
-                "\tCG2111A Engineering Principles and Practice II                              \t4\n" +
-                "\tCS1231 Discrete Structures                                                  \t4\n" +
-                "\tCG2023 Signals & Systems                                                    \t4\n" +
-                "\tCG2027 Transistor-level Digital Circuit                                     \t2\n" +
-                "\tCG2028 Computer Organization                                                \t2\n" +
-                "\tCG2271 Real-time Operating System                                           \t4\n" +
-                "\tCS2040C Data Structures and Algorithms                                      \t4\n" +
-                "\tCS2113 Software Engineering & Object-Oriented Programming                   \t4\n" +
-                "\tEE2026 Digital Design                                                       \t4\n" +
-                "\tEE4204 Computer Networks                                                    \t4\n" +
-                "\n" +
-                "+-------------------------------------------------------------------------------------------+\n" +
-                "│\tUnrestricted Electives                                                      \t40\t\t│\n" +
-                "+-------------------------------------------------------------------------------------------+");
+        List<String> lines = new ArrayList<>();
+        lines.add(TITLE_BORDER);
+        lines.add("║\t" + pad(requirements.getName()) + "\t" + requirements.getUnits() + "\t║");
+        lines.add(TITLE_BORDER);
+        if (audit != null) {
+            lines.add("\t" + formatProgress(requirements, audit));
+        }
+        addModuleLines(requirements, audit, lines);
+        for (RequirementGroup group : requirements.getSubgroups()) {
+            addGroupLines(group, audit, lines);
+        }
+        view.displayMessage(String.join("\n", lines));
+    }
+
+    private void addGroupLines(RequirementGroup group, DegreeAudit audit, List<String> lines) {
+        boolean isTopGroup = group.getParent().getParent() == null;
+        if (isTopGroup) {
+            lines.add(GROUP_BORDER);
+            lines.add("│\t" + pad(group.getName()) + "\t" + group.getUnits() + "\t\t│");
+            lines.add(GROUP_BORDER);
+        } else {
+            lines.add(" ~~\t" + pad(group.getName()) + "\t" + group.getUnits() + "\t ~~");
+        }
+        if (audit != null) {
+            lines.add("\t" + formatProgress(group, audit));
+        }
+        if (!isTopGroup) {
+            lines.add("");
+        }
+        if (addModuleLines(group, audit, lines) || !isTopGroup) {
+            lines.add("");
+        }
+        for (RequirementGroup subgroup : group.getSubgroups()) {
+            addGroupLines(subgroup, audit, lines);
+        }
+    }
+
+    //Returns whether any module was listed
+    private boolean addModuleLines(RequirementGroup group, DegreeAudit audit, List<String> lines) {
+        int linesBefore = lines.size();
+        for (ModuleRequirement requirement : group.getRequirements()) {
+            String module = audit == null ? null : audit.getModuleOf(requirement);
+            String credits = requirement.getCredits() < 0 ? "" : String.valueOf(requirement.getCredits());
+            lines.add("\t" + pad(requirement.getText()) + "\t" + credits + formatStatus(module, audit));
+        }
+        if (audit != null) {
+            for (String module : audit.getModulesCountedIn(group)) {
+                lines.add("\t" + pad(module) + "\t\t" + (audit.isCompleted(module) ? "completed" : "planned"));
+            }
+        }
+        return lines.size() > linesBefore;
+    }
+
+    private static String formatStatus(String module, DegreeAudit audit) {
+        if (module == null) {
+            return "";
+        }
+        return (audit.isCompleted(module) ? "\tcompleted" : "\tplanned") + " (" + module + ")";
+    }
+
+    private static String formatProgress(RequirementGroup group, DegreeAudit audit) {
+        return "Completed " + audit.getCompletedCredits(group) + "/" + group.getRequiredCredits() + " MCs, "
+                + audit.getPlannedCredits(group) + " MCs planned, "
+                + audit.getOutstandingCredits(group) + " MCs outstanding";
+    }
+
+    private static String pad(String text) {
+        return String.format("%-" + TEXT_WIDTH + "s", text);
     }
 
 }
@@ -0,0 +1,155 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming parser for the NUSMods catalog ("moduleList.json"), an array of objects with "moduleCode", "title"
+ * and "semesters" fields. The catalog is read token by token and each entry is handed over as a
+ * {@link ModuleSummary} as soon as it is complete, so neither the raw response nor a JSON tree of the whole
+ * catalog is ever held in memory. Fields other than those three are skipped.
+ */
+public class ModuleCatalogParser implements ContentHandler {
+    private static final int CATALOG_DEPTH = 1;
+    private static final int MODULE_DEPTH = 2;
+    private static final int SEMESTERS_DEPTH = 3;
+
+    private final Consumer<ModuleSummary> consumer;
+
+    //Number of arrays and objects currently open
+    private int depth = 0;
+    private String currentKey;
+    private String moduleCode;
+    private String title;
+    private int[] semesters = new int[4];
+    private int semesterCount;
+
+    private ModuleCatalogParser(Consumer<ModuleSummary> consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * Parses a catalog from a stream of UTF-8 encoded JSON, passing each module to the consumer in catalog order.
+     *
+     * @param catalog  The catalog JSON. It is not closed by this method.
+     * @param consumer Receives every module of the catalog.
+     * @throws ParseException If the stream is not a valid catalog.
+     */
+    public static void parse(InputStream catalog, Consumer<ModuleSummary> consumer) throws IOException,
+            ParseException {
+        parse(new InputStreamReader(catalog, StandardCharsets.UTF_8), consumer);
+    }
+
+    /**
+     * Parses a catalog from a reader, passing each module to the consumer in catalog order.
+     *
+     * @param catalog  The catalog JSON. It is not closed by this method.
+     * @param consumer Receives every module of the catalog.
+     * @throws ParseException If the reader does not hold a valid catalog.
+     */
+    public static void parse(Reader catalog, Consumer<ModuleSummary> consumer) throws IOException,
+            ParseException {
+        new JSONParser().parse(catalog, new ModuleCatalogParser(consumer));
+    }
+
+    /**
+     * Parses a whole catalog into a list.
+     *
+     * @param catalog The catalog JSON. It is not closed by this method.
+     * @return The modules of the catalog, in catalog order.
+     * @throws ParseException If the stream is not a valid catalog.
+     */
+    public static List<ModuleSummary> parseAll(InputStream catalog) throws IOException, ParseException {
+        ArrayList<ModuleSummary> modules = new ArrayList<>();
+        parse(catalog, modules::add);
+        modules.trimToSize();
+        return modules;
+    }
+
+    @Override
+    public void startJSON() {
+        depth = 0;
+    }
+
+    @Override
+    public void endJSON() {
+    }
+
+    @Override
+    public boolean startObject() throws ParseException {
+        depth++;
+        if (depth == CATALOG_DEPTH) {
+            throw new ParseException(ParseException.ERROR_UNEXPECTED_TOKEN);
+        }
+        if (depth == MODULE_DEPTH) {
+            moduleCode = null;
+            title = null;
+            semesterCount = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObject() {
+        if (depth == MODULE_DEPTH && moduleCode != null) {
+            consumer.accept(new ModuleSummary(moduleCode, title, Arrays.copyOf(semesters, semesterCount)));
+        }
+        depth--;
+        return true;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        if (depth == MODULE_DEPTH) {
+            currentKey = key;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() {
+        if (depth == MODULE_DEPTH) {
+            currentKey = null;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean startArray() {
+        depth++;
+        return true;
+    }
+
+    @Override
+    public boolean endArray() {
+        depth--;
+        return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) {
+        if (depth == MODULE_DEPTH && "moduleCode".equals(currentKey) && value instanceof String) {
+            moduleCode = (String) value;
+        } else if (depth == MODULE_DEPTH && "title".equals(currentKey) && value instanceof String) {
+            title = (String) value;
+        } else if (depth == SEMESTERS_DEPTH && "semesters".equals(currentKey) && value instanceof Number) {
+            if (semesterCount == semesters.length) {
+                semesters = Arrays.copyOf(semesters, semesterCount * 2);
+            }
+            semesters[semesterCount++] = ((Number) value).intValue();
+        }
+        return true;
+    }
+}
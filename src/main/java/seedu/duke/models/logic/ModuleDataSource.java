@@ -0,0 +1,82 @@
+package seedu.duke.models.logic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+/**
+ * Source of raw NUSMods API resources, addressed by their path relative to the API root,
+ * e.g. "2023-2024/modules/CS2113.json" or "2023-2024/moduleList.json". All module information and catalog lookups
+ * that are not answered by the caches go through one, so the live API can be replaced
+ * by recorded fixtures or a local stub server.
+ *
+ * <p>The source used by {@link Api} is chosen with the {@code duke.api.source} system property:
+ * <ul>
+ *     <li>{@code http} (the default): the live NUSMods API, see {@link NusModsClient}.</li>
+ *     <li>{@code fixtures}: the recorded responses in the directory named by {@code duke.api.fixtures},
+ *     see {@link FixtureModuleDataSource}.</li>
+ *     <li>{@code stub}: the same fixtures served over HTTP by an in-process {@link StubNusModsServer}, with the
+ *     latency and failure rate given by {@code duke.stub.latencyMillis}, {@code duke.stub.jitterMillis} and
+ *     {@code duke.stub.failureRate}.</li>
+ * </ul>
+ */
+public interface ModuleDataSource {
+
+    /**
+     * Opens a resource. The caller must close the returned stream.
+     *
+     * @param path The path of the resource relative to the API root.
+     * @return The resource body, or null if there is no such resource, e.g. the module does not exist.
+     * @throws IOException If the resource exists but could not be retrieved.
+     * @throws URISyntaxException If the path does not form a valid resource address.
+     */
+    InputStream open(String path) throws IOException, InterruptedException, URISyntaxException;
+
+    /**
+     * Retrieves a resource as text.
+     *
+     * @param path The path of the resource relative to the API root.
+     * @return The resource body, or null if there is no such resource.
+     * @throws IOException If the resource exists but could not be retrieved.
+     * @throws URISyntaxException If the path does not form a valid resource address.
+     */
+    default String fetch(String path) throws IOException, InterruptedException, URISyntaxException {
+        try (InputStream body = open(path)) {
+            return body == null ? null : new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Creates the data source selected by the {@code duke.api.source} system property.
+     *
+     * @return The configured data source.
+     * @throws IllegalArgumentException If the property names an unknown source, or fixtures are selected without
+     *     a fixture directory.
+     */
+    static ModuleDataSource fromSystemProperties() throws IllegalArgumentException {
+        String source = System.getProperty("duke.api.source", "http");
+        switch (source) {
+        case "http":
+            return NusModsClient.fromSystemProperties();
+        case "fixtures":
+        case "stub":
+            String fixtures = System.getProperty("duke.api.fixtures");
+            if (fixtures == null || fixtures.isBlank()) {
+                throw new IllegalArgumentException("duke.api.fixtures must name a fixture directory");
+            }
+            FixtureModuleDataSource fixtureSource = new FixtureModuleDataSource(Paths.get(fixtures));
+            if (source.equals("fixtures")) {
+                return fixtureSource;
+            }
+            try {
+                return StubNusModsServer.fromSystemProperties(fixtureSource).newClient();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Unable to start the stub NUSMods server", e);
+            }
+        default:
+            throw new IllegalArgumentException("Unknown NUSMods data source: " + source);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of parsed module records with least-recently-used eviction.
+ * Callers asking for a module that is already being fetched wait for that fetch instead of starting their own.
+ */
+public class ModuleInfoCache {
+    private final int capacity;
+    private final LinkedHashMap<String, JSONObject> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<JSONObject>> inFlight;
+
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+    private final AtomicLong coalesced;
+
+    /**
+     * Constructs an empty cache holding at most the given number of module records.
+     *
+     * @param capacity The maximum number of module records kept in memory.
+     */
+    public ModuleInfoCache(int capacity) {
+        assert capacity > 0 : "cache capacity must be positive";
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.inFlight = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+        this.coalesced = new AtomicLong();
+    }
+
+    /**
+     * Returns the cached record for a module, loading it with the given loader on a miss.
+     * Only one load runs per module at a time; concurrent callers share its result.
+     * Null results (e.g. invalid module codes) are returned but not cached.
+     *
+     * @param moduleCode The module code to look up.
+     * @param loader     Fetches the module record when it is not cached.
+     * @return The module record, or null if the loader returned null.
+     */
+    public JSONObject get(String moduleCode, Function<String, JSONObject> loader) {
+        JSONObject cached = lookup(moduleCode);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        CompletableFuture<JSONObject> flight = new CompletableFuture<>();
+        CompletableFuture<JSONObject> existingFlight = inFlight.putIfAbsent(moduleCode, flight);
+        if (existingFlight != null) {
+            coalesced.incrementAndGet();
+            try {
+                return await(existingFlight);
+            } catch (InterruptedException e) {
+                //this caller was cancelled while waiting, so it stops rather than waiting for the other caller
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Lookup of " + moduleCode + " was cancelled");
+            } catch (CancellationException e) {
+                //the caller loading it was cancelled, which says nothing about the module, so load it again
+                return get(moduleCode, loader);
+            }
+        }
+
+        try {
+            //another caller may have finished loading between the lookup and claiming the flight
+            JSONObject loaded = lookup(moduleCode);
+            if (loaded != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                loaded = loader.apply(moduleCode);
+                if (loaded != null) {
+                    store(moduleCode, loaded);
+                }
+            }
+            flight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(moduleCode, flight);
+        }
+    }
+
+    private synchronized JSONObject lookup(String moduleCode) {
+        return entries.get(moduleCode);
+    }
+
+    private synchronized void store(String moduleCode, JSONObject moduleInfo) {
+        entries.put(moduleCode, moduleInfo);
+        if (entries.size() > capacity) {
+            Map.Entry<String, JSONObject> eldest = entries.entrySet().iterator().next();
+            entries.remove(eldest.getKey());
+            evictions.incrementAndGet();
+        }
+    }
+
+    //Unlike join, waiting with get stops when the waiting thread is interrupted, e.g. as its job was cancelled
+    private static JSONObject await(CompletableFuture<JSONObject> flight) throws InterruptedException {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Removes every cached record. Counters are left untouched.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Retrieves the number of lookups that waited on a fetch already in flight instead of starting their own.
+     *
+     * @return The number of coalesced lookups.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d/%d hits=%d misses=%d evictions=%d coalesced=%d",
+                size(), capacity, getHitCount(), getMissCount(), getEvictionCount(), getCoalescedCount());
+    }
+}
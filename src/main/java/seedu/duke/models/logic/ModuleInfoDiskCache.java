@@ -0,0 +1,149 @@
+package seedu.duke.models.logic;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+/**
+ * Persistent on-disk cache of raw NUSMods module responses, keyed by academic year and module code.
+ * Entries live at {@code <directory>/<academicYear>/modules/<moduleCode>.json} so that they survive restarts.
+ */
+public class ModuleInfoDiskCache {
+    private static final String DIRECTORY_PROPERTY = "duke.cache.dir";
+    private static final String TTL_PROPERTY = "duke.cache.ttlHours";
+    private static final String ENABLED_PROPERTY = "duke.cache.enabled";
+    private static final long DEFAULT_TTL_HOURS = 24 * 7;
+
+    //Module codes are used as file names, so anything else (e.g. "../x") is never cached
+    private static final Pattern VALID_MODULE_CODE = Pattern.compile("[A-Z0-9]+");
+
+    private final Path modulesDirectory;
+    private final Duration freshness;
+    private final boolean enabled;
+
+    /**
+     * Constructs a disk cache rooted at the given directory.
+     *
+     * @param directory    The root directory of the cache.
+     * @param academicYear The academic year the cached entries belong to, e.g. "2023-2024".
+     * @param freshness    How long an entry is served before it is fetched again.
+     * @param enabled      Whether the cache reads and writes at all.
+     */
+    public ModuleInfoDiskCache(Path directory, String academicYear, Duration freshness, boolean enabled) {
+        this.modulesDirectory = directory.resolve(academicYear).resolve("modules");
+        this.freshness = freshness;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Creates a disk cache configured through the {@code duke.cache.dir}, {@code duke.cache.ttlHours} and
+     * {@code duke.cache.enabled} system properties. Defaults to {@code ~/.nusdegs/cache} with a freshness of 7 days.
+     *
+     * @param academicYear The academic year the cached entries belong to.
+     * @return The configured disk cache.
+     */
+    public static ModuleInfoDiskCache fromSystemProperties(String academicYear) {
+        String defaultDirectory = Paths.get(System.getProperty("user.home"), ".nusdegs", "cache").toString();
+        Path directory = Paths.get(System.getProperty(DIRECTORY_PROPERTY, defaultDirectory));
+        long ttlHours = Long.getLong(TTL_PROPERTY, DEFAULT_TTL_HOURS);
+        boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+        return new ModuleInfoDiskCache(directory, academicYear, Duration.ofHours(ttlHours), enabled);
+    }
+
+    /**
+     * Reads the cached response for a module if it is still within the freshness window.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The cached response body, or null if there is no fresh entry.
+     */
+    public String read(String moduleCode) {
+        Path entry = entryFor(moduleCode);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(entry);
+            if (lastModified.toInstant().plus(freshness).isBefore(Instant.now())) {
+                return null;
+            }
+            return Files.readString(entry, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the cached response for a module regardless of its age. Used when NUSMods cannot be reached.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The cached response body, or null if the module was never cached.
+     */
+    public String readStale(String moduleCode) {
+        Path entry = entryFor(moduleCode);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return Files.readString(entry, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the response for a module. The entry is written to a temporary file first and then moved into place,
+     * so a concurrent reader never observes a partially written entry. Failures are ignored as the cache is only
+     * an optimisation.
+     *
+     * @param moduleCode   The module code the response belongs to.
+     * @param responseBody The raw JSON response from NUSMods.
+     */
+    public void write(String moduleCode, String responseBody) {
+        Path entry = entryFor(moduleCode);
+        if (entry == null) {
+            return;
+        }
+        Path temporary = null;
+        try {
+            Files.createDirectories(modulesDirectory);
+            temporary = Files.createTempFile(modulesDirectory, moduleCode, ".tmp");
+            Files.writeString(temporary, responseBody, StandardCharsets.UTF_8);
+            try {
+                Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            //cache is best effort, the response has already been served
+        } finally {
+            //once moved into place the temporary file is gone, so this only cleans up after a failed write
+            deleteQuietly(temporary);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            //nothing more can be done, the file is ignored by reads as it is not named after a module
+        }
+    }
+
+    private Path entryFor(String moduleCode) {
+        if (!enabled || moduleCode == null || !VALID_MODULE_CODE.matcher(moduleCode).matches()) {
+            return null;
+        }
+        return modulesDirectory.resolve(moduleCode + ".json");
+    }
+}
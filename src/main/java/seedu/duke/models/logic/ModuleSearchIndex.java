@@ -0,0 +1,225 @@
+package seedu.duke.models.logic;
+
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Search index over the module catalog. Titles and module codes are indexed once with an inverted token index
+ * (for ranking whole-word matches) and a trigram index (for case-insensitive substring matches), so a query only
+ * inspects the modules that can possibly match instead of scanning the whole catalog.
+ */
+public class ModuleSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private static final int SCORE_EXACT_CODE = 100;
+    private static final int SCORE_CODE_PREFIX = 50;
+    private static final int SCORE_WHOLE_WORD = 20;
+    private static final int SCORE_WORD_PREFIX = 10;
+    private static final int SCORE_SUBSTRING = 1;
+
+    private final List<ModuleSummary> moduleList;
+    private final ModuleSummary[] modules;
+    private final String[] codes;
+    private final String[] searchableTexts;
+    private final HashMap<String, int[]> tokenIndex;
+    private final HashMap<String, int[]> trigramIndex;
+
+    /**
+     * Builds an index over a list of catalog modules.
+     *
+     * @param moduleList The modules to index.
+     */
+    public ModuleSearchIndex(List<ModuleSummary> moduleList) {
+        this.moduleList = moduleList;
+        int size = moduleList.size();
+        modules = new ModuleSummary[size];
+        codes = new String[size];
+        searchableTexts = new String[size];
+
+        HashMap<String, List<Integer>> tokens = new HashMap<>();
+        HashMap<String, List<Integer>> trigrams = new HashMap<>();
+        for (int id = 0; id < size; id++) {
+            ModuleSummary module = moduleList.get(id);
+            String code = module.getModuleCode().toLowerCase(Locale.ROOT);
+            String title = module.getTitle().toLowerCase(Locale.ROOT);
+            modules[id] = module;
+            codes[id] = code;
+            searchableTexts[id] = code + " " + title;
+
+            for (String token : tokenize(searchableTexts[id])) {
+                addPosting(tokens, token, id);
+            }
+            for (int i = 0; i + GRAM_LENGTH <= searchableTexts[id].length(); i++) {
+                addPosting(trigrams, searchableTexts[id].substring(i, i + GRAM_LENGTH), id);
+            }
+        }
+        tokenIndex = toPostingArrays(tokens);
+        trigramIndex = toPostingArrays(trigrams);
+    }
+
+    private static String[] tokenize(String text) {
+        return text.split("[^a-z0-9]+");
+    }
+
+    private static void addPosting(HashMap<String, List<Integer>> index, String key, int id) {
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Integer> postings = index.computeIfAbsent(key, k -> new ArrayList<>());
+        //ids are added in increasing order, so a duplicate can only be the last entry
+        if (postings.isEmpty() || postings.get(postings.size() - 1) != id) {
+            postings.add(id);
+        }
+    }
+
+    private static HashMap<String, int[]> toPostingArrays(HashMap<String, List<Integer>> index) {
+        HashMap<String, int[]> postingArrays = new HashMap<>(index.size() * 2);
+        for (String key : index.keySet()) {
+            postingArrays.put(key, index.get(key).stream().mapToInt(Integer::intValue).toArray());
+        }
+        return postingArrays;
+    }
+
+    /**
+     * Checks whether this index was built over the given module list instance.
+     *
+     * @param moduleList The module list to compare with.
+     * @return true if the index covers exactly that list.
+     */
+    public boolean isIndexOf(List<ModuleSummary> moduleList) {
+        return this.moduleList == moduleList;
+    }
+
+    /**
+     * Searches for modules whose title or module code contains every keyword of the query, ignoring case.
+     * Results are ranked with exact and prefix module code matches first, then whole-word title matches,
+     * then plain substring matches; ties are broken by module code.
+     *
+     * @param query One or more keywords separated by whitespace.
+     * @return The matching modules, best match first.
+     */
+    public List<ModuleSummary> search(String query) {
+        List<ModuleSummary> results = new ArrayList<>();
+        String[] keywords = query.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        if (keywords[0].isEmpty()) {
+            return results;
+        }
+
+        int[] candidates = null;
+        for (String keyword : keywords) {
+            int[] matches = findSubstringMatches(keyword, candidates);
+            candidates = matches;
+            if (matches.length == 0) {
+                return results;
+            }
+        }
+
+        Integer[] ranked = new Integer[candidates.length];
+        int[] scores = new int[modules.length];
+        for (int i = 0; i < candidates.length; i++) {
+            ranked[i] = candidates[i];
+            scores[candidates[i]] = score(candidates[i], keywords);
+        }
+        Arrays.sort(ranked, (a, b) -> scores[a] != scores[b] ? scores[b] - scores[a] : codes[a].compareTo(codes[b]));
+        for (Integer id : ranked) {
+            results.add(modules[id]);
+        }
+        return results;
+    }
+
+    private int[] findSubstringMatches(String keyword, int[] candidates) {
+        int[] possible = candidates;
+        if (keyword.length() >= GRAM_LENGTH) {
+            for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+                int[] postings = trigramIndex.get(keyword.substring(i, i + GRAM_LENGTH));
+                if (postings == null) {
+                    return new int[0];
+                }
+                possible = possible == null ? postings : intersect(possible, postings);
+            }
+        }
+
+        //trigrams only narrow the candidates down, so confirm the keyword actually occurs
+        int[] matches = new int[possible == null ? modules.length : possible.length];
+        int count = 0;
+        for (int i = 0; i < matches.length; i++) {
+            int id = possible == null ? i : possible[i];
+            if (searchableTexts[id].contains(keyword)) {
+                matches[count++] = id;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static int[] intersect(int[] first, int[] second) {
+        int[] intersection = new int[Math.min(first.length, second.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] == second[j]) {
+                intersection[count++] = first[i];
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(intersection, count);
+    }
+
+    private int score(int id, String[] keywords) {
+        int score = 0;
+        for (String keyword : keywords) {
+            if (codes[id].equals(keyword)) {
+                score += SCORE_EXACT_CODE;
+            } else if (codes[id].startsWith(keyword)) {
+                score += SCORE_CODE_PREFIX;
+            } else if (containsPosting(tokenIndex.get(keyword), id)) {
+                score += SCORE_WHOLE_WORD;
+            } else if (hasWordStartingWith(id, keyword)) {
+                score += SCORE_WORD_PREFIX;
+            } else {
+                score += SCORE_SUBSTRING;
+            }
+        }
+        return score;
+    }
+
+    private static boolean containsPosting(int[] postings, int id) {
+        return postings != null && Arrays.binarySearch(postings, id) >= 0;
+    }
+
+    private boolean hasWordStartingWith(int id, String keyword) {
+        String text = searchableTexts[id];
+        int index = text.indexOf(keyword);
+        while (index != -1) {
+            if (index == 0 || !Character.isLetterOrDigit(text.charAt(index - 1))) {
+                return true;
+            }
+            index = text.indexOf(keyword, index + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves every indexed module, in catalog order.
+     *
+     * @return An unmodifiable view of the indexed module list.
+     */
+    public List<ModuleSummary> getModules() {
+        return Collections.unmodifiableList(moduleList);
+    }
+
+    public int size() {
+        return modules.length;
+    }
+}
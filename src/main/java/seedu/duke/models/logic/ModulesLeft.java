@@ -30,7 +30,7 @@ public class ModulesLeft {
         ModuleList modulesLeft = new ModuleList();
         try {
             modulesLeft.getDifference(modulesMajor, modulesTaken);
-            return modulesLeft.getMainModuleList();
+            return new ArrayList<>(modulesLeft.getMainModuleList());
         } catch (InvalidObjectException e) {
             view.displayMessage("Error: " + e.getMessage());
         }
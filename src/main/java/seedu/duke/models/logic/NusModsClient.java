@@ -0,0 +1,227 @@
+package seedu.duke.models.logic;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import seedu.duke.utils.jfr.NusModsFetchEvent;
+
+/**
+ * Long-lived HTTP client shared by all NUSMods traffic, so that connections, TLS sessions and HTTP/2 streams
+ * are reused across requests instead of being set up again for every module lookup. This is the live
+ * {@link ModuleDataSource}; it also serves as the client of a {@link StubNusModsServer}.
+ */
+public class NusModsClient implements ModuleDataSource {
+    private static final String DEFAULT_BASE_URL = "https://api.nusmods.com/v2/";
+    private static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 5_000;
+    private static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 10_000;
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    /**
+     * Constructs a client for the NUSMods API at the given base URL.
+     *
+     * @param baseUrl        The base URL that request paths are resolved against, e.g. a local stub server.
+     * @param connectTimeout The maximum time to wait for a connection to be established.
+     * @param requestTimeout The default maximum time to wait for a response.
+     */
+    public NusModsClient(String baseUrl, Duration connectTimeout, Duration requestTimeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Creates a client configured through the {@code duke.api.baseUrl}, {@code duke.api.connectTimeoutMillis} and
+     * {@code duke.api.requestTimeoutMillis} system properties, defaulting to the public NUSMods API.
+     *
+     * @return The configured client.
+     */
+    public static NusModsClient fromSystemProperties() {
+        return fromSystemProperties(System.getProperty("duke.api.baseUrl", DEFAULT_BASE_URL));
+    }
+
+    /**
+     * Creates a client for the API at the given base URL, with the timeouts configured through the
+     * {@code duke.api.connectTimeoutMillis} and {@code duke.api.requestTimeoutMillis} system properties.
+     *
+     * @param baseUrl The base URL that request paths are resolved against.
+     * @return The configured client.
+     */
+    public static NusModsClient fromSystemProperties(String baseUrl) {
+        long connectTimeout = Long.getLong("duke.api.connectTimeoutMillis", DEFAULT_CONNECT_TIMEOUT_MILLIS);
+        long requestTimeout = Long.getLong("duke.api.requestTimeoutMillis", DEFAULT_REQUEST_TIMEOUT_MILLIS);
+        return new NusModsClient(baseUrl, Duration.ofMillis(connectTimeout), Duration.ofMillis(requestTimeout));
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Sends a GET request for a path relative to the base URL and returns the response body,
+     * using the default request timeout.
+     *
+     * @param path The path to request, e.g. "2023-2024/modules/CS2113.json".
+     * @return The decoded response body, or null if the resource was not found.
+     * @throws IOException If the request failed or the server responded with an error other than not found.
+     * @throws URISyntaxException If the path does not form a valid URL.
+     */
+    @Override
+    public String fetch(String path) throws IOException, InterruptedException, URISyntaxException {
+        return fetch(path, requestTimeout);
+    }
+
+    /**
+     * Sends a GET request for a path relative to the base URL and returns the response body.
+     * Responses are requested gzip-compressed and decoded transparently.
+     *
+     * @param path    The path to request.
+     * @param timeout The maximum time to wait for this response.
+     * @return The decoded response body, or null if the resource was not found.
+     * @throws IOException If the request failed or the server responded with an error other than not found.
+     * @throws URISyntaxException If the path does not form a valid URL.
+     */
+    public String fetch(String path, Duration timeout) throws IOException, InterruptedException, URISyntaxException {
+        try (InputStream body = open(path, timeout)) {
+            return body == null ? null : new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Sends a GET request for a path relative to the base URL and returns the decoded response body as a stream,
+     * using the default request timeout. The caller must close the stream.
+     *
+     * @param path The path to request.
+     * @return The decoded response body stream, or null if the resource was not found.
+     * @throws IOException If the request failed or the server responded with an error other than not found.
+     * @throws URISyntaxException If the path does not form a valid URL.
+     */
+    @Override
+    public InputStream open(String path) throws IOException, InterruptedException, URISyntaxException {
+        return open(path, requestTimeout);
+    }
+
+    /**
+     * Sends a GET request for a path relative to the base URL and returns the decoded response body as a stream,
+     * so that large responses can be consumed without holding them in memory. The caller must close the stream.
+     *
+     * @param path    The path to request.
+     * @param timeout The maximum time to wait for the response headers.
+     * @return The decoded response body stream, or null if the resource was not found.
+     * @throws IOException If the request failed or the server responded with an error other than not found.
+     * @throws URISyntaxException If the path does not form a valid URL.
+     */
+    public InputStream open(String path, Duration timeout) throws IOException, InterruptedException,
+            URISyntaxException {
+        NusModsFetchEvent event = new NusModsFetchEvent();
+        event.begin();
+        URI uri = new URI(baseUrl + path);
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(timeout)
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException | InterruptedException e) {
+            if (event.shouldCommit()) {
+                event.url = uri.toString();
+                event.commit();
+            }
+            throw e;
+        }
+        InputStream body = response.body();
+        int status = response.statusCode();
+        if (status >= 400) {
+            body.close();
+            if (event.shouldCommit()) {
+                event.url = uri.toString();
+                event.status = status;
+                event.commit();
+            }
+            if (status == HTTP_NOT_FOUND) {
+                return null;
+            }
+            throw new IOException("NUSMods responded with status " + status + " for " + path);
+        }
+        boolean isGzipped = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        if (event.isEnabled()) {
+            event.url = uri.toString();
+            event.status = status;
+            event.gzipped = isGzipped;
+            body = new RecordedBody(body, event);
+        }
+        return isGzipped ? new GZIPInputStream(body) : body;
+    }
+
+    /**
+     * Response body that counts the bytes read from the wire and commits the fetch event when it is closed,
+     * so that the event spans the whole transfer. Only used while a flight recording is running.
+     */
+    private static class RecordedBody extends FilterInputStream {
+        private final NusModsFetchEvent event;
+        private boolean isClosed;
+
+        RecordedBody(InputStream body, NusModsFetchEvent event) {
+            super(body);
+            this.event = event;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                event.bytes++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                event.bytes += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            long skipped = super.skip(count);
+            event.bytes += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!isClosed) {
+                    isClosed = true;
+                    event.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import seedu.duke.models.schema.ModuleCodeRegistry;
+import seedu.duke.models.schema.ModuleSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable, compiled form of a NUSMods prerequisite tree. Each node is either a single module, or an
+ * "and", "or" or "n of" combination of child nodes. Module codes are normalised once at compile time
+ * (grade suffixes such as ":D" and wildcards such as "%" are stripped) and interned, so evaluating the tree
+ * against a student's completed modules is a walk over a few array nodes and bitset lookups.
+ */
+public final class PrereqTree {
+    /** A tree that is satisfied by any set of completed modules. */
+    public static final PrereqTree NONE = new PrereqTree(Kind.AND, null, new PrereqTree[0], 0);
+
+    private static final int NO_MODULE = -1;
+
+    private enum Kind {
+        MODULE, AND, OR, N_OF
+    }
+
+    private final Kind kind;
+    private final String moduleCode;
+    private final int moduleId;
+    private final PrereqTree[] children;
+    private final int requiredCount;
+    private final List<String> moduleCodes;
+
+    private PrereqTree(Kind kind, String moduleCode, PrereqTree[] children, int requiredCount) {
+        this.kind = kind;
+        this.moduleCode = moduleCode;
+        this.moduleId = moduleCode == null ? NO_MODULE : ModuleCodeRegistry.intern(moduleCode);
+        this.children = children;
+        this.requiredCount = requiredCount;
+
+        Set<String> codes = new LinkedHashSet<>();
+        if (moduleCode != null) {
+            codes.add(moduleCode);
+        }
+        for (PrereqTree child : children) {
+            codes.addAll(child.moduleCodes);
+        }
+        this.moduleCodes = Collections.unmodifiableList(new ArrayList<>(codes));
+    }
+
+    /**
+     * Compiles a raw prerequisite tree as returned in the "prereqTree" field of NUSMods module information.
+     *
+     * @param rawTree A module code string, a JSON object such as {"and": [...]}, {"or": [...]} or
+     *                {"nOf": [n, [...]]}, or null if the module has no prerequisites.
+     * @return The compiled tree.
+     * @throws IllegalArgumentException If the raw tree is not in a recognised format.
+     */
+    public static PrereqTree compile(Object rawTree) throws IllegalArgumentException {
+        if (rawTree == null) {
+            return NONE;
+        }
+        if (rawTree instanceof String) {
+            return module((String) rawTree);
+        }
+        if (!(rawTree instanceof Map) || ((Map<?, ?>) rawTree).size() != 1) {
+            throw new IllegalArgumentException("Unrecognised prerequisite tree: " + rawTree);
+        }
+        Map.Entry<?, ?> branch = ((Map<?, ?>) rawTree).entrySet().iterator().next();
+        String key = (String) branch.getKey();
+        Object value = branch.getValue();
+
+        if (key.equals("nOf") && value instanceof List && ((List<?>) value).size() == 2) {
+            List<?> nOf = (List<?>) value;
+            int requiredCount = ((Number) nOf.get(0)).intValue();
+            return new PrereqTree(Kind.N_OF, null, compileChildren(nOf.get(1)), requiredCount);
+        }
+        if (key.equals("and")) {
+            return new PrereqTree(Kind.AND, null, compileChildren(value), 0);
+        }
+        if (key.equals("or")) {
+            return new PrereqTree(Kind.OR, null, compileChildren(value), 0);
+        }
+        throw new IllegalArgumentException("Unrecognised prerequisite tree: " + rawTree);
+    }
+
+    private static PrereqTree[] compileChildren(Object rawChildren) {
+        if (!(rawChildren instanceof List)) {
+            throw new IllegalArgumentException("Unrecognised prerequisite branch: " + rawChildren);
+        }
+        List<?> rawList = (List<?>) rawChildren;
+        PrereqTree[] children = new PrereqTree[rawList.size()];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = compile(rawList.get(i));
+        }
+        return children;
+    }
+
+    /**
+     * Creates a tree that requires every one of the given modules.
+     *
+     * @param moduleCodes The required module codes.
+     * @return The compiled tree.
+     */
+    public static PrereqTree allOf(Collection<String> moduleCodes) {
+        PrereqTree[] children = new PrereqTree[moduleCodes.size()];
+        int i = 0;
+        for (String moduleCode : moduleCodes) {
+            children[i++] = module(moduleCode);
+        }
+        return new PrereqTree(Kind.AND, null, children, 0);
+    }
+
+    static PrereqTree module(String rawModuleCode) {
+        return new PrereqTree(Kind.MODULE, normaliseModuleCode(rawModuleCode), new PrereqTree[0], 0);
+    }
+
+    static PrereqTree and(PrereqTree[] children) {
+        return new PrereqTree(Kind.AND, null, children, 0);
+    }
+
+    static PrereqTree or(PrereqTree[] children) {
+        return new PrereqTree(Kind.OR, null, children, 0);
+    }
+
+    static PrereqTree nOf(int requiredCount, PrereqTree[] children) {
+        return new PrereqTree(Kind.N_OF, null, children, requiredCount);
+    }
+
+    /**
+     * Strips the grade requirement (e.g. "CS1010:D") and wildcard (e.g. "CS1231%") markers used by NUSMods.
+     *
+     * @param rawModuleCode The module code as it appears in the prerequisite tree.
+     * @return The plain module code.
+     */
+    static String normaliseModuleCode(String rawModuleCode) {
+        int gradeIndex = rawModuleCode.indexOf(':');
+        String moduleCode = gradeIndex == -1 ? rawModuleCode : rawModuleCode.substring(0, gradeIndex);
+        return moduleCode.replace("%", "");
+    }
+
+    /**
+     * Checks whether the given completed modules satisfy this tree.
+     *
+     * @param completedModules The modules completed by the student.
+     * @return True if the prerequisites are satisfied, false otherwise.
+     */
+    public boolean isSatisfiedBy(ModuleSet completedModules) {
+        return isSatisfiedBy(completedModules, null);
+    }
+
+    /**
+     * Checks whether the given completed modules satisfy this tree, counting the nodes evaluated on the way.
+     * Evaluation stops as soon as the result is known, so the count shows how much of the tree was needed.
+     *
+     * @param completedModules The modules completed by the student.
+     * @param nodesVisited     A one-element counter incremented for every node evaluated, or null to not count.
+     * @return True if the prerequisites are satisfied, false otherwise.
+     */
+    boolean isSatisfiedBy(ModuleSet completedModules, int[] nodesVisited) {
+        if (nodesVisited != null) {
+            nodesVisited[0]++;
+        }
+        switch (kind) {
+        case MODULE:
+            return completedModules.contains(moduleId);
+        case OR:
+            for (PrereqTree child : children) {
+                if (child.isSatisfiedBy(completedModules, nodesVisited)) {
+                    return true;
+                }
+            }
+            return false;
+        case N_OF: {
+            int satisfied = 0;
+            for (PrereqTree child : children) {
+                if (child.isSatisfiedBy(completedModules, nodesVisited) && ++satisfied >= requiredCount) {
+                    return true;
+                }
+            }
+            return satisfied >= requiredCount;
+        }
+        default:
+            for (PrereqTree child : children) {
+                if (!child.isSatisfiedBy(completedModules, nodesVisited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Collects the modules of this tree that are part of a course's requirements. Within an "or" branch only the
+     * first module that is a course requirement is taken, as any one of them is enough.
+     *
+     * @param courseRequirements The modules required by the course.
+     * @param prerequisites      The list the matching prerequisites are added to.
+     */
+    public void collectCoursePrereqs(Collection<String> courseRequirements, List<String> prerequisites) {
+        if (kind == Kind.MODULE) {
+            if (courseRequirements.contains(moduleCode)) {
+                prerequisites.add(moduleCode);
+            }
+            return;
+        }
+        for (PrereqTree child : children) {
+            if (child.kind != Kind.MODULE) {
+                child.collectCoursePrereqs(courseRequirements, prerequisites);
+            } else if (courseRequirements.contains(child.moduleCode)) {
+                prerequisites.add(child.moduleCode);
+                if (kind == Kind.OR) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists the different sets of modules that satisfy this tree. Each "or" node is a choice between its branches
+     * and each "n of" node a choice between combinations of its branches, so a tree without either gives exactly
+     * one set. A set that contains another set is left out, as taking more modules can never give a better plan.
+     *
+     * @param preferredModules Modules that are taken anyway, e.g. those required by the course. Sets needing fewer
+     *                         modules outside of these are listed first.
+     * @param limit            The most sets to list, to bound the work for very wide trees.
+     * @return The sets of modules, or a single empty set if the tree has no prerequisites.
+     */
+    public List<Set<String>> listAlternatives(Collection<String> preferredModules, int limit) {
+        assert limit > 0 : "limit must be positive";
+        List<Set<String>> alternatives = new ArrayList<>();
+        switch (kind) {
+        case MODULE: {
+            Set<String> alternative = new LinkedHashSet<>();
+            alternative.add(moduleCode);
+            alternatives.add(alternative);
+            break;
+        }
+        case OR:
+            for (PrereqTree child : children) {
+                alternatives.addAll(child.listAlternatives(preferredModules, limit));
+            }
+            break;
+        case N_OF:
+            collectCombinations(Arrays.asList(children), 0, Math.min(requiredCount, children.length),
+                    new ArrayList<>(), preferredModules, limit, alternatives);
+            break;
+        default:
+            alternatives.add(new LinkedHashSet<>());
+            for (PrereqTree child : children) {
+                alternatives = combine(alternatives, child.listAlternatives(preferredModules, limit), limit);
+            }
+            break;
+        }
+        alternatives.sort(Comparator.comparingLong(alternative -> alternative.stream()
+                .filter(module -> !preferredModules.contains(module)).count()));
+        return removeSupersets(alternatives, limit);
+    }
+
+    private static void collectCombinations(List<PrereqTree> choices, int start, int remaining,
+            List<PrereqTree> chosen, Collection<String> preferredModules, int limit,
+            List<Set<String>> alternatives) {
+        if (alternatives.size() >= limit) {
+            return;
+        }
+        if (remaining == 0) {
+            List<Set<String>> combination = new ArrayList<>();
+            combination.add(new LinkedHashSet<>());
+            for (PrereqTree child : chosen) {
+                combination = combine(combination, child.listAlternatives(preferredModules, limit), limit);
+            }
+            alternatives.addAll(combination);
+            return;
+        }
+        for (int i = start; i <= choices.size() - remaining; i++) {
+            chosen.add(choices.get(i));
+            collectCombinations(choices, i + 1, remaining - 1, chosen, preferredModules, limit, alternatives);
+            chosen.remove(chosen.size() - 1);
+        }
+    }
+
+    private static List<Set<String>> combine(List<Set<String>> firsts, List<Set<String>> seconds, int limit) {
+        List<Set<String>> combined = new ArrayList<>();
+        for (Set<String> first : firsts) {
+            for (Set<String> second : seconds) {
+                if (combined.size() >= limit) {
+                    return combined;
+                }
+                Set<String> union = new LinkedHashSet<>(first);
+                union.addAll(second);
+                combined.add(union);
+            }
+        }
+        return combined;
+    }
+
+    private static List<Set<String>> removeSupersets(List<Set<String>> alternatives, int limit) {
+        List<Set<String>> minimal = new ArrayList<>();
+        for (Set<String> alternative : alternatives) {
+            boolean isCovered = false;
+            for (Set<String> kept : minimal) {
+                if (alternative.containsAll(kept)) {
+                    isCovered = true;
+                    break;
+                }
+            }
+            if (!isCovered) {
+                minimal.removeIf(kept -> kept.containsAll(alternative));
+                minimal.add(alternative);
+            }
+        }
+        List<Set<String>> limited = new ArrayList<>();
+        for (Set<String> alternative : minimal.subList(0, Math.min(limit, minimal.size()))) {
+            limited.add(Collections.unmodifiableSet(alternative));
+        }
+        return limited;
+    }
+
+    /**
+     * Retrieves every distinct module mentioned anywhere in this tree.
+     *
+     * @return An unmodifiable list of module codes.
+     */
+    public List<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    /**
+     * Converts this tree back to the NUSMods JSON representation, with normalised module codes.
+     *
+     * @return A module code string, or a JSON object with a single "and", "or" or "nOf" key.
+     */
+    public Object toJson() {
+        if (kind == Kind.MODULE) {
+            return moduleCode;
+        }
+        JSONArray branch = new JSONArray();
+        for (PrereqTree child : children) {
+            branch.add(child.toJson());
+        }
+        JSONObject tree = new JSONObject();
+        if (kind == Kind.N_OF) {
+            JSONArray nOf = new JSONArray();
+            nOf.add((long) requiredCount);
+            nOf.add(branch);
+            tree.put("nOf", nOf);
+        } else {
+            tree.put(kind == Kind.AND ? "and" : "or", branch);
+        }
+        return tree;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(toJson());
+    }
+}
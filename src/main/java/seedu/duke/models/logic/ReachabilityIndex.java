@@ -0,0 +1,227 @@
+package seedu.duke.models.logic;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Transitive closure of a prerequisite graph, computed once so that "is X eventually needed for Y" is a single bit
+ * test. Module codes are interned to ids in alphabetical order, and each module has a bitset row marking every
+ * module that mentions it in its prerequisite tree, directly or through a chain of other modules. The rows are
+ * packed into one array of longs, about n * n / 8 bytes for n modules.
+ *
+ * <p>A module counts as a prerequisite of another if it appears anywhere in that module's prerequisite tree, even
+ * as one option of an "or", so the index answers whether a module may be needed rather than whether it must be.
+ * The index is immutable and safe to share between threads.
+ */
+public class ReachabilityIndex {
+    private static final int NO_MODULE = -1;
+
+    private final String[] moduleOfId;
+    private final Map<String, Integer> idOfModule;
+    private final int wordsPerRow;
+    private final long[] dependentRows;
+
+    /**
+     * Builds the index of a prerequisite graph.
+     *
+     * @param prereqsOfModule The modules mentioned in the prerequisite tree of each module. Modules that are only
+     *                        mentioned as prerequisites are indexed too, as modules without prerequisites.
+     */
+    public ReachabilityIndex(Map<String, ? extends Collection<String>> prereqsOfModule) {
+        Set<String> modules = new TreeSet<>(prereqsOfModule.keySet());
+        for (Collection<String> prereqs : prereqsOfModule.values()) {
+            modules.addAll(prereqs);
+        }
+        moduleOfId = modules.toArray(new String[0]);
+        idOfModule = new HashMap<>();
+        for (int id = 0; id < moduleOfId.length; id++) {
+            idOfModule.put(moduleOfId[id], id);
+        }
+        wordsPerRow = (moduleOfId.length + Long.SIZE - 1) / Long.SIZE;
+        dependentRows = new long[moduleOfId.length * wordsPerRow];
+
+        List<Set<Integer>> directDependents = new ArrayList<>();
+        List<Set<Integer>> directPrereqs = new ArrayList<>();
+        for (int id = 0; id < moduleOfId.length; id++) {
+            directDependents.add(new LinkedHashSet<>());
+            directPrereqs.add(new LinkedHashSet<>());
+        }
+        for (Map.Entry<String, ? extends Collection<String>> entry : prereqsOfModule.entrySet()) {
+            int module = idOfModule.get(entry.getKey());
+            for (String prereq : entry.getValue()) {
+                int prereqId = idOfModule.get(prereq);
+                if (prereqId != module) {
+                    directDependents.get(prereqId).add(module);
+                    directPrereqs.get(module).add(prereqId);
+                }
+            }
+        }
+        computeClosure(directDependents, directPrereqs);
+    }
+
+    //Rows are filled in reverse topological order, each the union of its direct dependents' rows and bits.
+    //Modules on or leading into a prerequisite cycle never become ready, so their rows are iterated to a fixpoint.
+    private void computeClosure(List<Set<Integer>> directDependents, List<Set<Integer>> directPrereqs) {
+        int moduleCount = moduleOfId.length;
+        int[] unfilledDependents = new int[moduleCount];
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        for (int id = 0; id < moduleCount; id++) {
+            unfilledDependents[id] = directDependents.get(id).size();
+            if (unfilledDependents[id] == 0) {
+                ready.add(id);
+            }
+        }
+        while (!ready.isEmpty()) {
+            int module = ready.poll();
+            for (int dependent : directDependents.get(module)) {
+                addDependent(module, dependent);
+            }
+            for (int prereq : directPrereqs.get(module)) {
+                if (--unfilledDependents[prereq] == 0) {
+                    ready.add(prereq);
+                }
+            }
+        }
+
+        List<Integer> unfilled = new ArrayList<>();
+        for (int id = 0; id < moduleCount; id++) {
+            if (unfilledDependents[id] > 0) {
+                unfilled.add(id);
+            }
+        }
+        boolean isChanged = !unfilled.isEmpty();
+        while (isChanged) {
+            isChanged = false;
+            for (int module : unfilled) {
+                for (int dependent : directDependents.get(module)) {
+                    isChanged |= addDependent(module, dependent);
+                }
+            }
+        }
+    }
+
+    //Marks a dependent and everything that depends on it in the module's row
+    private boolean addDependent(int module, int dependent) {
+        int row = module * wordsPerRow;
+        int dependentRow = dependent * wordsPerRow;
+        boolean isChanged = false;
+        for (int word = 0; word < wordsPerRow; word++) {
+            long merged = dependentRows[row + word] | dependentRows[dependentRow + word];
+            if (word == dependent / Long.SIZE) {
+                merged |= 1L << (dependent % Long.SIZE);
+            }
+            isChanged |= merged != dependentRows[row + word];
+            dependentRows[row + word] = merged;
+        }
+        return isChanged;
+    }
+
+    private int idOf(String module) {
+        Integer id = idOfModule.get(module);
+        return id == null ? NO_MODULE : id;
+    }
+
+    private boolean isBitSet(int row, int column) {
+        return (dependentRows[row * wordsPerRow + column / Long.SIZE] & (1L << (column % Long.SIZE))) != 0;
+    }
+
+    public int size() {
+        return moduleOfId.length;
+    }
+
+    /**
+     * Checks whether a module is in the indexed graph, either with its own prerequisites or as a prerequisite.
+     *
+     * @param module The module code.
+     * @return True if the index knows the module.
+     */
+    public boolean contains(String module) {
+        return idOfModule.containsKey(module);
+    }
+
+    /**
+     * Checks whether a module is needed, directly or through a chain of other modules, before another can be taken.
+     *
+     * @param prereq The module that may be a prerequisite.
+     * @param module The module whose prerequisites are checked.
+     * @return True if the prerequisite leads to the module, false if not or if either module is not indexed.
+     */
+    public boolean isPrerequisiteOf(String prereq, String module) {
+        int prereqId = idOf(prereq);
+        int moduleId = idOf(module);
+        return prereqId != NO_MODULE && moduleId != NO_MODULE && isBitSet(prereqId, moduleId);
+    }
+
+    /**
+     * Retrieves every module that a module eventually leads to.
+     *
+     * @param module The module code.
+     * @return The modules it is a direct or indirect prerequisite of, in alphabetical order.
+     */
+    public List<String> getUnlocks(String module) {
+        List<String> unlocks = new ArrayList<>();
+        int id = idOf(module);
+        if (id == NO_MODULE) {
+            return unlocks;
+        }
+        int row = id * wordsPerRow;
+        for (int word = 0; word < wordsPerRow; word++) {
+            long bits = dependentRows[row + word];
+            while (bits != 0) {
+                int dependent = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                if (dependent != id) {
+                    unlocks.add(moduleOfId[dependent]);
+                }
+                bits &= bits - 1;
+            }
+        }
+        return unlocks;
+    }
+
+    /**
+     * Counts the modules that a module eventually leads to, without listing them.
+     *
+     * @param module The module code.
+     * @return The number of modules it is a direct or indirect prerequisite of.
+     */
+    public int countUnlocks(String module) {
+        int id = idOf(module);
+        if (id == NO_MODULE) {
+            return 0;
+        }
+        int count = 0;
+        int row = id * wordsPerRow;
+        for (int word = 0; word < wordsPerRow; word++) {
+            count += Long.bitCount(dependentRows[row + word]);
+        }
+        return isBitSet(id, id) ? count - 1 : count;
+    }
+
+    /**
+     * Retrieves every module that must or may be taken, directly or indirectly, before a module. Unlike the other
+     * queries this reads one bit of every row, so it takes time linear in the size of the index.
+     *
+     * @param module The module code.
+     * @return The direct and indirect prerequisites of the module, in alphabetical order.
+     */
+    public List<String> getPrerequisites(String module) {
+        List<String> prereqs = new ArrayList<>();
+        int id = idOf(module);
+        if (id == NO_MODULE) {
+            return prereqs;
+        }
+        for (int prereq = 0; prereq < moduleOfId.length; prereq++) {
+            if (prereq != id && isBitSet(prereq, id)) {
+                prereqs.add(moduleOfId[prereq]);
+            }
+        }
+        return prereqs;
+    }
+}
@@ -2,67 +2,423 @@ package seedu.duke.models.logic;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
+import seedu.duke.models.schema.PlanAlternative;
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.models.schema.SemesterPlan;
+import seedu.duke.utils.Job;
+import seedu.duke.utils.Metrics;
+import seedu.duke.utils.jfr.ScheduleGenerationEvent;
+
+import static seedu.duke.models.logic.Api.getModuleCredit;
 import static seedu.duke.models.logic.Api.getModulePrereqBasedOnCourse;
+import static seedu.duke.models.logic.Api.getPrereqAlternatives;
+import static seedu.duke.models.logic.DataRepository.getRequirementSet;
 import static seedu.duke.models.logic.DataRepository.getRequirements;
 
 public class ScheduleGenerator {
 
-    //Topological sort to create schedule
+    //Upper bound on concurrent NUSMods requests made while prefetching
+    private static final int PREFETCH_PARALLELISM = Integer.getInteger("duke.prefetch.parallelism", 8);
+
+    //Most modular credits planned in one semester, the standard NUS workload
+    private static final int MAX_CREDITS_PER_SEMESTER = Integer.getInteger("duke.schedule.maxCredits", 20);
+
+    //Bounds on the alternative plan search: the sets of prerequisites considered per module, how many steps of
+    //prerequisites outside the course are followed, and the complete plans evaluated before settling
+    private static final int MAX_ALTERNATIVES_PER_MODULE = 8;
+    private static final int MAX_ADDITIONAL_MODULE_DEPTH = 2;
+    private static final long MAX_EVALUATED_PLANS = 200_000;
+
+    //Dependency graph of each course, kept between recommendations and updated as requirements and plans change
+    private static final Map<String, CourseGraph> COURSE_GRAPHS = new ConcurrentHashMap<>();
+
+    /**
+     * Generates a recommended order in which to take the modules required by a course.
+     *
+     * @param course The course, e.g. "CEG".
+     * @return The required modules, semester by semester as planned by {@link #generateRecommendedPlan(String)}.
+     */
     public static ArrayList<String> generateRecommendedSchedule(String course){
-        ArrayList<String> requirements = getRequirements(course);
-        HashMap<String, Integer> degreeMap = new HashMap<>();
-        Queue<String> q = new LinkedList<>();
-        ArrayList<String> schedule = new ArrayList<>();
-        HashMap<String, ArrayList<String>> adjacencyList = new HashMap<>();
+        return new ArrayList<>(generateRecommendedPlan(course).getModuleOrder());
+    }
+
+    /**
+     * Plans the modules required by a course over the semesters of a degree, starting the longest prerequisite
+     * chains first and keeping every semester within {@code duke.schedule.maxCredits} modular credits. The plan is
+     * made from the course's dependency graph, which is only rebuilt where the requirements have changed, and which
+     * also holds the modules the student added and leaves out those they completed.
+     *
+     * @param course The course, e.g. "CEG".
+     * @return The plan, with any modules that do not fit in the available semesters listed as unscheduled.
+     */
+    public static SemesterPlan generateRecommendedPlan(String course) {
+        return generateRecommendedPlan(course, Map.of());
+    }
+
+    /**
+     * Plans the modules required by a course as {@link #generateRecommendedPlan(String)} does, keeping the modules
+     * the student has already scheduled in their semesters and planning the others around them.
+     *
+     * @param course         The course, e.g. "CEG".
+     * @param fixedSemesters The semester of each module already in the student's schedule.
+     * @return The plan, including the already scheduled modules of the course in their semesters.
+     */
+    public static SemesterPlan generateRecommendedPlan(String course, Map<String, Integer> fixedSemesters) {
+        ScheduleGenerationEvent event = new ScheduleGenerationEvent();
+        event.begin();
+        long prefetchStart = System.nanoTime();
+        CourseGraph courseGraph = getCourseGraph(course);
+        Metrics.recordSince("schedule.prefetch", prefetchStart);
 
-        //initialisation
-        for(String requirement: requirements) {
-            adjacencyList.put(requirement, new ArrayList<>());
-            degreeMap.put(requirement, 0);
+        long graphBuildStart = System.nanoTime();
+        CriticalPathScheduler scheduler;
+        synchronized (courseGraph) {
+            scheduler = courseGraph.graph.toScheduler();
         }
 
-        for (String requirement : requirements) {
-            ArrayList<String> prereqArray = getModulePrereqBasedOnCourse(requirement, course);
+        long planStart = System.nanoTime();
+        SemesterPlan plan = scheduler.plan(MAX_CREDITS_PER_SEMESTER, Schedule.getMaximumSemesters(), fixedSemesters);
+        long planEnd = System.nanoTime();
+        event.end();
+        if (event.shouldCommit()) {
+            event.course = course;
+            event.modules = scheduler.getModuleCount();
+            event.edges = scheduler.getEdgeCount();
+            event.semesters = plan.getLastSemester();
+            event.prefetchDuration = graphBuildStart - prefetchStart;
+            event.graphBuildDuration = planStart - graphBuildStart;
+            event.planDuration = planEnd - planStart;
+            event.commit();
+        }
+        return plan;
+    }
+
+    /**
+     * Retrieves the most modular credits planned in one semester, set by {@code duke.schedule.maxCredits}.
+     *
+     * @return The credit cap of a semester.
+     */
+    public static int getMaxCreditsPerSemester() {
+        return MAX_CREDITS_PER_SEMESTER;
+    }
 
-            if (prereqArray == null) {
-                prereqArray = new ArrayList<>();
+    /**
+     * Adds a module the student has planned outside the requirements of a course to the course's dependency graph,
+     * so that recommended plans take it after its prerequisites and before the modules that need it. If the graph
+     * has not been built yet, the module is only recorded and is added when the graph is built.
+     *
+     * @param course The course, e.g. "CEG".
+     * @param module The module added to the student's schedule.
+     */
+    public static void includeModule(String course, String module) {
+        CourseGraph courseGraph = COURSE_GRAPHS.computeIfAbsent(course, key -> new CourseGraph());
+        synchronized (courseGraph) {
+            if (!courseGraph.isBuilt()) {
+                courseGraph.addedModules.add(module);
+                return;
+            }
+            if (courseGraph.graph.contains(module)) {
+                return;
             }
+        }
+        //looked up outside the lock, so that a background job planning the course is never held up by it
+        ArrayList<String> prereqs = getModulePrereqBasedOnCourse(module, course);
+        int credits;
+        try {
+            credits = getModuleCredit(module);
+        } catch (IllegalArgumentException e) {
+            //a module without credits cannot be planned, so it is left out of recommendations
+            return;
+        }
+        synchronized (courseGraph) {
+            courseGraph.addedModules.add(module);
+            if (!courseGraph.graph.contains(module)) {
+                courseGraph.graph.addModule(module, credits, prereqs == null ? List.of() : prereqs);
+                courseGraph.applyCompleted(module);
+            }
+        }
+    }
 
-            //we need to create an adjacency list to add all the connections
-            // from pre req -> item
-            for (String s : prereqArray) {
-                adjacencyList.get(s).add(requirement);
-                Integer value = degreeMap.get(requirement) + 1;
-                degreeMap.put(requirement, value);
+    /**
+     * Removes a module added with {@link #includeModule(String, String)} from the course's dependency graph.
+     * Modules required by the course always stay in the graph.
+     *
+     * @param course The course, e.g. "CEG".
+     * @param module The module deleted from the student's schedule.
+     */
+    public static void excludeModule(String course, String module) {
+        CourseGraph courseGraph = COURSE_GRAPHS.computeIfAbsent(course, key -> new CourseGraph());
+        synchronized (courseGraph) {
+            //a required module recorded before the graph was built stays in it
+            if (courseGraph.addedModules.remove(module) && courseGraph.isBuilt()
+                    && !getRequirementSet(course).contains(module)) {
+                courseGraph.graph.removeModule(module);
             }
         }
+    }
 
-        for (String key : degreeMap.keySet()) {
-            Integer value = degreeMap.get(key);
-            if(value == 0){
-                q.offer(key);
+    /**
+     * Marks a module of a course as completed or not, leaving completed modules out of recommended plans. The
+     * change is recorded and applied to the course's dependency graph once it is built, so it never waits for
+     * the graph.
+     *
+     * @param course      The course, e.g. "CEG".
+     * @param module      The module.
+     * @param isCompleted Whether the student has completed the module.
+     */
+    public static void setModuleCompleted(String course, String module, boolean isCompleted) {
+        CourseGraph courseGraph = COURSE_GRAPHS.computeIfAbsent(course, key -> new CourseGraph());
+        synchronized (courseGraph) {
+            if (isCompleted) {
+                courseGraph.completedModules.add(module);
+            } else {
+                courseGraph.completedModules.remove(module);
+            }
+            if (courseGraph.graph.contains(module)) {
+                courseGraph.graph.setCompleted(module, isCompleted);
             }
         }
+    }
 
-        while(!q.isEmpty()){
-            String curr = q.poll();
-            schedule.add(curr);
-            ArrayList<String> currReq = adjacencyList.get(curr);
-            for (String s : currReq) {
-                int num = degreeMap.get(s) - 1;
-                degreeMap.put(s, num);
-                if (num == 0) {
-                    q.offer(s);
+    //Builds the dependency graph of a course on first use, and afterwards updates it with any change to the course's
+    //requirements, fetching only the prerequisites of new requirements. Lookups are made outside the lock, so
+    //commands that change the graph only wait for the graph to be updated, never for the network
+    private static CourseGraph getCourseGraph(String course) {
+        CourseGraph courseGraph = COURSE_GRAPHS.computeIfAbsent(course, key -> new CourseGraph());
+        List<String> requirements = getRequirements(course);
+        Set<String> requiredModules = getRequirementSet(course);
+        List<String> modules;
+        synchronized (courseGraph) {
+            if (requirements.equals(courseGraph.requirements)) {
+                return courseGraph;
+            }
+            modules = new ArrayList<>(requirements);
+            for (String module : courseGraph.addedModules) {
+                if (!requiredModules.contains(module)) {
+                    modules.add(module);
                 }
             }
         }
 
-        return schedule;
+        //prerequisites are restricted to the requirements, so those of existing modules may change as well
+        Map<String, ArrayList<String>> prereqsByModule = prefetchPrereqs(modules, course);
+        Map<String, Integer> creditsByModule = new HashMap<>();
+        for (String module : modules) {
+            try {
+                creditsByModule.put(module, getModuleCredit(module));
+            } catch (IllegalArgumentException e) {
+                //a module without credits cannot be planned, so it is left out of recommendations
+            }
+        }
+
+        synchronized (courseGraph) {
+            if (requirements.equals(courseGraph.requirements)) {
+                return courseGraph;
+            }
+            for (String module : courseGraph.graph.getModules()) {
+                if (!requiredModules.contains(module) && !courseGraph.addedModules.contains(module)) {
+                    courseGraph.graph.removeModule(module);
+                }
+            }
+            for (String module : modules) {
+                //modules deleted while the lookups ran are left out
+                boolean isWanted = requiredModules.contains(module) || courseGraph.addedModules.contains(module);
+                if (!isWanted || !creditsByModule.containsKey(module)) {
+                    continue;
+                }
+                courseGraph.graph.addModule(module, creditsByModule.get(module), prereqsByModule.get(module));
+                courseGraph.applyCompleted(module);
+            }
+            courseGraph.requirements = requirements;
+            return courseGraph;
+        }
     }
 
-}
+    /**
+     * Fetches the course-based prerequisites of every module concurrently, with at most
+     * {@code duke.prefetch.parallelism} requests in flight, so that the total latency is close to that of the
+     * slowest single lookup rather than the sum of all of them.
+     *
+     * @param modules The modules whose prerequisites are needed.
+     * @param course  The course the prerequisites are flattened against.
+     * @return A map from each module to its prerequisites, in the order of the given modules. Modules without
+     *     prerequisites map to an empty list.
+     */
+    public static Map<String, ArrayList<String>> prefetchPrereqs(List<String> modules, String course) {
+        Map<String, ArrayList<String>> prereqsByModule = fetchConcurrently(modules,
+                module -> getModulePrereqBasedOnCourse(module, course));
+        prereqsByModule.replaceAll((module, prereqs) -> prereqs == null ? new ArrayList<>() : prereqs);
+        return prereqsByModule;
+    }
+
+    /**
+     * Loads everything later commands look up for a course ahead of time: the module info and compiled prerequisite
+     * tree of every module the course requires, fetched with at most {@code duke.prefetch.parallelism} requests in
+     * flight, and the course's dependency graph built from them. The first warm-up also builds the reachability index
+     * of every major's requirements used by the unlocks and dependents commands. Afterwards adding, planning and
+     * checking the prerequisites of required modules makes no requests.
+     *
+     * @param course The course, e.g. "CEG".
+     * @return A map from each required module to its prerequisites within the course, in the order of the
+     *     requirements.
+     */
+    public static Map<String, ArrayList<String>> warmUp(String course) {
+        long start = System.nanoTime();
+        //fetched for every required module, as modules outside the prerequisite search are still added and shown
+        fetchConcurrently(getRequirements(course), Api::getPrereqTree);
+        CourseGraph courseGraph = getCourseGraph(course);
+        Map<String, ArrayList<String>> prereqsByModule = new LinkedHashMap<>();
+        synchronized (courseGraph) {
+            for (String module : courseGraph.requirements) {
+                prereqsByModule.put(module, new ArrayList<>(courseGraph.graph.getPrereqs(module)));
+            }
+        }
+        if (!Api.isReachabilityIndexBuilt()) {
+            Api.buildReachabilityIndex(fetchConcurrently(Api.getReachabilityIndexModules(), Api::getPrereqTree));
+        }
+        Metrics.recordSince("schedule.warmup", start);
+        return prereqsByModule;
+    }
+
+    /**
+     * Searches for the best plans of a course over the different prerequisites its modules can be taken with,
+     * including prerequisites outside the course that would be taken as additional modules. All prerequisites and
+     * credits are fetched before the search starts, following prerequisites outside the course for a bounded
+     * number of steps, so the search itself done by {@link AlternativePlanSearch} makes no lookups.
+     *
+     * @param course The course, e.g. "CEG".
+     * @param count  The number of plans to return.
+     * @return Up to {@code count} distinct plans, best first. The first is usually the recommended plan.
+     */
+    public static List<PlanAlternative> generateAlternativePlans(String course, int count) {
+        long start = System.nanoTime();
+        List<String> requirements = getRequirements(course);
+        Map<String, List<Set<String>>> prereqAlternatives = new HashMap<>();
+        Set<String> lookedUp = new HashSet<>();
+        List<String> lookups = requirements;
+        for (int depth = 0; depth <= MAX_ADDITIONAL_MODULE_DEPTH && !lookups.isEmpty(); depth++) {
+            lookedUp.addAll(lookups);
+            Map<String, List<Set<String>>> found = fetchConcurrently(lookups,
+                    module -> getPrereqAlternatives(module, course, MAX_ALTERNATIVES_PER_MODULE));
+            Set<String> nextLookups = new LinkedHashSet<>();
+            for (Map.Entry<String, List<Set<String>>> entry : found.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                prereqAlternatives.put(entry.getKey(), entry.getValue());
+                for (Set<String> alternative : entry.getValue()) {
+                    for (String prereq : alternative) {
+                        if (!lookedUp.contains(prereq)) {
+                            nextLookups.add(prereq);
+                        }
+                    }
+                }
+            }
+            lookups = new ArrayList<>(nextLookups);
+        }
+
+        Map<String, Integer> credits = new HashMap<>();
+        for (String requirement : requirements) {
+            credits.put(requirement, getModuleCredit(requirement));
+        }
+        for (String module : prereqAlternatives.keySet()) {
+            try {
+                credits.putIfAbsent(module, getModuleCredit(module));
+            } catch (IllegalArgumentException e) {
+                //a module without credits cannot be planned, so the search leaves it out
+            }
+        }
+        Metrics.recordSince("schedule.alternatives.prefetch", start);
+
+        AlternativePlanSearch search = new AlternativePlanSearch(requirements, prereqAlternatives, credits,
+                MAX_CREDITS_PER_SEMESTER, Schedule.getMaximumSemesters(), MAX_EVALUATED_PLANS);
+        List<PlanAlternative> plans = search.search(count);
+        Metrics.counter("schedule.alternatives.evaluated").add(search.getEvaluatedPlans());
+        Metrics.counter("schedule.alternatives.pruned").add(search.getPrunedBranches());
+        Metrics.recordSince("schedule.alternatives", start);
+        return plans;
+    }
+
+    /**
+     * Looks up every module concurrently, with at most {@code duke.prefetch.parallelism} lookups in flight.
+     *
+     * @param modules The modules to look up.
+     * @param lookup  The lookup of a single module.
+     * @return A map from each module to the result of its lookup, in the order of the given modules.
+     */
+    private static <T> Map<String, T> fetchConcurrently(List<String> modules, Function<String, T> lookup) {
+        Map<String, T> resultByModule = new LinkedHashMap<>();
+        if (modules.isEmpty()) {
+            return resultByModule;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(PREFETCH_PARALLELISM, modules.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "prereq-prefetch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        //lookups are reported to the background job running this, if any, and are stopped with it
+        Job job = Job.current();
+        AtomicInteger fetched = new AtomicInteger();
+        try {
+            Map<String, Future<T>> pending = new LinkedHashMap<>();
+            for (String module : modules) {
+                pending.put(module, executor.submit(() -> {
+                    T result = lookup.apply(module);
+                    if (job != null) {
+                        job.setProgress(fetched.incrementAndGet() + "/" + modules.size() + " modules fetched");
+                    }
+                    return result;
+                }));
+            }
+            for (Map.Entry<String, Future<T>> entry : pending.entrySet()) {
+                resultByModule.put(entry.getKey(), entry.getValue().get());
+            }
+            return resultByModule;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Looking up " + modules.size() + " modules was cancelled");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
+    //Dependency graph of a course, with the requirements it was last updated with, and the modules the student added
+    //and completed, which are kept even before the graph is built so that they can be applied to it
+    private static final class CourseGraph {
+        private final DependencyGraph graph = new DependencyGraph();
+        private final Set<String> addedModules = new HashSet<>();
+        private final Set<String> completedModules = new HashSet<>();
+        private List<String> requirements = null;
+
+        private boolean isBuilt() {
+            return requirements != null;
+        }
 
+        private void applyCompleted(String module) {
+            if (completedModules.contains(module)) {
+                graph.setCompleted(module, true);
+            }
+        }
+    }
+}
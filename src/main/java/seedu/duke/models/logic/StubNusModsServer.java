@@ -0,0 +1,220 @@
+package seedu.duke.models.logic;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-process HTTP server that stands in for the NUSMods API, serving the resources of another data source
+ * (usually a {@link FixtureModuleDataSource}) on a local port. Every response can be delayed by a fixed latency
+ * plus random jitter, and a fraction of requests can be failed with "503 Service Unavailable", so that caching,
+ * prefetching and parallel lookups can be exercised under realistic network conditions without a network.
+ *
+ * <p>Requests are handled on a thread each, so concurrent requests wait out their latency in parallel as they
+ * would against the real API. Responses are gzip-compressed when the client accepts it.
+ */
+public class StubNusModsServer implements AutoCloseable {
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_UNAVAILABLE = 503;
+    private static final byte[] NOT_FOUND_BODY =
+            "<Error><Code>NoSuchKey</Code></Error>".getBytes(StandardCharsets.UTF_8);
+
+    static {
+        //Without TCP_NODELAY the built-in server's separate header and body writes wait out the client's delayed ACK,
+        //adding about 40ms to every response. The setting is read when the first server is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ModuleDataSource backend;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder injectedFailureCount = new LongAdder();
+
+    private volatile long latencyMillis;
+    private volatile long jitterMillis;
+    private volatile double failureRate;
+
+    private StubNusModsServer(ModuleDataSource backend) throws IOException {
+        this.backend = backend;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-nusmods");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts a server on a free local port, with no latency and no failures.
+     *
+     * @param backend The data source whose resources are served.
+     * @return The running server.
+     * @throws IOException If the server could not be started.
+     */
+    public static StubNusModsServer start(ModuleDataSource backend) throws IOException {
+        StubNusModsServer stub = new StubNusModsServer(backend);
+        //HttpServer's dispatcher thread takes its daemon status from the thread that starts it, so starting it from
+        //a daemon thread keeps a server that is never closed from holding the JVM open
+        Thread starter = new Thread(stub.server::start);
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stub.close();
+            throw new IOException("Interrupted while starting the stub server", e);
+        }
+        return stub;
+    }
+
+    /**
+     * Starts a server configured through the {@code duke.stub.latencyMillis}, {@code duke.stub.jitterMillis} and
+     * {@code duke.stub.failureRate} system properties.
+     *
+     * @param backend The data source whose resources are served.
+     * @return The running server.
+     * @throws IOException If the server could not be started.
+     */
+    public static StubNusModsServer fromSystemProperties(ModuleDataSource backend) throws IOException {
+        StubNusModsServer stub = start(backend);
+        stub.setLatency(Duration.ofMillis(Long.getLong("duke.stub.latencyMillis", 0)),
+                Duration.ofMillis(Long.getLong("duke.stub.jitterMillis", 0)));
+        stub.setFailureRate(Double.parseDouble(System.getProperty("duke.stub.failureRate", "0")));
+        return stub;
+    }
+
+    /**
+     * Sets the delay added to every response.
+     *
+     * @param latency The fixed part of the delay.
+     * @param jitter  The upper bound of a uniformly random delay added on top of the fixed part.
+     */
+    public void setLatency(Duration latency, Duration jitter) {
+        assert !latency.isNegative() && !jitter.isNegative() : "latency cannot be negative";
+        this.latencyMillis = latency.toMillis();
+        this.jitterMillis = jitter.toMillis();
+    }
+
+    /**
+     * Sets the fraction of requests that are answered with "503 Service Unavailable" instead of the resource.
+     *
+     * @param failureRate The failure rate, from 0 (never fail) to 1 (always fail).
+     * @throws IllegalArgumentException If the rate is outside that range.
+     */
+    public void setFailureRate(double failureRate) throws IllegalArgumentException {
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("Failure rate must be between 0 and 1");
+        }
+        this.failureRate = failureRate;
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getInjectedFailureCount() {
+        return injectedFailureCount.sum();
+    }
+
+    /**
+     * Creates a client for this server, with the timeouts configured through system properties.
+     *
+     * @return The client, usable as the data source of {@link Api}.
+     */
+    public NusModsClient newClient() {
+        return NusModsClient.fromSystemProperties(getBaseUrl());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requestCount.increment();
+            delay();
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                injectedFailureCount.increment();
+                exchange.sendResponseHeaders(HTTP_UNAVAILABLE, -1);
+                return;
+            }
+            String path = exchange.getRequestURI().getPath().substring(1);
+            try (InputStream resource = backend.open(path)) {
+                if (resource == null) {
+                    exchange.sendResponseHeaders(HTTP_NOT_FOUND, NOT_FOUND_BODY.length);
+                    exchange.getResponseBody().write(NOT_FOUND_BODY);
+                    return;
+                }
+                sendResource(exchange, resource);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.sendResponseHeaders(HTTP_UNAVAILABLE, -1);
+            } catch (URISyntaxException e) {
+                exchange.sendResponseHeaders(HTTP_NOT_FOUND, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void sendResource(HttpExchange exchange, InputStream resource) throws IOException {
+        byte[] body = resource.readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(HTTP_OK, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private void delay() {
+        long delayMillis = latencyMillis;
+        if (jitterMillis > 0) {
+            delayMillis += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+        }
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the server immediately.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
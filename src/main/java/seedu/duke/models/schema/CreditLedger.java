@@ -0,0 +1,122 @@
+package seedu.duke.models.schema;
+
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * Keeps the modular credits of a student's scheduled and completed modules, with running totals per semester, up to
+ * each semester and overall. Every change updates the totals directly, so reading them never looks modules up again.
+ */
+public class CreditLedger {
+    private final int[] creditsPerSem;
+    //creditsUpToSem[k] holds the credits of semesters 1 to k
+    private final int[] creditsUpToSem;
+    private final HashMap<String, Integer> creditsOfModule;
+    private final HashMap<String, Integer> semesterOfModule;
+    private final HashSet<String> completedModules;
+    private int completedCredits;
+
+    /**
+     * Constructs an empty ledger.
+     *
+     * @param semesters The number of semesters in the schedule.
+     */
+    public CreditLedger(int semesters) {
+        creditsPerSem = new int[semesters];
+        creditsUpToSem = new int[semesters + 1];
+        creditsOfModule = new HashMap<>();
+        semesterOfModule = new HashMap<>();
+        completedModules = new HashSet<>();
+    }
+
+    /**
+     * Records a module scheduled in a semester. A module that is already scheduled is moved to the new semester.
+     *
+     * @param module  The module code.
+     * @param sem     The semester, from 1 on.
+     * @param credits The modular credits of the module.
+     */
+    public void recordScheduled(String module, int sem, int credits) {
+        recordUnscheduled(module);
+        creditsOfModule.put(module, credits);
+        semesterOfModule.put(module, sem);
+        addToSemester(sem, credits);
+    }
+
+    /**
+     * Records a module removed from the schedule. Its credits stay known, e.g. for when it is completed.
+     *
+     * @param module The module code.
+     */
+    public void recordUnscheduled(String module) {
+        Integer sem = semesterOfModule.remove(module);
+        if (sem != null) {
+            addToSemester(sem, -creditsOfModule.get(module));
+        }
+    }
+
+    /**
+     * Records a completed module, unless it is already completed.
+     *
+     * @param module  The module code.
+     * @param credits The modular credits of the module.
+     */
+    public void recordCompleted(String module, int credits) {
+        if (completedModules.add(module)) {
+            creditsOfModule.putIfAbsent(module, credits);
+            completedCredits += creditsOfModule.get(module);
+        }
+    }
+
+    //the schedule has a fixed, small number of semesters, so this takes constant time
+    private void addToSemester(int sem, int credits) {
+        creditsPerSem[sem - 1] += credits;
+        for (int k = sem; k < creditsUpToSem.length; k++) {
+            creditsUpToSem[k] += credits;
+        }
+    }
+
+    /**
+     * Retrieves the credits of a module recorded in the ledger.
+     *
+     * @param module The module code.
+     * @return The modular credits, or -1 if the module has not been recorded.
+     */
+    public int getCreditsOf(String module) {
+        return creditsOfModule.getOrDefault(module, -1);
+    }
+
+    public int getCredits(int sem) {
+        return creditsPerSem[sem - 1];
+    }
+
+    /**
+     * Retrieves the credits scheduled in semesters 1 to sem.
+     *
+     * @param sem The last semester counted, from 0 on.
+     * @return The credits scheduled up to and including the semester.
+     */
+    public int getCreditsUpTo(int sem) {
+        return creditsUpToSem[sem];
+    }
+
+    public int getScheduledCredits() {
+        return creditsUpToSem[creditsPerSem.length];
+    }
+
+    public int getCompletedCredits() {
+        return completedCredits;
+    }
+
+    /**
+     * Checks whether a semester would go over a credit limit with more modules added to it.
+     *
+     * @param sem          The semester, from 1 on.
+     * @param addedCredits The credits of the modules to add, or 0 to check the semester as it is.
+     * @param limit        The most modular credits allowed in one semester.
+     * @return true if the semester's credits would be over the limit.
+     */
+    public boolean isOverloaded(int sem, int addedCredits, int limit) {
+        return creditsPerSem[sem - 1] + addedCredits > limit;
+    }
+}
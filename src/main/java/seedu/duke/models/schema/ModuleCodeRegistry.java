@@ -0,0 +1,78 @@
+package seedu.duke.models.schema;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interning table that maps each module code seen by the application to a dense integer ID.
+ * IDs start at 0 and are never reused, so they can index bitsets and arrays directly.
+ */
+public final class ModuleCodeRegistry {
+    private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final Object LOCK = new Object();
+
+    //Published through a volatile write so that readers never see a partially filled slot
+    private static volatile String[] codes = new String[256];
+    private static int size = 0;
+
+    private ModuleCodeRegistry() {
+    }
+
+    /**
+     * Retrieves the ID of a module code, assigning the next free ID if the code has not been seen before.
+     *
+     * @param moduleCode The module code to intern.
+     * @return The ID of the module code.
+     */
+    public static int intern(String moduleCode) {
+        assert moduleCode != null : "module code cannot be null";
+        Integer id = IDS.get(moduleCode);
+        if (id != null) {
+            return id;
+        }
+        synchronized (LOCK) {
+            id = IDS.get(moduleCode);
+            if (id != null) {
+                return id;
+            }
+            String[] current = codes;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[size] = moduleCode;
+            codes = current;
+            IDS.put(moduleCode, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Retrieves the ID of a module code without interning it.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The ID of the module code, or -1 if it has never been interned.
+     */
+    public static int idOf(String moduleCode) {
+        Integer id = IDS.get(moduleCode);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Retrieves the module code with the given ID.
+     *
+     * @param id An ID previously returned by {@link #intern(String)}.
+     * @return The module code.
+     */
+    public static String codeOf(int id) {
+        return codes[id];
+    }
+
+    /**
+     * Retrieves the number of module codes interned so far, which is also one more than the largest ID.
+     *
+     * @return The number of interned module codes.
+     */
+    public static int size() {
+        return IDS.size();
+    }
+}
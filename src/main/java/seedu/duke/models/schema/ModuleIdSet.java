@@ -0,0 +1,28 @@
+package seedu.duke.models.schema;
+
+import java.util.BitSet;
+
+/**
+ * A set of modules kept as a bitset over their {@link ModuleCodeRegistry} IDs. Adding and removing a module takes
+ * constant time, which suits sets that change often and are only checked for membership, such as the modules taken
+ * up to each semester of a schedule. Only the owner of the set can change it; others see it as a {@link ModuleSet}.
+ */
+final class ModuleIdSet implements ModuleSet {
+    private final BitSet ids = new BitSet();
+
+    void add(String module) {
+        ids.set(ModuleCodeRegistry.intern(module));
+    }
+
+    void remove(String module) {
+        int id = ModuleCodeRegistry.idOf(module);
+        if (id >= 0) {
+            ids.clear(id);
+        }
+    }
+
+    @Override
+    public boolean contains(int moduleId) {
+        return moduleId >= 0 && ids.get(moduleId);
+    }
+}
@@ -2,15 +2,21 @@ package seedu.duke.models.schema;
 
 import java.io.InvalidObjectException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
 
 import static seedu.duke.models.logic.DataRepository.getRequirements;
 
 /**
  * A class representing a list of modules and providing operations to manage them.
+ * Alongside the ordered list, the modules are kept in a bitset indexed by their {@link ModuleCodeRegistry} IDs,
+ * so membership checks, differences and unions never compare strings.
  */
-public class ModuleList {
+public class ModuleList implements ModuleSet {
 
     private ArrayList<String> mainModuleList;
+    private final BitSet moduleIds = new BitSet();
     private int numberOfModules;
 
     /**
@@ -19,8 +25,9 @@ public class ModuleList {
      * @param major The major for which module requirements are needed.
      */
     public ModuleList(Major major) {
-        mainModuleList = getRequirements(major.toString());
-        for (String ignored : mainModuleList) {
+        mainModuleList = new ArrayList<>(getRequirements(major.toString()));
+        for (String module : mainModuleList) {
+            moduleIds.set(ModuleCodeRegistry.intern(module));
             numberOfModules += 1;
         }
     }
@@ -38,6 +45,7 @@ public class ModuleList {
             numberOfModules = 0;
             for (String module : moduleArray) {
                 mainModuleList.add(module);
+                moduleIds.set(ModuleCodeRegistry.intern(module));
                 numberOfModules += 1;
             }
         } catch (NullPointerException e) {
@@ -55,6 +63,51 @@ public class ModuleList {
 
     public void addModule (String module) {
         mainModuleList.add(module);
+        moduleIds.set(ModuleCodeRegistry.intern(module));
+    }
+
+    /**
+     * Inserts a module at the given position of the list.
+     *
+     * @param index  The position to insert the module at.
+     * @param module The module code to insert.
+     */
+    public void insertModule(int index, String module) {
+        mainModuleList.add(index, module);
+        moduleIds.set(ModuleCodeRegistry.intern(module));
+    }
+
+    /**
+     * Removes the first occurrence of a module from the list.
+     *
+     * @param module The module code to remove.
+     * @return true if the module was in the list; false otherwise.
+     */
+    public boolean removeModule(String module) {
+        if (!mainModuleList.remove(module)) {
+            return false;
+        }
+        //duplicates are rare, so only rescan the list when clearing the bit might be wrong
+        if (!mainModuleList.contains(module)) {
+            moduleIds.clear(ModuleCodeRegistry.idOf(module));
+        }
+        return true;
+    }
+
+    /**
+     * Adds every module of another list that is not already in this list (A + B).
+     *
+     * @param other The ModuleList to add.
+     */
+    public void addAll(ModuleList other) {
+        for (String module : other.mainModuleList) {
+            int id = ModuleCodeRegistry.intern(module);
+            if (!moduleIds.get(id)) {
+                mainModuleList.add(module);
+                moduleIds.set(id);
+                numberOfModules += 1;
+            }
+        }
     }
 
     /**
@@ -71,15 +124,15 @@ public class ModuleList {
             throw new InvalidObjectException("Null Inputs");
         }
         mainModuleList.clear();
+        moduleIds.clear();
+        numberOfModules = 0;
 
         for (String moduleA : a.mainModuleList) {
-            try {
-                if (!b.exists(moduleA)) {
-                    mainModuleList.add(moduleA);
-                    numberOfModules += 1;
-                }
-            } catch (InvalidObjectException e) {
-                System.out.println("Error: " + e.getMessage());
+            int id = ModuleCodeRegistry.intern(moduleA);
+            if (!b.moduleIds.get(id)) {
+                mainModuleList.add(moduleA);
+                moduleIds.set(id);
+                numberOfModules += 1;
             }
         }
     }
@@ -97,23 +150,31 @@ public class ModuleList {
             throw new InvalidObjectException("Null Inputs");
         }
 
-        for (String moduleB : mainModuleList) {
-            if (moduleA.equals(moduleB)) {
-                return true;
-            }
-        }
-        return false;
+        return contains(ModuleCodeRegistry.idOf(moduleA));
+    }
+
+    /**
+     * Checks if a module exists in the list by its interned ID.
+     *
+     * @param moduleId The ID of the module, as returned by {@link ModuleCodeRegistry}.
+     * @return true if the module exists in the list; false otherwise.
+     */
+    @Override
+    public boolean contains(int moduleId) {
+        return moduleId >= 0 && moduleIds.get(moduleId);
     }
 
     /**
-     * Retrieves the list of modules.
+     * Retrieves the list of modules. The list is a read-only view, as changes must go through
+     * {@link #addModule(String)}, {@link #insertModule(int, String)} and {@link #removeModule(String)} so that
+     * membership stays in sync.
      *
      * @author janelleenqi
-     * @return The ArrayList containing the modules.
+     * @return A read-only view of the modules, in order.
      */
-    public ArrayList<String> getMainModuleList() {
+    public List<String> getMainModuleList() {
         assert mainModuleList != null: "null mainModuleList";
-        return mainModuleList;
+        return Collections.unmodifiableList(mainModuleList);
     }
 
     public void printMainModuleList(){
@@ -0,0 +1,79 @@
+package seedu.duke.models.schema;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single line of a major's requirements, met by taking any one of its module options, e.g. {@code CS2113} or
+ * {@code GEA1000 / BT1101}. An option ending in {@code %} matches every module code starting with it, e.g.
+ * {@code GEC1%}. A requirement without options only describes what is needed, e.g. a set of courses to choose from.
+ */
+public final class ModuleRequirement {
+    private final String text;
+    private final List<String> options;
+    private final int credits;
+
+    /**
+     * Constructs a requirement.
+     *
+     * @param text    The requirement as written in the requirements file, without its credits.
+     * @param options The module codes or code prefixes that meet it.
+     * @param credits The modular credits it is worth, or -1 if not stated.
+     */
+    public ModuleRequirement(String text, List<String> options, int credits) {
+        assert text != null : "requirement text cannot be null";
+        this.text = text;
+        this.options = Collections.unmodifiableList(options);
+        this.credits = credits;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public List<String> getOptions() {
+        return options;
+    }
+
+    public int getCredits() {
+        return credits;
+    }
+
+    public boolean hasOptions() {
+        return !options.isEmpty();
+    }
+
+    /**
+     * Returns the code shown for the requirement in a list of modules left, i.e. its first option.
+     *
+     * @return The first option, or the requirement text if it has none.
+     */
+    public String getDisplayCode() {
+        return options.isEmpty() ? text : options.get(0);
+    }
+
+    /**
+     * Checks whether taking a module meets this requirement.
+     *
+     * @param moduleCode The module code.
+     * @return true if the module is one of the options or starts with one of the prefixes.
+     */
+    public boolean matches(String moduleCode) {
+        for (String option : options) {
+            if (isPrefix(option) ? moduleCode.startsWith(option.substring(0, option.length() - 1))
+                    : moduleCode.equals(option)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isPrefix(String option) {
+        return option.endsWith("%");
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.duke.models.schema;
+
+/**
+ * Read-only membership of a set of modules, such as the modules a student has completed. Modules can be looked up
+ * by code or by their {@link ModuleCodeRegistry} ID.
+ */
+public interface ModuleSet {
+
+    /**
+     * Checks if a module is in the set by its interned ID.
+     *
+     * @param moduleId The ID of the module, as returned by {@link ModuleCodeRegistry}.
+     * @return true if the module is in the set; false otherwise.
+     */
+    boolean contains(int moduleId);
+
+    /**
+     * Checks if a module is in the set by its code.
+     *
+     * @param module The module code.
+     * @return true if the module is in the set; false otherwise.
+     */
+    default boolean contains(String module) {
+        return contains(ModuleCodeRegistry.idOf(module));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.duke.models.schema;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.util.Arrays;
+
+/**
+ * Compact, immutable entry of the NUSMods module catalog, holding only what the catalog list is used for:
+ * the module code, its title and the semesters it is offered in.
+ */
+public final class ModuleSummary {
+    private final String moduleCode;
+    private final String title;
+    private final int[] semesters;
+
+    public ModuleSummary(String moduleCode, String title, int[] semesters) {
+        assert moduleCode != null : "module code cannot be null";
+        this.moduleCode = moduleCode;
+        this.title = title == null ? "" : title;
+        this.semesters = semesters.clone();
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Retrieves the semesters the module is offered in.
+     *
+     * @return A copy of the semester numbers, in catalog order.
+     */
+    public int[] getSemesters() {
+        return semesters.clone();
+    }
+
+    /**
+     * Converts this entry back to the NUSMods catalog JSON representation.
+     *
+     * @return A JSON object with "moduleCode", "title" and "semesters" fields.
+     */
+    public JSONObject toJson() {
+        JSONArray semesterArray = new JSONArray();
+        for (int semester : semesters) {
+            semesterArray.add(semester);
+        }
+        JSONObject module = new JSONObject();
+        module.put("moduleCode", moduleCode);
+        module.put("title", title);
+        module.put("semesters", semesterArray);
+        return module;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ModuleSummary)) {
+            return false;
+        }
+        ModuleSummary summary = (ModuleSummary) other;
+        return moduleCode.equals(summary.moduleCode) && title.equals(summary.title)
+                && Arrays.equals(semesters, summary.semesters);
+    }
+
+    @Override
+    public int hashCode() {
+        return moduleCode.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return moduleCode + " " + title + " " + Arrays.toString(semesters);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A semester plan that takes some modules with a different set of prerequisites than the recommended schedule,
+ * as found by the alternative plan search. Prerequisites outside the course are taken as additional modules.
+ */
+public class PlanAlternative {
+    private final SemesterPlan plan;
+    private final Map<String, Set<String>> chosenPrereqs;
+    private final List<String> additionalModules;
+
+    /**
+     * Constructs an alternative.
+     *
+     * @param plan              The semester plan.
+     * @param chosenPrereqs     The prerequisites chosen for each module not taken with its preferred ones.
+     * @param additionalModules The modules in the plan that are not required by the course.
+     */
+    public PlanAlternative(SemesterPlan plan, Map<String, Set<String>> chosenPrereqs,
+            List<String> additionalModules) {
+        this.plan = plan;
+        this.chosenPrereqs = Collections.unmodifiableMap(new LinkedHashMap<>(chosenPrereqs));
+        this.additionalModules = Collections.unmodifiableList(new ArrayList<>(additionalModules));
+    }
+
+    public SemesterPlan getPlan() {
+        return plan;
+    }
+
+    public Map<String, Set<String>> getChosenPrereqs() {
+        return chosenPrereqs;
+    }
+
+    public List<String> getAdditionalModules() {
+        return additionalModules;
+    }
+
+    /**
+     * Retrieves the semester in which the plan finishes.
+     *
+     * @return The last semester with any module in it.
+     */
+    public int getGraduationSemester() {
+        return plan.getLastSemester();
+    }
+
+    /**
+     * Retrieves the heaviest semester load of the plan.
+     *
+     * @return The most modular credits planned in one semester.
+     */
+    public int getPeakCredits() {
+        int peakCredits = 0;
+        for (int sem = 1; sem <= plan.getNumberOfSemesters(); sem++) {
+            peakCredits = Math.max(peakCredits, plan.getCredits(sem));
+        }
+        return peakCredits;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder alternative = new StringBuilder();
+        alternative.append("Graduates after sem ").append(getGraduationSemester()).append(", at most ")
+                .append(getPeakCredits()).append(" MCs a semester").append(System.lineSeparator());
+        for (Map.Entry<String, Set<String>> choice : chosenPrereqs.entrySet()) {
+            alternative.append("  ").append(choice.getKey()).append(" after ")
+                    .append(choice.getValue().isEmpty() ? "nothing" : String.join(" and ", choice.getValue()))
+                    .append(System.lineSeparator());
+        }
+        if (!additionalModules.isEmpty()) {
+            alternative.append("  Additional modules: ").append(String.join(" ", additionalModules))
+                    .append(System.lineSeparator());
+        }
+        alternative.append(plan);
+        return alternative.toString();
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A group of a major's requirements and the modular credits it needs, e.g. Programme Requirements - 60. A group
+ * holds module requirements and subgroups; the root group is the whole degree. Groups are immutable once parsed.
+ *
+ * <p>Requirements files list one group header per line, marked with one {@code *} per level of nesting, followed by
+ * the module requirements of the group:
+ * <pre>
+ * *Modular Requirements for CEG - Units
+ * **Programme Requirements - 60
+ * ***Engineering Core - 20
+ * MA1511 Engineering Calculus - 2
+ * </pre>
+ * A group whose units are not a number, like the root above, needs the credits of its subgroups and modules.
+ */
+public final class RequirementGroup {
+    private static final String SEPARATOR = " - ";
+    private static final Pattern CREDITS = Pattern.compile("^(.*?)\\s+-\\s+(\\d+)$");
+    private static final Pattern OPTION = Pattern.compile("[A-Z]{2,4}\\d{4}[A-Z]{0,2}|[A-Z]{2,4}\\d{0,3}%");
+
+    private final String name;
+    private final String units;
+    private final int level;
+    private final RequirementGroup parent;
+    private final List<RequirementGroup> subgroups;
+    private final List<ModuleRequirement> requirements;
+    private int requiredCredits;
+
+    private RequirementGroup(String name, String units, int level, RequirementGroup parent) {
+        this.name = name;
+        this.units = units;
+        this.level = level;
+        this.parent = parent;
+        this.subgroups = new ArrayList<>();
+        this.requirements = new ArrayList<>();
+    }
+
+    /**
+     * Parses the lines of a requirements file into a tree of groups.
+     *
+     * @param lines The lines of the file.
+     * @return The root group, or null if the lines have no group header.
+     */
+    public static RequirementGroup parse(List<String> lines) {
+        RequirementGroup root = null;
+        RequirementGroup current = null;
+        for (String line : lines) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty()) {
+                continue;
+            }
+            if (trimmedLine.startsWith("*")) {
+                int level = 0;
+                while (level < trimmedLine.length() && trimmedLine.charAt(level) == '*') {
+                    level++;
+                }
+                String header = trimmedLine.substring(level).trim();
+                int separator = header.lastIndexOf(SEPARATOR);
+                String name = separator < 0 ? header : header.substring(0, separator).trim();
+                String units = separator < 0 ? "" : header.substring(separator + SEPARATOR.length()).trim();
+                if (root == null) {
+                    root = new RequirementGroup(name, units, level, null);
+                    current = root;
+                    continue;
+                }
+                //a header belongs to the closest group above it with a shallower level, or else the root
+                RequirementGroup parent = current;
+                while (parent != root && parent.level >= level) {
+                    parent = parent.parent;
+                }
+                current = new RequirementGroup(name, units, Math.max(level, parent.level + 1), parent);
+                parent.subgroups.add(current);
+            } else if (current != null) {
+                current.requirements.add(parseRequirement(trimmedLine));
+            }
+        }
+        if (root != null) {
+            root.freeze();
+        }
+        return root;
+    }
+
+    private static ModuleRequirement parseRequirement(String line) {
+        String text = line;
+        int credits = -1;
+        Matcher creditsMatcher = CREDITS.matcher(line);
+        if (creditsMatcher.matches()) {
+            text = creditsMatcher.group(1);
+            credits = Integer.parseInt(creditsMatcher.group(2));
+        }
+        //options are the leading codes, separated by slashes
+        List<String> options = new ArrayList<>();
+        for (String word : text.split("\\s+")) {
+            if (word.equals("/")) {
+                continue;
+            }
+            if (!OPTION.matcher(word).matches()) {
+                break;
+            }
+            options.add(word);
+        }
+        return new ModuleRequirement(text, options, credits);
+    }
+
+    //Works out the credits of groups without a number of units, then makes the tree unmodifiable
+    private int freeze() {
+        int childCredits = 0;
+        for (RequirementGroup subgroup : subgroups) {
+            childCredits += subgroup.freeze();
+        }
+        for (ModuleRequirement requirement : requirements) {
+            childCredits += Math.max(requirement.getCredits(), 0);
+        }
+        requiredCredits = isNumber(units) ? Integer.parseInt(units) : childCredits;
+        return requiredCredits;
+    }
+
+    private static boolean isNumber(String units) {
+        return !units.isEmpty() && units.chars().allMatch(Character::isDigit);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the units column of the group's header, e.g. {@code 60} or {@code Units}.
+     *
+     * @return The units as written in the requirements file.
+     */
+    public String getUnits() {
+        return units;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public RequirementGroup getParent() {
+        return parent;
+    }
+
+    public int getRequiredCredits() {
+        return requiredCredits;
+    }
+
+    public List<RequirementGroup> getSubgroups() {
+        return Collections.unmodifiableList(subgroups);
+    }
+
+    public List<ModuleRequirement> getRequirements() {
+        return Collections.unmodifiableList(requirements);
+    }
+
+    /**
+     * Checks whether any module can count towards the group, e.g. unrestricted electives, because it names no
+     * modules of its own and has no subgroups.
+     *
+     * @return true if the group is open to any module.
+     */
+    public boolean isOpen() {
+        if (!subgroups.isEmpty()) {
+            return false;
+        }
+        for (ModuleRequirement requirement : requirements) {
+            if (requirement.hasOptions()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return name + SEPARATOR + units;
+    }
+}
@@ -1,12 +1,22 @@
 package seedu.duke.models.schema;
 
 import seedu.duke.exceptions.FailPrereqException;
+import seedu.duke.models.logic.PrereqTree;
+import seedu.duke.models.logic.ReachabilityIndex;
+import seedu.duke.utils.jfr.ScheduleChangeEvent;
 
 import java.io.InvalidObjectException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static seedu.duke.models.logic.Api.doesModuleExist;
+import static seedu.duke.models.logic.Api.getModuleCredit;
+import static seedu.duke.models.logic.Api.getPrereqTree;
+import static seedu.duke.models.logic.Api.getReachabilityIndex;
 import static seedu.duke.models.logic.Api.satisfiesAllPrereq;
 
 /**
@@ -18,6 +28,20 @@ public class Schedule extends ModuleList {
     private static final int MAXIMUM_SEMESTERS = 8;
     protected int[] modulesPerSem;
 
+    //completedUpToSem[k] holds every module in semesters 1 to k, and the modules completed before semester 1, kept
+    //up to date on each add, delete and completion
+    private ModuleIdSet[] completedUpToSem;
+    private HashMap<String, Integer> semesterOfModule;
+    private HashSet<String> completedModules;
+    //Modules loaded with the schedule whose prerequisites and credits have not been looked up yet
+    private ArrayList<String> unindexedModules;
+
+    //Reverse prerequisite index: module -> scheduled modules whose prerequisite trees mention it
+    private HashMap<String, LinkedHashSet<String>> dependentsOfModule;
+
+    //Credits of the scheduled modules, per semester and in total
+    private CreditLedger creditLedger;
+
     /**
      * Constructs a new `Schedule` with the provided modules and distribution across semesters.
      *
@@ -27,6 +51,7 @@ public class Schedule extends ModuleList {
     public Schedule(String modules, int[] modulesPerSem) {
         super(modules);
         this.modulesPerSem = modulesPerSem;
+        initialiseSemesterSets();
     }
 
     /**
@@ -35,50 +60,244 @@ public class Schedule extends ModuleList {
     public Schedule() {
         super();
         this.modulesPerSem = new int[]{0, 0, 0, 0, 0, 0, 0, 0};
+        initialiseSemesterSets();
+    }
+
+    private void initialiseSemesterSets() {
+        completedUpToSem = new ModuleIdSet[MAXIMUM_SEMESTERS + 1];
+        for (int i = 0; i <= MAXIMUM_SEMESTERS; i++) {
+            completedUpToSem[i] = new ModuleIdSet();
+        }
+        semesterOfModule = new HashMap<>();
+        completedModules = new HashSet<>();
+        dependentsOfModule = new HashMap<>();
+        creditLedger = new CreditLedger(MAXIMUM_SEMESTERS);
+        unindexedModules = new ArrayList<>();
+
+        List<String> modules = getMainModuleList();
+        int moduleIndex = 0;
+        for (int sem = 1; sem <= modulesPerSem.length; sem++) {
+            for (int j = 0; j < modulesPerSem[sem - 1]; j++) {
+                String module = modules.get(moduleIndex);
+                addToSemesterSets(module, sem);
+                unindexedModules.add(module);
+                moduleIndex++;
+            }
+        }
+    }
+
+    //Looks up the prerequisites and credits of the modules loaded with the schedule, the first time they are needed,
+    //so that loading a schedule makes no requests
+    private void indexLoadedModules() {
+        if (unindexedModules.isEmpty()) {
+            return;
+        }
+        for (String module : unindexedModules) {
+            indexDependencies(module, getPrereqTree(module));
+            creditLedger.recordScheduled(module, getSemesterOfModule(module), getCreditsOrZero(module));
+        }
+        unindexedModules.clear();
+    }
+
+    //A module without credit information counts as no credits, wherever it is scheduled from
+    private static int getCreditsOrZero(String module) {
+        try {
+            return getModuleCredit(module);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private void indexDependencies(String module, PrereqTree prereqTree) {
+        if (prereqTree == null) {
+            return;
+        }
+        for (String prereq : prereqTree.getModuleCodes()) {
+            dependentsOfModule.computeIfAbsent(prereq, key -> new LinkedHashSet<>()).add(module);
+        }
+    }
+
+    private void unindexDependencies(String module, PrereqTree prereqTree) {
+        if (prereqTree == null) {
+            return;
+        }
+        for (String prereq : prereqTree.getModuleCodes()) {
+            LinkedHashSet<String> dependents = dependentsOfModule.get(prereq);
+            if (dependents != null) {
+                dependents.remove(module);
+                if (dependents.isEmpty()) {
+                    dependentsOfModule.remove(prereq);
+                }
+            }
+        }
     }
 
     /**
-     * Retrieves the maximum number of semesters allowed in a student's course schedule.
+     * Retrieves the scheduled modules whose prerequisite trees mention the given module.
      *
-     * @return The maximum number of semesters allowed.
+     * @param module The module code.
+     * @return The dependent modules in the schedule.
      */
-    public static int getMaximumSemesters() {
-        return MAXIMUM_SEMESTERS;
+    public ArrayList<String> getDependentsInSchedule(String module) {
+        indexLoadedModules();
+        LinkedHashSet<String> dependents = dependentsOfModule.get(module);
+        return dependents == null ? new ArrayList<>() : new ArrayList<>(dependents);
     }
 
-    public void addRecommendedScheduleListToSchedule(ArrayList<String> scheduleToAdd){
-        final int modsToAddPerSem = 5;
-        int currentIndexOfMod = 0;
-        int currentSem = 1;
-
-        for (String module : scheduleToAdd) {
-            // Check if the module fulfill pre req, if not we move it to next sem
-            // ModuleList completedModules = new ModuleList(String.join(" ", getMainModuleList()));
-            int indexToAdd = 0;
-            for (int i = 1; i < currentSem; i++) {
-                indexToAdd += this.modulesPerSem[i - 1];
+    /**
+     * Retrieves the scheduled modules that need the given module directly or through a chain of prerequisites,
+     * including chains through modules that are not in the schedule. Modules in the catalog are checked against
+     * the catalog's reachability index; others are followed through the schedule's own prerequisite index.
+     *
+     * @param module The module code.
+     * @return The direct and indirect dependents in the schedule, in schedule order.
+     */
+    public ArrayList<String> getAllDependentsInSchedule(String module) {
+        indexLoadedModules();
+        ReachabilityIndex reachabilityIndex = getReachabilityIndex();
+        HashSet<String> dependents = getScheduledDependents(module);
+        ArrayList<String> dependentsInOrder = new ArrayList<>();
+        for (String scheduledModule : getMainModuleList()) {
+            if (dependents.contains(scheduledModule)
+                    || reachabilityIndex.isPrerequisiteOf(module, scheduledModule)) {
+                dependentsInOrder.add(scheduledModule);
             }
+        }
+        return dependentsInOrder;
+    }
 
-            //Sub list as we only want modules before the current target semester
-            List<String> completedModulesArray = getMainModuleList().subList(0, (indexToAdd));
-            ModuleList completedModules = new ModuleList(String.join(" ", completedModulesArray));
-            if(!satisfiesAllPrereq(module,completedModules)){
-                currentSem += 1;
-                currentIndexOfMod = 0;
-            }
-            try {
-                addModule(module, currentSem);
-            } catch (InvalidObjectException | IllegalArgumentException | FailPrereqException e) {
-                throw new RuntimeException(e);
+    //Follows the schedule's own prerequisite index, so it makes no lookups
+    private HashSet<String> getScheduledDependents(String module) {
+        HashSet<String> dependents = new HashSet<>();
+        ArrayDeque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(module);
+        while (!toVisit.isEmpty()) {
+            for (String dependent : dependentsOfModule.getOrDefault(toVisit.poll(), new LinkedHashSet<>())) {
+                if (dependents.add(dependent)) {
+                    toVisit.add(dependent);
+                }
             }
+        }
+        return dependents;
+    }
+
+    /**
+     * Retrieves the ledger of the credits of the scheduled modules, which the schedule keeps up to date on each add
+     * and delete.
+     *
+     * @return The credit ledger of the schedule.
+     */
+    public CreditLedger getCreditLedger() {
+        indexLoadedModules();
+        return creditLedger;
+    }
+
+    private void addToSemesterSets(String module, int sem) {
+        semesterOfModule.put(module, sem);
+        for (int k = sem; k <= MAXIMUM_SEMESTERS; k++) {
+            completedUpToSem[k].add(module);
+        }
+    }
+
+    private void removeFromSemesterSets(String module, int sem) {
+        semesterOfModule.remove(module);
+        //a completed module counts as taken in every semester, wherever it is scheduled
+        if (completedModules.contains(module)) {
+            return;
+        }
+        for (int k = sem; k <= MAXIMUM_SEMESTERS; k++) {
+            completedUpToSem[k].remove(module);
+        }
+    }
 
-            currentIndexOfMod += 1;
-            if(currentIndexOfMod >= modsToAddPerSem){
-                currentIndexOfMod = 0;
-                currentSem += 1;
+    /**
+     * Marks a module as completed before the first semester of the schedule, so that it satisfies the prerequisites
+     * of every scheduled module, and records its credits as completed.
+     *
+     * @param module  The module code.
+     * @param credits The modular credits of the module.
+     */
+    public void markCompleted(String module, int credits) {
+        if (completedModules.add(module)) {
+            for (ModuleIdSet modulesTaken : completedUpToSem) {
+                modulesTaken.add(module);
             }
         }
+        creditLedger.recordCompleted(module, credits);
+    }
+
+    /**
+     * Retrieves the modules taken before the given semester, i.e. those that count as completed when checking the
+     * prerequisites of a module taken in that semester, including the modules marked as completed. The returned set
+     * is maintained by the schedule, so it always reflects the current schedule.
+     *
+     * @param sem The semester, from 1 to 8.
+     * @return The modules in semesters 1 to sem - 1.
+     */
+    public ModuleSet getModulesCompletedBefore(int sem) {
+        return completedUpToSem[sem - 1];
+    }
+
+    /**
+     * Retrieves the semester of every scheduled module, e.g. to plan the remaining modules around them.
+     *
+     * @return A copy of the map from each scheduled module to its semester.
+     */
+    public HashMap<String, Integer> getSemestersOfModules() {
+        return new HashMap<>(semesterOfModule);
+    }
+
+    /**
+     * Retrieves the semester a module is scheduled in.
+     *
+     * @param module The module code.
+     * @return The semester of the module, or -1 if it is not in the schedule.
+     */
+    public int getSemesterOfModule(String module) {
+        return semesterOfModule.getOrDefault(module, -1);
+    }
+
+    private int getSemesterStartIndex(int sem) {
+        int startIndex = 0;
+        for (int i = 1; i < sem; i++) {
+            startIndex += modulesPerSem[i - 1];
+        }
+        return startIndex;
+    }
+
+    /**
+     * Retrieves the maximum number of semesters allowed in a student's course schedule.
+     *
+     * @return The maximum number of semesters allowed.
+     */
+    public static int getMaximumSemesters() {
+        return MAXIMUM_SEMESTERS;
+    }
 
+    /**
+     * Adds the modules of a semester plan to the schedule, each in its planned semester. Modules that are already
+     * in the schedule are left where they are, and modules that cannot be added, e.g. as their prerequisites are
+     * not satisfied, are skipped so that the rest of the plan is still added.
+     *
+     * @param plan The plan to add, with at most as many semesters as a schedule.
+     * @return The planned modules that could not be added, in plan order.
+     */
+    public ArrayList<String> addSemesterPlan(SemesterPlan plan) {
+        assert plan.getNumberOfSemesters() <= MAXIMUM_SEMESTERS : "plan has more semesters than a schedule";
+        ArrayList<String> unplacedModules = new ArrayList<>();
+        for (int sem = 1; sem <= plan.getNumberOfSemesters(); sem++) {
+            for (String module : plan.getModules(sem)) {
+                if (semesterOfModule.containsKey(module)) {
+                    continue;
+                }
+                try {
+                    addModule(module, sem);
+                } catch (InvalidObjectException | IllegalArgumentException | FailPrereqException e) {
+                    unplacedModules.add(module);
+                }
+            }
+        }
+        return unplacedModules;
     }
 
     /**
@@ -93,6 +312,19 @@ public class Schedule extends ModuleList {
      */
     public void addModule(String module, int targetSem) throws IllegalArgumentException, InvalidObjectException,
             FailPrereqException {
+        ScheduleChangeEvent event = new ScheduleChangeEvent();
+        event.begin();
+        boolean isAdded = false;
+        try {
+            placeModule(module, targetSem);
+            isAdded = true;
+        } finally {
+            commitChangeEvent(event, ScheduleChangeEvent.ADD, module, targetSem, isAdded);
+        }
+    }
+
+    private void placeModule(String module, int targetSem) throws IllegalArgumentException, InvalidObjectException,
+            FailPrereqException {
 
         if (targetSem < 1 || targetSem > MAXIMUM_SEMESTERS) {
             throw new IllegalArgumentException("Please select an integer from 1 to 8 for semester selection");
@@ -106,99 +338,139 @@ public class Schedule extends ModuleList {
             throw new InvalidObjectException("Module cannot be null");
         }
 
-        int indexToAdd = 0;
-        for (int i = 1; i < targetSem; i++) {
-            indexToAdd += this.modulesPerSem[i - 1];
-        }
-
-        //Sub list as we only want modules before the current target semester
-        List<String> completedModulesArray = getMainModuleList().subList(0, (indexToAdd));
-        ModuleList completedModules = new ModuleList(String.join(" ", completedModulesArray));
-
+        boolean isPrereqSatisfied;
         try {
-            if (satisfiesAllPrereq(module, completedModules)) {
-                this.getMainModuleList().add(indexToAdd, module);
-                modulesPerSem[targetSem - 1] += 1;
-                changeNumberOfModules(1);
-                return;
-            }
+            isPrereqSatisfied = satisfiesAllPrereq(module, getModulesCompletedBefore(targetSem));
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Please select a valid module");
         }
-        throw new FailPrereqException("Unable to add module as prerequisites not satisfied for: " + module);
+        if (!isPrereqSatisfied) {
+            throw new FailPrereqException("Unable to add module as prerequisites not satisfied for: " + module);
+        }
+        int credits = getCreditsOrZero(module);
+        insertModule(getSemesterStartIndex(targetSem), module);
+        addToSemesterSets(module, targetSem);
+        indexDependencies(module, getPrereqTree(module));
+        modulesPerSem[targetSem - 1] += 1;
+        creditLedger.recordScheduled(module, targetSem, credits);
+        changeNumberOfModules(1);
     }
 
     /**
-     * Deletes a module from the schedule by its module code.
+     * Deletes a module from the schedule by its module code. Only the scheduled modules whose prerequisite trees
+     * mention the deleted module are re-checked.
      *
      * @param module The module code to be deleted from the schedule.
      * @throws FailPrereqException If the module to be deleted is a prerequisite for other modules in the schedule.
+     *     The message lists every module that would no longer satisfy its prerequisites.
      * @throws IllegalArgumentException If the provided module code is not valid, the module is not in the schedule
      */
     public void deleteModule(String module) throws FailPrereqException, IllegalArgumentException {
+        ScheduleChangeEvent event = new ScheduleChangeEvent();
+        event.begin();
+        int targetSem = getSemesterOfModule(module);
+        boolean isDeleted = false;
+        try {
+            unscheduleModule(module);
+            isDeleted = true;
+        } finally {
+            commitChangeEvent(event, ScheduleChangeEvent.DELETE, module, targetSem, isDeleted);
+        }
+    }
 
-        int targetIndex = getMainModuleList().indexOf(module);
+    private void unscheduleModule(String module) throws FailPrereqException, IllegalArgumentException {
 
-        if (!doesModuleExist(module)) {
-            throw new IllegalArgumentException("Please select a valid module");
-        }
+        int targetIndex = getMainModuleList().indexOf(module);
 
+        //a scheduled module was looked up when it was added, so only a module outside the schedule is looked up
         if (targetIndex == -1) {
+            if (!doesModuleExist(module)) {
+                throw new IllegalArgumentException("Please select a valid module");
+            }
             throw new IllegalArgumentException("Module is not in schedule");
         }
 
-        int targetSem = 1;
-        int moduleCount = modulesPerSem[0];
-
-        while ((moduleCount - 1) < targetIndex) {
-            moduleCount += modulesPerSem[targetSem];
-            targetSem += 1;
-        }
-
-        int nextSemStartingIndex = moduleCount;
+        int targetSem = getSemesterOfModule(module);
+        indexLoadedModules();
 
-        int lastModuleIndex = getNumberOfModules() - 1;
-
-        List<String> completedModulesArray = getMainModuleList().subList(0, nextSemStartingIndex);
-        ModuleList completedModules = new ModuleList(String.join(" ", completedModulesArray));
-        completedModules.getMainModuleList().remove(module);
-
-        List<String> modulesAheadArray;
-        try {
-            modulesAheadArray = getMainModuleList().subList(nextSemStartingIndex, lastModuleIndex + 1);
-        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
-            modulesAheadArray = new ArrayList<>();
-        }
+        //Remove the module first so that the semester sets reflect the schedule without it
+        removeModule(module);
+        removeFromSemesterSets(module, targetSem);
+        modulesPerSem[targetSem - 1] -= 1;
 
+        ArrayList<String> affectedModules = new ArrayList<>();
         try {
-            for (String moduleAhead : modulesAheadArray){
-                if (!satisfiesAllPrereq(moduleAhead, completedModules)) {
-                    throw new FailPrereqException("Unable to delete module. This module is a prerequisite for "
-                            + moduleAhead);
+            for (String dependent : getDependentsInSchedule(module)) {
+                int dependentSem = getSemesterOfModule(dependent);
+                if (dependentSem > targetSem
+                        && !satisfiesAllPrereq(dependent, getModulesCompletedBefore(dependentSem))) {
+                    affectedModules.add(dependent);
                 }
             }
         } catch (IllegalArgumentException e) {
             // This catch should never occur as it should not be possible to add an invalid module
+            restoreModule(module, targetSem, targetIndex);
             assert false;
             throw new IllegalArgumentException("Invalid Module in Schedule");
         }
 
-        getMainModuleList().remove(module);
-        modulesPerSem[targetSem - 1] -= 1;
+        if (!affectedModules.isEmpty()) {
+            restoreModule(module, targetSem, targetIndex);
+            String message = "Unable to delete module. This module is a prerequisite for "
+                    + String.join(", ", affectedModules);
+            //list the other later modules that need it through a chain of scheduled modules
+            HashSet<String> dependents = getScheduledDependents(module);
+            ArrayList<String> indirectlyAffectedModules = new ArrayList<>();
+            for (String scheduledModule : getMainModuleList()) {
+                if (dependents.contains(scheduledModule) && !affectedModules.contains(scheduledModule)
+                        && getSemesterOfModule(scheduledModule) > targetSem) {
+                    indirectlyAffectedModules.add(scheduledModule);
+                }
+            }
+            if (!indirectlyAffectedModules.isEmpty()) {
+                message += ". Later modules that may also depend on it: "
+                        + String.join(", ", indirectlyAffectedModules);
+            }
+            throw new FailPrereqException(message);
+        }
+
+        unindexDependencies(module, getPrereqTree(module));
+        creditLedger.recordUnscheduled(module);
         changeNumberOfModules(-1);
     }
 
+    //Fills in the event only while a flight recording is running
+    private void commitChangeEvent(ScheduleChangeEvent event, String action, String module, int sem,
+            boolean isSucceeded) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.action = action;
+            event.module = module;
+            event.semester = sem;
+            event.succeeded = isSucceeded;
+            event.scheduledModules = getNumberOfModules();
+            event.commit();
+        }
+    }
+
+    private void restoreModule(String module, int sem, int index) {
+        insertModule(index, module);
+        addToSemesterSets(module, sem);
+        modulesPerSem[sem - 1] += 1;
+    }
+
     /**
      * Prints the student's course schedule, displaying modules organized by semesters.
      */
 
     @Override
     public void printMainModuleList() {
+        List<String> modules = getMainModuleList();
         int moduleCounter = 0;
         for (int i = 0; i < modulesPerSem.length; i++) {
             System.out.print("Sem " + (i + 1) + ": ");
             for (int j = 0; j < modulesPerSem[i]; j++) {
-                System.out.print(getMainModuleList().get(moduleCounter) + " ");
+                System.out.print(modules.get(moduleCounter) + " ");
                 moduleCounter++;
             }
             System.out.println();
@@ -0,0 +1,138 @@
+package seedu.duke.models.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable assignment of modules to semesters, as produced by the recommended schedule generator.
+ * Modules that could not be fitted into the available semesters are kept separately.
+ */
+public class SemesterPlan {
+    private final List<List<String>> semesters;
+    private final int[] creditsPerSemester;
+    private final List<String> unscheduledModules;
+
+    /**
+     * Constructs a plan.
+     *
+     * @param semesters          The modules of each semester, from the first semester on.
+     * @param creditsPerSemester The total modular credits of each semester.
+     * @param unscheduledModules The modules that are not in any semester.
+     */
+    public SemesterPlan(List<List<String>> semesters, int[] creditsPerSemester, List<String> unscheduledModules) {
+        assert semesters.size() == creditsPerSemester.length : "every semester needs a credit total";
+        List<List<String>> semesterCopies = new ArrayList<>();
+        for (List<String> semester : semesters) {
+            semesterCopies.add(Collections.unmodifiableList(new ArrayList<>(semester)));
+        }
+        this.semesters = Collections.unmodifiableList(semesterCopies);
+        this.creditsPerSemester = creditsPerSemester.clone();
+        this.unscheduledModules = Collections.unmodifiableList(new ArrayList<>(unscheduledModules));
+    }
+
+    public int getNumberOfSemesters() {
+        return semesters.size();
+    }
+
+    /**
+     * Retrieves the modules planned for a semester.
+     *
+     * @param sem The semester, from 1 on.
+     * @return The modules of the semester.
+     */
+    public List<String> getModules(int sem) {
+        return semesters.get(sem - 1);
+    }
+
+    /**
+     * Retrieves the total modular credits planned for a semester.
+     *
+     * @param sem The semester, from 1 on.
+     * @return The credits of the semester.
+     */
+    public int getCredits(int sem) {
+        return creditsPerSemester[sem - 1];
+    }
+
+    public List<String> getUnscheduledModules() {
+        return unscheduledModules;
+    }
+
+    /**
+     * Retrieves every planned module, semester by semester. As each module comes after all of its prerequisites,
+     * this is a valid order in which to take them.
+     *
+     * @return The planned modules in semester order.
+     */
+    public List<String> getModuleOrder() {
+        List<String> order = new ArrayList<>();
+        for (List<String> semester : semesters) {
+            order.addAll(semester);
+        }
+        return order;
+    }
+
+    /**
+     * Retrieves the last semester with any module in it.
+     *
+     * @return The last non-empty semester, or 0 if the plan is empty.
+     */
+    public int getLastSemester() {
+        for (int sem = semesters.size(); sem >= 1; sem--) {
+            if (!semesters.get(sem - 1).isEmpty()) {
+                return sem;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks whether another plan assigns the same modules to the same semesters. The order of the modules within
+     * a semester does not matter.
+     *
+     * @param other The object to compare with.
+     * @return True if both plans take every module in the same semester.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SemesterPlan)) {
+            return false;
+        }
+        SemesterPlan otherPlan = (SemesterPlan) other;
+        return getAssignment().equals(otherPlan.getAssignment())
+                && new HashSet<>(unscheduledModules).equals(new HashSet<>(otherPlan.unscheduledModules));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getAssignment().hashCode() + new HashSet<>(unscheduledModules).hashCode();
+    }
+
+    private List<Set<String>> getAssignment() {
+        List<Set<String>> assignment = new ArrayList<>();
+        for (List<String> semester : semesters) {
+            assignment.add(new HashSet<>(semester));
+        }
+        return assignment;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder plan = new StringBuilder();
+        for (int sem = 1; sem <= semesters.size(); sem++) {
+            plan.append("Sem ").append(sem).append(" (").append(getCredits(sem)).append(" MCs): ")
+                    .append(String.join(" ", getModules(sem))).append(System.lineSeparator());
+        }
+        if (!unscheduledModules.isEmpty()) {
+            plan.append("Unable to fit: ").append(String.join(" ", unscheduledModules))
+                    .append(System.lineSeparator());
+        }
+        return plan.toString();
+    }
+}
@@ -50,6 +50,15 @@ public class Student {
         return schedule;
     }
 
+    /**
+     * Retrieves the ledger of the credits of the student's scheduled and completed modules.
+     *
+     * @return The credit ledger of the student's schedule.
+     */
+    public CreditLedger getCreditLedger() {
+        return schedule.getCreditLedger();
+    }
+
     /**
      * Retrieves the name of the student.
      *
@@ -0,0 +1,124 @@
+package seedu.duke.utils;
+
+import java.util.concurrent.Future;
+
+/**
+ * A command running in the background, started by {@link JobManager}. Work done on behalf of a job can report its
+ * progress through {@link #current()}, e.g. "12/31 modules fetched", which the {@code jobs} command shows.
+ */
+public final class Job {
+    /**
+     * The states of a job. Every state but {@code RUNNING} is final.
+     */
+    public enum Status {
+        RUNNING, DONE, FAILED, CANCELLED, TIMED_OUT
+    }
+
+    private static final ThreadLocal<Job> CURRENT = new ThreadLocal<>();
+
+    private final int id;
+    private final String command;
+    private final long startNanos;
+    private final long deadlineNanos;
+    private volatile String progress;
+    private volatile Status status;
+    private volatile Future<?> future;
+
+    Job(int id, String command, long deadlineNanos) {
+        this.id = id;
+        this.command = command;
+        this.startNanos = System.nanoTime();
+        this.deadlineNanos = deadlineNanos;
+        this.progress = "";
+        this.status = Status.RUNNING;
+    }
+
+    /**
+     * Retrieves the job the current thread is running, so that the work can report its progress.
+     *
+     * @return The job, or null if the current thread is not running one.
+     */
+    public static Job current() {
+        return CURRENT.get();
+    }
+
+    static void setCurrent(Job job) {
+        if (job == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(job);
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String getProgress() {
+        return progress;
+    }
+
+    /**
+     * Records how far the job has got. May be called from any thread working for the job.
+     *
+     * @param progress A short description, e.g. "12/31 modules fetched".
+     */
+    public void setProgress(String progress) {
+        this.progress = progress;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks whether the job is still running, e.g. before the work shows a result that is no longer wanted.
+     *
+     * @return true if the job has not finished, been cancelled or timed out.
+     */
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long getRemainingNanos() {
+        return startNanos + deadlineNanos - System.nanoTime();
+    }
+
+    long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    //Moves a running job to a final state, returning whether it was still running
+    synchronized boolean finish(Status finalStatus) {
+        if (status != Status.RUNNING) {
+            return false;
+        }
+        status = finalStatus;
+        return true;
+    }
+
+    //Interrupts the thread running the job, which in turn stops the work it started
+    void interrupt() {
+        Future<?> runningFuture = future;
+        if (runningFuture != null) {
+            runningFuture.cancel(true);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Job " + id + " (" + command + ")";
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.duke.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs slow commands in the background so that the prompt stays responsive, each with a deadline after which it is
+ * cancelled. A job is cancelled by interrupting its thread; work it started, such as concurrent module lookups, is
+ * scoped to that thread and stops with it, so no requests outlive a cancelled job.
+ *
+ * <p>Jobs are listed until they finish. A job that fails or runs out of time reports it on the console.
+ */
+public class JobManager {
+    private final ExecutorService executor;
+    private final ScheduledExecutorService deadlines;
+    private final AtomicInteger nextId;
+    private final Map<Integer, Job> runningJobs;
+
+    public JobManager() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "job-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        deadlines = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        nextId = new AtomicInteger();
+        runningJobs = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Starts a command in the background.
+     *
+     * @param command         The command as typed, shown by the {@code jobs} command.
+     * @param deadlineSeconds The seconds the command may run before it is cancelled.
+     * @param task            The work of the command.
+     * @return The job running the command.
+     */
+    public Job submit(String command, long deadlineSeconds, Runnable task) {
+        Job job = new Job(nextId.incrementAndGet(), command, TimeUnit.SECONDS.toNanos(deadlineSeconds));
+        runningJobs.put(job.getId(), job);
+        ScheduledFuture<?> deadline = deadlines.schedule(() -> timeOut(job), deadlineSeconds, TimeUnit.SECONDS);
+        job.setFuture(executor.submit(() -> run(job, task, deadline)));
+        //the job may have been cancelled before its future was known
+        if (!job.isRunning()) {
+            job.interrupt();
+        }
+        return job;
+    }
+
+    private void run(Job job, Runnable task, ScheduledFuture<?> deadline) {
+        Job.setCurrent(job);
+        try {
+            if (job.isRunning()) {
+                task.run();
+            }
+            job.finish(Job.Status.DONE);
+        } catch (RuntimeException e) {
+            //a cancelled job fails with whatever its interrupted work threw, which is not worth reporting
+            if (job.finish(Job.Status.FAILED)) {
+                System.out.println(job + " failed: " + e.getMessage());
+            }
+        } finally {
+            deadline.cancel(false);
+            runningJobs.remove(job.getId());
+            Job.setCurrent(null);
+            Metrics.increment("job." + job.getStatus().name().toLowerCase());
+            Metrics.histogram("job.duration").record(job.getElapsedNanos());
+        }
+    }
+
+    private void timeOut(Job job) {
+        if (job.finish(Job.Status.TIMED_OUT)) {
+            job.interrupt();
+            System.out.println(job + " was cancelled as it took longer than "
+                    + TimeUnit.NANOSECONDS.toSeconds(job.getDeadlineNanos()) + "s");
+        }
+    }
+
+    /**
+     * Cancels a running job.
+     *
+     * @param id The id of the job.
+     * @return The cancelled job, or null if no job with that id is running.
+     */
+    public Job cancel(int id) {
+        Job job = runningJobs.get(id);
+        if (job == null || !job.finish(Job.Status.CANCELLED)) {
+            return null;
+        }
+        job.interrupt();
+        return job;
+    }
+
+    /**
+     * Lists the jobs that are still running.
+     *
+     * @return The running jobs, oldest first.
+     */
+    public List<Job> listJobs() {
+        return new ArrayList<>(runningJobs.values());
+    }
+
+    /**
+     * Cancels every running job and stops accepting new ones, e.g. when the application exits.
+     */
+    public void shutdown() {
+        for (Job job : listJobs()) {
+            cancel(job.getId());
+        }
+        executor.shutdownNow();
+        deadlines.shutdownNow();
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.duke.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide registry of runtime metrics: counters, gauges read from other components, and latency histograms.
+ * Metrics are created on first use and recorded without locks, so instrumenting a hot path costs a map lookup and
+ * a few atomic increments.
+ *
+ * <p>Names are dotted, e.g. "command.add", "http.module" or "cache.disk.hit". The {@code stats} command prints
+ * the registry, and if the {@code duke.metrics.file} system property is set it is written to that file at exit.
+ */
+public class Metrics {
+    private static final String FILE_PROPERTY = "duke.metrics.file";
+
+    private static final ConcurrentHashMap<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LongSupplier> GAUGES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves a counter, creating it if it does not exist yet.
+     *
+     * @param name The name of the counter.
+     * @return The counter.
+     */
+    public static LongAdder counter(String name) {
+        LongAdder counter = COUNTERS.get(name);
+        return counter != null ? counter : COUNTERS.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Increments a counter by one.
+     *
+     * @param name The name of the counter.
+     */
+    public static void increment(String name) {
+        counter(name).increment();
+    }
+
+    /**
+     * Registers a value that is owned by another component and read when metrics are reported,
+     * e.g. the hit count of a cache. A gauge registered again under the same name replaces the previous one.
+     *
+     * @param name  The name of the gauge.
+     * @param value Supplies the current value.
+     */
+    public static void gauge(String name, LongSupplier value) {
+        GAUGES.put(name, value);
+    }
+
+    /**
+     * Retrieves a latency histogram, creating it if it does not exist yet.
+     *
+     * @param name The name of the histogram.
+     * @return The histogram.
+     */
+    public static LatencyHistogram histogram(String name) {
+        LatencyHistogram histogram = HISTOGRAMS.get(name);
+        return histogram != null ? histogram : HISTOGRAMS.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Records the time elapsed since a start time taken with {@link System#nanoTime()}.
+     *
+     * @param name       The name of the histogram.
+     * @param startNanos The start time.
+     */
+    public static void recordSince(String name, long startNanos) {
+        histogram(name).recordSince(startNanos);
+    }
+
+    /**
+     * Removes every counter and histogram. Gauges stay registered, as their values are owned elsewhere.
+     */
+    public static void reset() {
+        COUNTERS.clear();
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Formats every metric as a table sorted by name, with latencies in milliseconds.
+     *
+     * @return The report.
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        TreeMap<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : COUNTERS.entrySet()) {
+            values.put(counter.getKey(), counter.getValue().sum());
+        }
+        for (Map.Entry<String, LongSupplier> gauge : GAUGES.entrySet()) {
+            values.put(gauge.getKey(), gauge.getValue().getAsLong());
+        }
+        report.append("Counters:").append(System.lineSeparator());
+        for (Map.Entry<String, Long> value : values.entrySet()) {
+            report.append(String.format("  %-32s %10d", value.getKey(), value.getValue()))
+                    .append(System.lineSeparator());
+        }
+
+        report.append(String.format("Latency (ms):%29s %10s %10s %10s %10s %12s",
+                "count", "p50", "p95", "p99", "max", "total")).append(System.lineSeparator());
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(HISTOGRAMS).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            report.append(String.format("  %-32s %7d %10s %10s %10s %10s %12s", entry.getKey(), histogram.getCount(),
+                    LatencyHistogram.toMillis(histogram.getPercentileNanos(50)),
+                    LatencyHistogram.toMillis(histogram.getPercentileNanos(95)),
+                    LatencyHistogram.toMillis(histogram.getPercentileNanos(99)),
+                    LatencyHistogram.toMillis(histogram.getMaxNanos()),
+                    LatencyHistogram.toMillis(histogram.getTotalNanos()))).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to the file named by the {@code duke.metrics.file} system property, if it is set.
+     * Failures are reported on standard error only, as this runs while the application exits.
+     */
+    public static void dumpIfConfigured() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return;
+        }
+        try {
+            dump(Paths.get(file));
+        } catch (IOException e) {
+            System.err.println("Unable to write metrics to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the report to a file, replacing its contents.
+     *
+     * @param file The file to write.
+     */
+    public static void dump(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, report(), StandardCharsets.UTF_8);
+    }
+}
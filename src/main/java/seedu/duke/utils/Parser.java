@@ -8,6 +8,9 @@ import java.util.Objects;
 
 public class Parser {
 
+    //Most plans the alternatives command can be asked to show
+    public static final int MAX_ALTERNATIVE_PLANS = 5;
+
     /**
      * Checks if the given academic year input is valid.
      * The academic year should be in the format "Yn/Sx", where 'n' represents the year
@@ -51,6 +54,21 @@ public class Parser {
         }
     }
 
+    /**
+     * Reads the number of plans asked for by an alternatives command.
+     *
+     * @param count The last word of the command, e.g. "3".
+     * @return The number of plans, or -1 if it is not a number from 1 to {@link #MAX_ALTERNATIVE_PLANS}.
+     */
+    public static int parseAlternativesCount(String count) {
+        try {
+            int plans = Integer.parseInt(count);
+            return plans >= 1 && plans <= MAX_ALTERNATIVE_PLANS ? plans : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     /**
      * Checks the validity of user input based on the provided command and words array.
      *
@@ -78,6 +96,17 @@ public class Parser {
             }
             break;
         }
+        case "alternatives": {
+            if (words.length < 2 || words.length > 3 || !Objects.equals(words[1].toUpperCase(), "CEG")) {
+                ErrorHandler.invalidAlternativesFormat();
+                return false;
+            }
+            if (words.length == 3 && parseAlternativesCount(words[2]) == -1) {
+                ErrorHandler.invalidAlternativesFormat();
+                return false;
+            }
+            break;
+        }
         case "major": {
             if (words.length == 1) {
                 return true;
@@ -115,6 +144,33 @@ public class Parser {
             }
             break;
         }
+        case "unlocks": {
+            if (words.length != 2) {
+                ErrorHandler.invalidUnlocksFormat();
+                return false;
+            }
+            break;
+        }
+        case "dependents": {
+            if (words.length != 2) {
+                ErrorHandler.invalidDependentsFormat();
+                return false;
+            }
+            break;
+        }
+        case "cancel": {
+            if (words.length != 2) {
+                ErrorHandler.invalidCancelFormat();
+                return false;
+            }
+            try {
+                Integer.parseInt(words[1]);
+            } catch (NumberFormatException e) {
+                ErrorHandler.invalidCancelFormat();
+                return false;
+            }
+            break;
+        }
         case "test2": {
             if (words.length < 21) {
                 return false;
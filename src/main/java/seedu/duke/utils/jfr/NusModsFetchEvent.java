@@ -0,0 +1,35 @@
+package seedu.duke.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for one request to the NUSMods API, spanning from sending the request until the response
+ * body has been read and closed.
+ */
+@Name("seedu.duke.NusModsFetch")
+@Label("NUSMods Fetch")
+@Category({"NUSDegs", "Network"})
+@Description("A request to the NUSMods API")
+public class NusModsFetchEvent extends jdk.jfr.Event {
+    /** Status recorded when the request failed before a response was received. */
+    public static final int NO_RESPONSE = -1;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Status")
+    @Description("HTTP status code, or -1 if no response was received")
+    public int status = NO_RESPONSE;
+
+    @Label("Bytes")
+    @Description("Size of the response body as transferred, before gzip decoding")
+    @DataAmount
+    public long bytes;
+
+    @Label("Gzipped")
+    public boolean gzipped;
+}
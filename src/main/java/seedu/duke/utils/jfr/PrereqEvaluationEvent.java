@@ -0,0 +1,25 @@
+package seedu.duke.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for one check of a module's prerequisites against a set of completed modules.
+ */
+@Name("seedu.duke.PrereqEvaluation")
+@Label("Prerequisite Evaluation")
+@Category({"NUSDegs", "Planner"})
+@Description("A check of a module's prerequisites against the modules completed before it")
+public class PrereqEvaluationEvent extends jdk.jfr.Event {
+    @Label("Module")
+    public String module;
+
+    @Label("Satisfied")
+    public boolean satisfied;
+
+    @Label("Nodes Visited")
+    @Description("Prerequisite tree nodes evaluated before the result was known")
+    public int nodesVisited;
+}
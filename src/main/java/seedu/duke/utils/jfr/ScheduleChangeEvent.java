@@ -0,0 +1,35 @@
+package seedu.duke.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for one attempt to add a module to, or delete a module from, a schedule.
+ */
+@Name("seedu.duke.ScheduleChange")
+@Label("Schedule Change")
+@Category({"NUSDegs", "Planner"})
+@Description("An attempt to add a module to or delete a module from a schedule")
+public class ScheduleChangeEvent extends jdk.jfr.Event {
+    public static final String ADD = "add";
+    public static final String DELETE = "delete";
+
+    @Label("Action")
+    public String action;
+
+    @Label("Module")
+    public String module;
+
+    @Label("Semester")
+    @Description("Semester the module was added to or deleted from, or -1 if it was not in the schedule")
+    public int semester;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    @Label("Scheduled Modules")
+    @Description("Modules in the schedule after the change")
+    public int scheduledModules;
+}
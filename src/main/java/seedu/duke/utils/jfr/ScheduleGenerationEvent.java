@@ -0,0 +1,47 @@
+package seedu.duke.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for one run of the recommended schedule generator, with the size of the prerequisite
+ * graph it planned over and the time spent in each phase.
+ */
+@Name("seedu.duke.ScheduleGeneration")
+@Label("Schedule Generation")
+@Category({"NUSDegs", "Planner"})
+@Description("Generation of a recommended schedule for a course")
+public class ScheduleGenerationEvent extends jdk.jfr.Event {
+    @Label("Course")
+    public String course;
+
+    @Label("Modules")
+    @Description("Modules in the prerequisite graph")
+    public int modules;
+
+    @Label("Edges")
+    @Description("Prerequisite relations between modules of the course")
+    public int edges;
+
+    @Label("Prefetch Duration")
+    @Description("Time spent retrieving the prerequisites of every module")
+    @Timespan(Timespan.NANOSECONDS)
+    public long prefetchDuration;
+
+    @Label("Graph Build Duration")
+    @Description("Time spent looking up credits and compiling the prerequisite graph")
+    @Timespan(Timespan.NANOSECONDS)
+    public long graphBuildDuration;
+
+    @Label("Plan Duration")
+    @Description("Time spent assigning modules to semesters")
+    @Timespan(Timespan.NANOSECONDS)
+    public long planDuration;
+
+    @Label("Semesters")
+    @Description("Semesters used by the plan")
+    public int semesters;
+}
@@ -16,6 +16,10 @@ public class ErrorHandler {
         System.out.println("Please add a module using this format: add [module code] [semester]");
     }
 
+    public static void invalidAlternativesFormat() {
+        System.out.println("Please use this format: alternatives CEG [number of plans from 1 to 5]");
+    }
+
     public static void invalidSemester() {
         System.out.println("Please select an integer from 1 to 8 for semester selection");
     }
@@ -23,6 +27,18 @@ public class ErrorHandler {
         System.out.println("Please delete a module using this format: delete [module code]");
     }
 
+    public static void invalidUnlocksFormat() {
+        System.out.println("Please use this format: unlocks [module code]");
+    }
+
+    public static void invalidDependentsFormat() {
+        System.out.println("Please use this format: dependents [module code]");
+    }
+
+    public static void invalidCancelFormat() {
+        System.out.println("Please use this format: cancel [job id], with the id shown by the jobs command");
+    }
+
     public static void emptyInputforInfoCommand() {
         System.out.println("Empty input detected. Please enter a valid input after the info command." +
                 " (E.g description, workload, all)");
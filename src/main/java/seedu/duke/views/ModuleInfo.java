@@ -1,7 +1,9 @@
 package seedu.duke.views;
 
-import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.util.List;
 
 public class ModuleInfo {
     public static void printModule(JSONObject module) {
@@ -15,18 +17,17 @@ public class ModuleInfo {
     public static void printLine() {
         System.out.println("_________________________________________");
     }
-    public static void printJsonArray(JSONArray modules) {
-        for (Object module: modules) {
-            JSONObject castedModule = (JSONObject) module;
-            print("Title: " + (String)castedModule.get("title"));
-            print("Module Code: " + (String)castedModule.get("moduleCode"));
+    public static void printModules(List<ModuleSummary> modules) {
+        for (ModuleSummary module: modules) {
+            print("Title: " + module.getTitle());
+            print("Module Code: " + module.getModuleCode());
             printLine();
         }
     }
 
     public static void searchHeader() {
         printLine();
-        print("These are the modules that contain your keyword in the title:");
+        print("These are the modules that contain your keywords in the title or module code:");
         print("");
     }
 
@@ -1,9 +1,10 @@
 package seedu.duke;
 
 import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
 import seedu.duke.models.logic.Api;
+import seedu.duke.models.schema.ModuleSummary;
 
+import java.util.List;
 import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
@@ -61,40 +62,32 @@ public class ApiTest {
     }
 
     @Test
-    void testSearchModules_emptyInput_expectedEmptyJsonArray() {
-        JSONArray modulesToPrint;
+    void testSearchModules_emptyInput_expectedEmptyList() {
+        List<ModuleSummary> modulesToPrint;
         modulesToPrint = Api.search("     ", Api.listAllModules());
-        assertEquals(0, modulesToPrint.size(), "The JSON array should be empty.");
+        assertEquals(0, modulesToPrint.size(), "The list should be empty.");
     }
 
     @Test
-    void testSearchModules_invalidInput_expectedEmptyJsonArray() {
-        JSONArray modulesToPrint;
+    void testSearchModules_invalidInput_expectedEmptyList() {
+        List<ModuleSummary> modulesToPrint;
         modulesToPrint = Api.search("bs#4%ggh", Api.listAllModules());
-        assertEquals(0, modulesToPrint.size(), "The JSON array should be empty.");
+        assertEquals(0, modulesToPrint.size(), "The list should be empty.");
     }
 
     @Test
-    void testSearchModules_validInput_expectedJsonArray() {
-        JSONArray modulesToPrint;
+    void testSearchModules_validInput_expectedModuleList() {
+        List<ModuleSummary> modulesToPrint;
         modulesToPrint = Api.search("Trustworthy Machine Learning", Api.listAllModules());
-        JSONArray expectedArray = new JSONArray();
-        JSONObject expectedObject = new JSONObject();
-        expectedObject.put("moduleCode", "CS5562");
-        JSONArray semester1 = new JSONArray();
-        semester1.add(1);
-        expectedObject.put("semesters", semester1);
-        expectedObject.put("title", "Trustworthy Machine Learning");
-        expectedArray.add(expectedObject);
-        String expectedOutput = expectedArray.toJSONString();
-        String output = modulesToPrint.toJSONString();
-        assertEquals(expectedOutput, output, "The string should be equal");
+        List<ModuleSummary> expectedList = List.of(
+                new ModuleSummary("CS5562", "Trustworthy Machine Learning", new int[]{1}));
+        assertEquals(expectedList, modulesToPrint, "The modules should be equal");
     }
 
     @Test
-    void testPrintJsonArray() {
-        JSONArray modulesToPrint = Api.search("Machine Learning", Api.listAllModules());
-        ModuleInfo.printJsonArray(modulesToPrint);
+    void testPrintModules() {
+        List<ModuleSummary> modulesToPrint = Api.search("Machine Learning", Api.listAllModules());
+        ModuleInfo.printModules(modulesToPrint);
     }
 
 
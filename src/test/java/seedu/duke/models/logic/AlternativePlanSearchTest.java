@@ -0,0 +1,103 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.PlanAlternative;
+import seedu.duke.models.schema.SemesterPlan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlternativePlanSearchTest {
+
+    private static Map<String, Integer> credits(List<String> modules, int credit) {
+        Map<String, Integer> credits = new HashMap<>();
+        for (String module : modules) {
+            credits.put(module, credit);
+        }
+        return credits;
+    }
+
+    @Test
+    void search_prereqOutsideCourse_expectShorterPlanFirst() {
+        List<String> required = List.of("CS1", "CS2", "CS3");
+        Map<String, List<Set<String>>> alternatives = new HashMap<>();
+        alternatives.put("CS2", List.of(Set.of("CS1")));
+        alternatives.put("CS3", List.of(Set.of("CS2"), Set.of("EX1")));
+        alternatives.put("EX1", List.of(Set.of()));
+        AlternativePlanSearch search = new AlternativePlanSearch(required, alternatives,
+                credits(List.of("CS1", "CS2", "CS3", "EX1"), 4), 8, 8, 1000);
+
+        List<PlanAlternative> plans = search.search(2);
+
+        assertEquals(2, plans.size());
+        assertEquals(2, plans.get(0).getGraduationSemester());
+        assertEquals(Map.of("CS3", Set.of("EX1")), plans.get(0).getChosenPrereqs());
+        assertEquals(List.of("EX1"), plans.get(0).getAdditionalModules());
+        assertEquals(3, plans.get(1).getGraduationSemester());
+        assertTrue(plans.get(1).getChosenPrereqs().isEmpty());
+        assertTrue(search.isExhaustive());
+    }
+
+    @Test
+    void search_choicesGivingSamePlan_expectPlanReturnedOnce() {
+        List<String> required = List.of("CS1", "MA1", "CS2");
+        Map<String, List<Set<String>>> alternatives = new HashMap<>();
+        alternatives.put("CS2", List.of(Set.of("CS1"), Set.of("MA1")));
+        AlternativePlanSearch search = new AlternativePlanSearch(required, alternatives,
+                credits(required, 4), 8, 8, 1000);
+
+        List<PlanAlternative> plans = search.search(5);
+
+        SemesterPlan recommended = new CriticalPathScheduler(required, Map.of("CS2", List.of("CS1")),
+                credits(required, 4)).plan(8, 8);
+        assertEquals(1, plans.size());
+        assertEquals(recommended, plans.get(0).getPlan());
+        assertTrue(plans.get(0).getChosenPrereqs().isEmpty());
+        assertEquals(2, search.getEvaluatedPlans());
+    }
+
+    @Test
+    void search_longChainWithShortcuts_expectRankedPlansAndPrunedBranches() {
+        //CS1 -> CS2 -> ... -> CS10, where each module can also be taken after its own extra module instead
+        List<String> required = new ArrayList<>();
+        List<String> allModules = new ArrayList<>();
+        Map<String, List<Set<String>>> alternatives = new HashMap<>();
+        for (int i = 1; i <= 10; i++) {
+            required.add("CS" + i);
+            allModules.add("CS" + i);
+            if (i > 1) {
+                allModules.add("EX" + i);
+                alternatives.put("CS" + i, List.of(Set.of("CS" + (i - 1)), Set.of("EX" + i)));
+                alternatives.put("EX" + i, List.of(Set.of()));
+            }
+        }
+        AlternativePlanSearch search = new AlternativePlanSearch(required, alternatives,
+                credits(allModules, 4), 20, 12, 100_000);
+
+        List<PlanAlternative> plans = search.search(3);
+
+        assertEquals(19, search.getModuleCount());
+        assertEquals(9, search.getChoicePointCount());
+        assertEquals(3, plans.size());
+        assertTrue(plans.get(0).getGraduationSemester() < 10);
+        for (int i = 1; i < plans.size(); i++) {
+            assertTrue(plans.get(i - 1).getGraduationSemester() <= plans.get(i).getGraduationSemester());
+        }
+        assertTrue(search.getPrunedBranches() > 0);
+        assertTrue(search.getEvaluatedPlans() < 512);
+        assertTrue(search.isExhaustive());
+    }
+
+    @Test
+    void constructor_missingCredits_expectException() {
+        assertThrows(IllegalArgumentException.class, () -> new AlternativePlanSearch(List.of("CS1"),
+                Map.of(), Map.of(), 20, 8, 1000));
+    }
+}
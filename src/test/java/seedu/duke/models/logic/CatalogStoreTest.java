@@ -0,0 +1,87 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.ModuleList;
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogStoreTest {
+    private static final String MODULE_LIST = "[{\"moduleCode\":\"CS1010\",\"title\":\"Programming Methodology\","
+            + "\"semesters\":[1,2]},{\"moduleCode\":\"CS2113\",\"title\":\"Software Engineering & Object-Oriented "
+            + "Programming\",\"semesters\":[1,2]},{\"moduleCode\":\"CS5562\",\"title\":\"Trustworthy Machine "
+            + "Learning\",\"semesters\":[1]}]";
+    private static final String CS2113 = "{\"moduleCode\":\"CS2113\",\"title\":\"Software Engineering & "
+            + "Object-Oriented Programming\",\"moduleCredit\":\"4\",\"workload\":[2,1,0,3,4.5],"
+            + "\"prerequisite\":\"CS2040C\",\"prereqTree\":{\"and\":[{\"or\":[\"CS2040C:D\",\"CS2040S:D\"]},"
+            + "{\"nOf\":[1,[\"CS1010\",\"CS1101S\"]]}]}}";
+    private static final String CS1010 = "{\"moduleCode\":\"CS1010\",\"title\":\"Programming Methodology\","
+            + "\"moduleCredit\":\"4\",\"workload\":\"Varies\"}";
+
+    private static CatalogStore writeStore() throws IOException, ParseException {
+        Path year = Files.createTempDirectory("catalog").resolve("2023-2024");
+        Files.createDirectories(year.resolve("modules"));
+        Files.writeString(year.resolve("moduleList.json"), MODULE_LIST, StandardCharsets.UTF_8);
+        Files.writeString(year.resolve("modules").resolve("CS2113.json"), CS2113, StandardCharsets.UTF_8);
+        Files.writeString(year.resolve("modules").resolve("CS1010.json"), CS1010, StandardCharsets.UTF_8);
+        Path store = year.resolveSibling("2023-2024.bin");
+        CatalogStoreWriter.write(year, "2023-2024", store);
+        return CatalogStore.open(store);
+    }
+
+    @Test
+    void getModuleInfo_storedModule_expectSameFieldsAsSnapshot() throws IOException, ParseException {
+        CatalogStore store = writeStore();
+
+        JSONObject moduleInfo = store.getModuleInfo("CS2113");
+
+        assertEquals("2023-2024", store.getAcademicYear());
+        assertEquals(2, store.size());
+        assertEquals("4", moduleInfo.get("moduleCredit"));
+        assertEquals("[2,1,0,3,4.5]", String.valueOf(moduleInfo.get("workload")));
+        assertEquals("{\"and\":[{\"or\":[\"CS2040C:D\",\"CS2040S:D\"]},{\"nOf\":[1,[\"CS1010\",\"CS1101S\"]]}]}",
+                String.valueOf(moduleInfo.get("prereqTree")));
+        assertEquals("Varies", store.getModuleInfo("CS1010").get("workload"));
+        assertNull(store.getModuleInfo("CS5562"));
+        assertFalse(store.contains("CS5562"));
+    }
+
+    @Test
+    void getPrereqTree_storedModules_expectDecodedTrees() throws IOException, ParseException {
+        CatalogStore store = writeStore();
+
+        PrereqTree tree = store.getPrereqTree("CS2113");
+
+        assertTrue(tree.isSatisfiedBy(new ModuleList("CS2040S CS1101S")));
+        assertFalse(tree.isSatisfiedBy(new ModuleList("CS2040C")));
+        assertEquals(PrereqTree.NONE, store.getPrereqTree("CS1010"));
+        assertNull(store.getPrereqTree("CS5562"));
+    }
+
+    @Test
+    void listModules_catalogEntries_expectCatalogOrder() throws IOException, ParseException {
+        List<ModuleSummary> modules = writeStore().listModules();
+
+        assertEquals(3, modules.size());
+        assertEquals(new ModuleSummary("CS5562", "Trustworthy Machine Learning", new int[]{1}), modules.get(2));
+    }
+
+    @Test
+    void fromBuffer_notAStore_expectException() {
+        ByteBuffer buffer = ByteBuffer.wrap("{\"moduleCode\":\"CS2113\"} and more text".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> CatalogStore.fromBuffer(buffer));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.ModuleList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletePreqsTest {
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    @BeforeEach
+    public void setUpStreams() {
+        System.setOut(new PrintStream(outputStream));
+    }
+
+    @AfterEach
+    public void restoreStreams() {
+        System.setOut(originalOut);
+    }
+
+    private static HashMap<String, List<String>> modsWithPreqs() {
+        HashMap<String, List<String>> mods = new HashMap<>();
+        mods.put("CS3230", List.of("CS2030S", "CS1231S"));
+        mods.put("CS2030S", List.of("CS1231S"));
+        mods.put("CS2040S", List.of("CS1231S"));
+        return mods;
+    }
+
+    @Test
+    void getUnlockedMods_lastPrerequisiteCompleted_expectOnlyNewlyUnlockedPrinted() {
+        CompletePreqs completePreqs = new CompletePreqs(modsWithPreqs());
+        completePreqs.initializeCompletedMods(new ModuleList("CS1231S"));
+
+        assertTrue(completePreqs.getUnlockedMods("CS2030S"));
+        completePreqs.printUnlockedMods("CS2030S");
+
+        assertEquals("Mod completed: CS2030S" + System.lineSeparator()
+                + "CS3230 has been unlocked!", outputStream.toString().trim());
+    }
+
+    @Test
+    void getUnlockedMods_unmetPrerequisites_expectNotCompleted() {
+        CompletePreqs completePreqs = new CompletePreqs(modsWithPreqs());
+        completePreqs.initializeCompletedMods(new ModuleList());
+
+        assertFalse(completePreqs.getUnlockedMods("CS3230"));
+
+        assertTrue(outputStream.toString().startsWith("CS3230 cannot be marked as completed"));
+    }
+
+    @Test
+    void addModsWithPreqs_prerequisitesAlreadyCompleted_expectNotReportedAgain() {
+        CompletePreqs completePreqs = new CompletePreqs(modsWithPreqs());
+        completePreqs.initializeCompletedMods(new ModuleList("CS1231S"));
+
+        HashMap<String, List<String>> moreMods = new HashMap<>();
+        moreMods.put("CS2106", List.of("CS1231S"));
+        moreMods.put("CS4231", List.of("CS3230"));
+        completePreqs.addModsWithPreqs(moreMods);
+        completePreqs.getUnlockedMods("CS2030S");
+        completePreqs.getUnlockedMods("CS3230");
+
+        assertEquals("Mod completed: CS2030S" + System.lineSeparator()
+                + "CS3230 has been unlocked!" + System.lineSeparator()
+                + "Mod completed: CS3230" + System.lineSeparator()
+                + "CS4231 has been unlocked!", outputStream.toString().trim());
+    }
+
+    @Test
+    void getModsUnlockedBy_someCompleted_expectDirectAndEventualUnlocksSeparated() {
+        CompletePreqs completePreqs = new CompletePreqs(modsWithPreqs());
+        completePreqs.initializeCompletedMods(new ModuleList());
+        HashMap<String, List<String>> catalogPrereqs = new HashMap<>();
+        catalogPrereqs.put("CS2030S", List.of("CS1231S"));
+        catalogPrereqs.put("CS4231", List.of("CS3230"));
+        ReachabilityIndex reachabilityIndex = new ReachabilityIndex(catalogPrereqs);
+
+        assertEquals(List.of("CS2030S", "CS2040S"), completePreqs.getModsUnlockedBy("CS1231S"));
+        assertEquals(List.of("CS3230", "CS4231"),
+                completePreqs.getModsEventuallyUnlockedBy("CS1231S", reachabilityIndex));
+
+        completePreqs.getUnlockedMods("CS1231S");
+        assertEquals(List.of("CS3230"), completePreqs.getModsUnlockedBy("CS2030S"));
+        assertEquals(List.of("CS4231"), completePreqs.getModsEventuallyUnlockedBy("CS2030S", reachabilityIndex));
+        assertEquals(List.of(), completePreqs.getModsUnlockedBy("CS1231S"));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.SemesterPlan;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CriticalPathSchedulerTest {
+    private static final List<String> MODULES = List.of("GE1", "GE2", "GE3", "GE4", "GE5", "CS1", "CS2", "CS3");
+
+    private static Map<String, List<String>> chainPrereqs() {
+        Map<String, List<String>> prereqs = new HashMap<>();
+        prereqs.put("CS2", List.of("CS1"));
+        prereqs.put("CS3", List.of("CS2", "CS1", "MA9999"));
+        return prereqs;
+    }
+
+    private static Map<String, Integer> credits(List<String> modules, int credit) {
+        Map<String, Integer> credits = new HashMap<>();
+        for (String module : modules) {
+            credits.put(module, credit);
+        }
+        return credits;
+    }
+
+    @Test
+    void plan_chainListedLast_expectChainStartedFirst() {
+        CriticalPathScheduler scheduler = new CriticalPathScheduler(MODULES, chainPrereqs(), credits(MODULES, 4));
+
+        SemesterPlan plan = scheduler.plan(8, 8);
+
+        assertEquals(3, scheduler.getCriticalPathLength());
+        assertEquals(3, scheduler.getEdgeCount());
+        assertEquals(List.of("CS1", "GE1"), plan.getModules(1));
+        assertEquals(List.of("CS2", "GE2"), plan.getModules(2));
+        assertEquals(List.of("GE3", "GE4"), plan.getModules(3));
+        assertEquals(List.of("GE5", "CS3"), plan.getModules(4));
+        assertEquals(4, plan.getLastSemester());
+        assertTrue(plan.getUnscheduledModules().isEmpty());
+    }
+
+    @Test
+    void plan_mixedCredits_expectEverySemesterWithinCap() {
+        Map<String, Integer> credits = credits(MODULES, 4);
+        credits.put("GE1", 2);
+        credits.put("GE2", 12);
+        CriticalPathScheduler scheduler = new CriticalPathScheduler(MODULES, chainPrereqs(), credits);
+
+        SemesterPlan plan = scheduler.plan(10, 8);
+
+        for (int sem = 1; sem <= plan.getNumberOfSemesters(); sem++) {
+            if (plan.getModules(sem).contains("GE2")) {
+                assertEquals(List.of("GE2"), plan.getModules(sem));
+            } else {
+                assertTrue(plan.getCredits(sem) <= 10);
+            }
+        }
+        assertEquals(List.of("CS1", "GE1", "GE3"), plan.getModules(1));
+        assertTrue(plan.getUnscheduledModules().isEmpty());
+    }
+
+    @Test
+    void plan_tooFewSemesters_expectRemainingModulesUnscheduled() {
+        CriticalPathScheduler scheduler = new CriticalPathScheduler(MODULES, chainPrereqs(), credits(MODULES, 4));
+
+        SemesterPlan plan = scheduler.plan(8, 2);
+
+        assertEquals(List.of("GE3", "GE4", "GE5", "CS3"), plan.getUnscheduledModules());
+        assertEquals(List.of("CS1", "GE1", "CS2", "GE2"), plan.getModuleOrder());
+    }
+
+    @Test
+    void plan_fixedPrerequisite_expectDependentsPlannedAfterIt() {
+        CriticalPathScheduler scheduler = new CriticalPathScheduler(MODULES, chainPrereqs(), credits(MODULES, 4));
+
+        SemesterPlan plan = scheduler.plan(8, 8, Map.of("CS1", 3, "MA9999", 1));
+
+        assertEquals(List.of("GE1", "GE2"), plan.getModules(1));
+        assertEquals(List.of("CS1", "GE5"), plan.getModules(3));
+        assertEquals(List.of("CS2"), plan.getModules(4));
+        assertEquals(List.of("CS3"), plan.getModules(5));
+        assertTrue(plan.getUnscheduledModules().isEmpty());
+    }
+
+    @Test
+    void constructor_missingCredits_expectException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CriticalPathScheduler(MODULES, chainPrereqs(), credits(List.of("CS1"), 4)));
+    }
+}
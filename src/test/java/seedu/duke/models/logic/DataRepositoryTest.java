@@ -1,13 +1,87 @@
 package seedu.duke.models.logic;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.RequirementGroup;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DataRepositoryTest {
     @Test
     void validRequirementsReturned() {
-        ArrayList<String> cegRequirementArray = DataRepository.getRequirements("CEG");
+        List<String> cegRequirementArray = DataRepository.getRequirements("CEG");
         assert(!cegRequirementArray.isEmpty());
     }
+
+    @Test
+    void getRequirements_repeatedLookups_expectSameUnmodifiableRequirements() {
+        List<String> requirements = DataRepository.getRequirements("CEG");
+        Set<String> requirementSet = DataRepository.getRequirementSet("CEG");
+
+        assertSame(requirements, DataRepository.getRequirements("CEG"));
+        assertEquals(requirements.size(), requirementSet.size());
+        assertTrue(requirementSet.contains("CS2113"));
+        assertFalse(requirementSet.contains("CS2100"));
+        assertThrows(UnsupportedOperationException.class, () -> requirements.add("CS2100"));
+        assertThrows(UnsupportedOperationException.class, () -> requirementSet.remove("CS2113"));
+    }
+
+    @Test
+    void getRequirements_fileChanged_expectReloaded() throws IOException {
+        Path directory = Files.createTempDirectory("requirements");
+        Path file = directory.resolve("TESTRequirementsModuleCodes");
+        Files.writeString(file, "*Core*\nCS1010 Programming Methodology\n\nCS2040C\n");
+
+        DataRepository.Requirements requirements = DataRepository.getRequirements("TEST", directory);
+        assertEquals(List.of("CS1010", "CS2040C"), requirements.getModules());
+        assertSame(requirements, DataRepository.getRequirements("TEST", directory));
+
+        Files.writeString(file, "CS1010\nCS2040C\nCS2113\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plus(Duration.ofMinutes(1))));
+
+        DataRepository.Requirements reloaded = DataRepository.getRequirements("TEST", directory);
+        assertEquals(List.of("CS1010", "CS2040C", "CS2113"), reloaded.getModules());
+        assertTrue(reloaded.getModuleSet().contains("CS2113"));
+    }
+
+    @Test
+    void getRequirements_noFileInDirectory_expectBundledRequirements() throws IOException {
+        Path directory = Files.createTempDirectory("requirements");
+
+        List<String> bundled = DataRepository.getRequirements("CEG", directory).getModules();
+
+        assertEquals(31, bundled.size());
+        assertEquals("CG1111A", bundled.get(0));
+    }
+
+    @Test
+    void getRequirementTree_validMajor_expectSameModulesAsModuleCodes() {
+        RequirementGroup requirements = DataRepository.getRequirementTree("CEG");
+        DegreeAudit audit = new DegreeAudit(requirements, module -> 0);
+
+        assertEquals(160, requirements.getRequiredCredits());
+        for (String module : audit.getModulesLeft()) {
+            assertTrue(DataRepository.getRequirementSet("CEG").contains(module), module);
+        }
+    }
+
+    @Test
+    void getRequirementTree_noFileInDirectory_expectNull() throws IOException {
+        Path directory = Files.createTempDirectory("requirements");
+
+        assertNull(DataRepository.getRequirementTree("TEST", directory));
+    }
 }
@@ -0,0 +1,76 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.RequirementGroup;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DegreeAuditTest {
+    private static final List<String> REQUIREMENTS = List.of(
+            "*Modular Requirements for TEST - Units",
+            "**Core - 8",
+            "CS2113 Software Engineering - 4",
+            "GEA1000 / BT1101 (Data Literacy) - 4",
+            "",
+            "**Electives - 8");
+
+    private DegreeAudit createAudit() {
+        return new DegreeAudit(RequirementGroup.parse(REQUIREMENTS), module -> 4);
+    }
+
+    @Test
+    void markCompleted_requiredAndElectiveModules_expectCreditsPerGroup() {
+        DegreeAudit audit = createAudit();
+        RequirementGroup core = audit.getRequirements().getSubgroups().get(0);
+        RequirementGroup electives = audit.getRequirements().getSubgroups().get(1);
+
+        audit.markCompleted("BT1101");
+        audit.markCompleted("CS3230");
+
+        assertEquals(4, audit.getCompletedCredits(core));
+        assertEquals(4, audit.getOutstandingCredits(core));
+        assertEquals(4, audit.getCompletedCredits(electives));
+        assertEquals(List.of("CS3230"), audit.getModulesCountedIn(electives));
+        assertEquals(16, audit.getRequiredCredits());
+        assertEquals(8, audit.getOutstandingCredits());
+        assertEquals(List.of("CS2113"), audit.getModulesLeft());
+    }
+
+    @Test
+    void markCompleted_groupAlreadyMet_expectCreditsCapped() {
+        DegreeAudit audit = createAudit();
+
+        audit.markCompleted("CS3230");
+        audit.markCompleted("CS3233");
+        audit.markCompleted("CS4231");
+
+        assertEquals(8, audit.getCompletedCredits());
+        assertEquals(8, audit.getOutstandingCredits());
+    }
+
+    @Test
+    void markPlanned_thenCompletedOrDeleted_expectAuditUpdated() {
+        DegreeAudit audit = createAudit();
+
+        audit.markPlanned("CS2113");
+        assertEquals(4, audit.getPlannedCredits());
+        assertEquals(0, audit.getCompletedCredits());
+        assertEquals(List.of("CS2113", "GEA1000"), audit.getModulesLeft());
+
+        audit.markCompleted("CS2113");
+        audit.unmarkPlanned("CS2113");
+        assertTrue(audit.isCompleted("CS2113"));
+        assertEquals(0, audit.getPlannedCredits());
+        assertEquals(4, audit.getCompletedCredits());
+
+        audit.markPlanned("GEA1000");
+        audit.unmarkPlanned("GEA1000");
+        assertFalse(audit.isCompleted("GEA1000"));
+        assertEquals(0, audit.getPlannedCredits());
+        assertEquals(List.of("GEA1000"), audit.getModulesLeft());
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.SemesterPlan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependencyGraphTest {
+
+    private static void assertTopological(DependencyGraph graph) {
+        List<String> order = graph.getTopologicalOrder();
+        assertEquals(graph.size(), order.size());
+        for (String module : order) {
+            for (String prereq : graph.getPrereqs(module)) {
+                assertTrue(order.indexOf(prereq) < order.indexOf(module), prereq + " should be before " + module);
+            }
+        }
+    }
+
+    @Test
+    void addModule_prereqsAddedFirst_expectNoReordering() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addModule("CS1010", 4, List.of());
+        graph.addModule("CS2040C", 4, List.of("CS1010"));
+        graph.addModule("CS2113", 4, List.of("CS2040C"));
+
+        assertEquals(List.of("CS1010", "CS2040C", "CS2113"), graph.getTopologicalOrder());
+        assertEquals(0, graph.getReorderedCount());
+    }
+
+    @Test
+    void addModule_prereqAddedAfterDependents_expectLinkedAndOnlyAffectedModulesMoved() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addModule("GE1", 4, List.of());
+        graph.addModule("CS2113", 4, List.of("CS2040C"));
+        graph.addModule("GE2", 4, List.of());
+        graph.addModule("CS2040C", 4, List.of("CS1010"));
+        graph.addModule("GE3", 4, List.of());
+        graph.addModule("CS1010", 4, List.of());
+
+        assertEquals(List.of("CS2040C"), graph.getPrereqs("CS2113"));
+        assertEquals(List.of("CS1010"), graph.getPrereqs("CS2040C"));
+        assertEquals(List.of("GE1", "CS1010", "GE2", "CS2040C", "GE3", "CS2113"), graph.getTopologicalOrder());
+        assertEquals(5, graph.getReorderedCount());
+    }
+
+    @Test
+    void setPrereqs_cycle_expectEdgeLeftOutAndOrderKept() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addModule("MA1511", 2, List.of());
+        graph.addModule("MA1508E", 4, List.of("MA1511"));
+
+        assertFalse(graph.setPrereqs("MA1511", List.of("MA1508E")));
+        assertTrue(graph.getPrereqs("MA1511").isEmpty());
+        assertTopological(graph);
+    }
+
+    @Test
+    void randomEdits_expectOrderAlwaysTopological() {
+        Random random = new Random(2113);
+        DependencyGraph graph = new DependencyGraph();
+        List<String> modules = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            modules.add("M" + i);
+        }
+        for (int step = 0; step < 500; step++) {
+            String module = modules.get(random.nextInt(modules.size()));
+            if (graph.contains(module) && random.nextInt(4) == 0) {
+                graph.removeModule(module);
+            } else {
+                List<String> prereqs = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    prereqs.add(modules.get(random.nextInt(modules.size())));
+                }
+                graph.addModule(module, 4, prereqs);
+            }
+            assertTopological(graph);
+        }
+    }
+
+    @Test
+    void toScheduler_completedModule_expectLeftOutAndDependentsFreed() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addModule("CS1010", 4, List.of());
+        graph.addModule("CS2040C", 4, List.of("CS1010"));
+        graph.addModule("CS2113", 4, List.of("CS2040C"));
+        graph.setCompleted("CS1010", true);
+
+        SemesterPlan plan = graph.toScheduler().plan(20, 8);
+
+        assertTrue(graph.isCompleted("CS1010"));
+        assertEquals(List.of("CS2040C"), plan.getModules(1));
+        assertEquals(List.of("CS2113"), plan.getModules(2));
+        assertEquals(2, plan.getLastSemester());
+    }
+}
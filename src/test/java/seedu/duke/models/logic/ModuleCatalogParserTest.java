@@ -0,0 +1,50 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleCatalogParserTest {
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parseAll_catalogWithExtraFields_expectCompactModulesInOrder() throws IOException, ParseException {
+        String catalog = "[{\"moduleCode\":\"CS2113\",\"title\":\"Software Engineering & Object-Oriented "
+                + "Programming\",\"semesters\":[1,2],\"extra\":{\"title\":\"ignored\",\"semesters\":[9]}},"
+                + "{\"title\":\"Trustworthy Machine Learning\",\"semesters\":[1],\"moduleCode\":\"CS5562\"},"
+                + "{\"moduleCode\":\"CG4002\",\"title\":\"Computer Engineering Capstone Project 1\",\"semesters\":[]}]";
+
+        List<ModuleSummary> modules = ModuleCatalogParser.parseAll(stream(catalog));
+
+        assertEquals(3, modules.size());
+        assertEquals("CS2113", modules.get(0).getModuleCode());
+        assertEquals("Software Engineering & Object-Oriented Programming", modules.get(0).getTitle());
+        assertArrayEquals(new int[]{1, 2}, modules.get(0).getSemesters());
+        assertEquals(new ModuleSummary("CS5562", "Trustworthy Machine Learning", new int[]{1}), modules.get(1));
+        assertArrayEquals(new int[0], modules.get(2).getSemesters());
+    }
+
+    @Test
+    void parseAll_emptyCatalog_expectEmptyList() throws IOException, ParseException {
+        assertTrue(ModuleCatalogParser.parseAll(stream("[]")).isEmpty());
+    }
+
+    @Test
+    void parseAll_notACatalog_expectParseException() {
+        assertThrows(ParseException.class, () -> ModuleCatalogParser.parseAll(stream("{\"moduleCode\":\"CS2113\"}")));
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleInfoCacheTest {
+
+    private static JSONObject moduleInfo(String moduleCode) {
+        JSONObject moduleInfo = new JSONObject();
+        moduleInfo.put("moduleCode", moduleCode);
+        return moduleInfo;
+    }
+
+    @Test
+    void get_repeatedLookup_expectSingleLoad() {
+        ModuleInfoCache cache = new ModuleInfoCache(4);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("CS2113", code -> {
+            loads.incrementAndGet();
+            return moduleInfo(code);
+        });
+        cache.get("CS2113", code -> {
+            loads.incrementAndGet();
+            return moduleInfo(code);
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void get_overCapacity_expectLeastRecentlyUsedEvicted() {
+        ModuleInfoCache cache = new ModuleInfoCache(2);
+        cache.get("CS1010", ModuleInfoCacheTest::moduleInfo);
+        cache.get("CS1231", ModuleInfoCacheTest::moduleInfo);
+        cache.get("CS1010", ModuleInfoCacheTest::moduleInfo);
+        cache.get("CS2113", ModuleInfoCacheTest::moduleInfo);
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("CS1010", code -> {
+            loads.incrementAndGet();
+            return moduleInfo(code);
+        });
+        cache.get("CS1231", code -> {
+            loads.incrementAndGet();
+            return moduleInfo(code);
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    void get_invalidModule_expectNullNotCached() {
+        ModuleInfoCache cache = new ModuleInfoCache(2);
+        assertNull(cache.get("WRONG", code -> null));
+        assertNull(cache.get("WRONG", code -> null));
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void get_concurrentLookups_expectSharedFetch() throws InterruptedException {
+        ModuleInfoCache cache = new ModuleInfoCache(4);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread leader = new Thread(() -> cache.get("CS2113", code -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return moduleInfo(code);
+        }));
+        leader.start();
+        loading.await();
+
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread follower = new Thread(() -> cache.get("CS2113", code -> {
+                loads.incrementAndGet();
+                return moduleInfo(code);
+            }));
+            followers.add(follower);
+            follower.start();
+        }
+        while (cache.getCoalescedCount() < followers.size()) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_waitingCallerInterrupted_expectCancelledWithoutWaiting() throws InterruptedException {
+        ModuleInfoCache cache = new ModuleInfoCache(4);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = new Thread(() -> cache.get("CS2113", code -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return moduleInfo(code);
+        }));
+        leader.start();
+        loading.await();
+
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Thread follower = new Thread(() -> {
+            try {
+                cache.get("CS2113", ModuleInfoCacheTest::moduleInfo);
+            } catch (RuntimeException e) {
+                failure.set(e);
+            }
+        });
+        follower.start();
+        try {
+            while (cache.getCoalescedCount() < 1) {
+                Thread.sleep(1);
+            }
+            follower.interrupt();
+            follower.join(5000);
+
+            assertFalse(follower.isAlive());
+            assertTrue(failure.get() instanceof CancellationException);
+        } finally {
+            release.countDown();
+            leader.join();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleInfoDiskCacheTest {
+    private static final String CS2113_BODY = "{\"moduleCode\":\"CS2113\",\"title\":\"Software Engineering\"}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_entryWithinFreshness_expectCachedBody() throws IOException {
+        ModuleInfoDiskCache cache = new ModuleInfoDiskCache(directory, "2023-2024", Duration.ofHours(1), true);
+
+        cache.write("CS2113", CS2113_BODY);
+
+        assertEquals(CS2113_BODY, cache.read("CS2113"));
+        assertEquals(CS2113_BODY, new ModuleInfoDiskCache(directory, "2023-2024", Duration.ofHours(1), true)
+                .read("CS2113"));
+    }
+
+    @Test
+    void read_expiredEntry_expectOnlyStaleRead() throws IOException {
+        ModuleInfoDiskCache cache = new ModuleInfoDiskCache(directory, "2023-2024", Duration.ofHours(1), true);
+
+        cache.write("CS2113", CS2113_BODY);
+        Path entry = directory.resolve("2023-2024").resolve("modules").resolve("CS2113.json");
+        Files.setLastModifiedTime(entry, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        assertNull(cache.read("CS2113"));
+        assertEquals(CS2113_BODY, cache.readStale("CS2113"));
+    }
+
+    @Test
+    void write_invalidModuleCode_expectNotCached() throws IOException {
+        ModuleInfoDiskCache cache = new ModuleInfoDiskCache(directory, "2023-2024", Duration.ofHours(1), true);
+
+        cache.write("../CS2113", CS2113_BODY);
+
+        assertNull(cache.readStale("../CS2113"));
+    }
+
+    @Test
+    void write_moveFails_expectNoTemporaryFileLeft() throws IOException {
+        ModuleInfoDiskCache cache = new ModuleInfoDiskCache(directory, "2023-2024", Duration.ofHours(1), true);
+        Path modules = directory.resolve("2023-2024").resolve("modules");
+        //a non-empty directory in place of the entry cannot be replaced
+        Files.createDirectories(modules.resolve("CS2113.json"));
+        Files.writeString(modules.resolve("CS2113.json").resolve("blocker"), "");
+
+        cache.write("CS2113", CS2113_BODY);
+
+        try (Stream<Path> files = Files.list(modules)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.ModuleSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModuleSearchIndexTest {
+
+    private static ModuleSummary module(String moduleCode, String title) {
+        return new ModuleSummary(moduleCode, title, new int[]{1, 2});
+    }
+
+    private static ModuleSearchIndex sampleIndex() {
+        List<ModuleSummary> moduleList = new ArrayList<>();
+        moduleList.add(module("CS5562", "Trustworthy Machine Learning"));
+        moduleList.add(module("CS3244", "Machine Learning"));
+        moduleList.add(module("CS2113", "Software Engineering & Object-Oriented Programming"));
+        moduleList.add(module("CS2040C", "Data Structures and Algorithms"));
+        moduleList.add(module("EE4204", "Computer Networks"));
+        return new ModuleSearchIndex(moduleList);
+    }
+
+    private static String codeAt(List<ModuleSummary> results, int index) {
+        return results.get(index).getModuleCode();
+    }
+
+    @Test
+    void search_differentCase_expectCaseInsensitiveMatch() {
+        List<ModuleSummary> results = sampleIndex().search("machine LEARNING");
+
+        assertEquals(2, results.size());
+        assertEquals("CS3244", codeAt(results, 0));
+        assertEquals("CS5562", codeAt(results, 1));
+    }
+
+    @Test
+    void search_moduleCode_expectExactCodeFirst() {
+        List<ModuleSummary> results = sampleIndex().search("cs2040c");
+
+        assertEquals(1, results.size());
+        assertEquals("CS2040C", codeAt(results, 0));
+        assertEquals(2, sampleIndex().search("CS2").size());
+    }
+
+    @Test
+    void search_allKeywordsRequired_expectOnlyModulesWithEveryKeyword() {
+        List<ModuleSummary> results = sampleIndex().search("trust learn");
+
+        assertEquals(1, results.size());
+        assertEquals("CS5562", codeAt(results, 0));
+    }
+
+    @Test
+    void search_shortAndUnknownKeywords_expectSubstringAndEmptyResults() {
+        ModuleSearchIndex index = sampleIndex();
+
+        assertEquals(1, index.search("ks").size());
+        assertTrue(index.search("bs#4%ggh").isEmpty());
+        assertTrue(index.search("   ").isEmpty());
+    }
+}
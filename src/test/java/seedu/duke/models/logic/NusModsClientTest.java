@@ -0,0 +1,74 @@
+package seedu.duke.models.logic;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NusModsClientTest {
+    private static final String CS2113_BODY = "{\"moduleCode\":\"CS2113\"}";
+
+    @Test
+    void fetch_gzipResponseFromStubServer_expectDecodedBody() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/2023-2024/modules/CS2113.json", exchange -> {
+            byte[] body = gzip(CS2113_BODY);
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            String baseUrl = "http://localhost:" + server.getAddress().getPort();
+            NusModsClient client = new NusModsClient(baseUrl, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+            assertEquals(CS2113_BODY, client.fetch("2023-2024/modules/CS2113.json"));
+            assertEquals(CS2113_BODY, client.fetch("2023-2024/modules/CS2113.json"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void fetch_slowStubServer_expectTimeout() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            String baseUrl = "http://localhost:" + server.getAddress().getPort();
+            NusModsClient client = new NusModsClient(baseUrl, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+            assertThrows(HttpTimeoutException.class, () -> client.fetch("slow.json", Duration.ofMillis(50)));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.duke.models.logic;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.Test;
+import seedu.duke.models.schema.ModuleList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrereqTreeTest {
+
+    private static PrereqTree compile(String json) throws ParseException {
+        JSONObject rawTree = (JSONObject) new JSONParser().parse(json);
+        return PrereqTree.compile(rawTree);
+    }
+
+    @Test
+    void isSatisfiedBy_andOfOr_expectBothBranchesChecked() throws ParseException {
+        PrereqTree tree = compile("{\"and\":[{\"or\":[\"CS1231:D\",\"MA1100%:D\"]},\"CS1010:D\"]}");
+
+        assertTrue(tree.isSatisfiedBy(new ModuleList("CS1010 CS1231")));
+        assertTrue(tree.isSatisfiedBy(new ModuleList("MA1100 CS1010")));
+        assertFalse(tree.isSatisfiedBy(new ModuleList("CS1231")));
+        assertFalse(tree.isSatisfiedBy(new ModuleList()));
+    }
+
+    @Test
+    void isSatisfiedBy_orWithNestedBranchFirst_expectLaterAlternativesChecked() throws ParseException {
+        PrereqTree tree = compile("{\"or\":[{\"and\":[\"MA1511\",\"MA1512\"]},\"MA1521\"]}");
+
+        assertTrue(tree.isSatisfiedBy(new ModuleList("MA1521")));
+        assertTrue(tree.isSatisfiedBy(new ModuleList("MA1511 MA1512")));
+        assertFalse(tree.isSatisfiedBy(new ModuleList("MA1511")));
+    }
+
+    @Test
+    void isSatisfiedBy_nOf_expectThresholdRespected() throws ParseException {
+        PrereqTree tree = compile("{\"nOf\":[2,[\"CS2030\",\"CS2040\",\"CS2100\"]]}");
+
+        assertTrue(tree.isSatisfiedBy(new ModuleList("CS2040 CS2100")));
+        assertFalse(tree.isSatisfiedBy(new ModuleList("CS2040")));
+    }
+
+    @Test
+    void listAlternatives_orWithinAnd_expectPreferredModulesFirst() throws ParseException {
+        PrereqTree tree = compile("{\"and\":[\"CG1111A:D\",{\"or\":[\"CS1010E:D\",\"CS1010:D\"]}]}");
+
+        List<Set<String>> alternatives = tree.listAlternatives(Set.of("CG1111A", "CS1010"), 8);
+
+        assertEquals(List.of(Set.of("CG1111A", "CS1010"), Set.of("CG1111A", "CS1010E")), alternatives);
+    }
+
+    @Test
+    void listAlternatives_nOfAndSupersets_expectMinimalCombinations() throws ParseException {
+        PrereqTree nOf = compile("{\"nOf\":[2,[\"CS2030\",\"CS2040\",\"CS2100\"]]}");
+        PrereqTree redundant = compile("{\"or\":[{\"and\":[\"MA1511\",\"MA1512\"]},\"MA1511\"]}");
+
+        assertEquals(3, nOf.listAlternatives(Set.of(), 8).size());
+        assertEquals(2, nOf.listAlternatives(Set.of(), 2).size());
+        assertEquals(List.of(Set.of("MA1511")), redundant.listAlternatives(Set.of(), 8));
+        assertEquals(List.of(Set.of()), PrereqTree.NONE.listAlternatives(Set.of(), 8));
+    }
+
+    @Test
+    void compile_singleModuleAndNone_expectLeafAndAlwaysSatisfied() {
+        PrereqTree single = PrereqTree.compile("CS1010:D");
+
+        assertEquals(List.of("CS1010"), single.getModuleCodes());
+        assertTrue(single.isSatisfiedBy(new ModuleList("CS1010")));
+        assertTrue(PrereqTree.compile(null).isSatisfiedBy(new ModuleList()));
+    }
+
+    @Test
+    void compile_unknownShape_expectException() {
+        assertThrows(IllegalArgumentException.class, () -> compile("{\"xor\":[\"CS1010\"]}"));
+    }
+
+    @Test
+    void collectCoursePrereqs_orBranch_expectFirstRequirementOnly() throws ParseException {
+        PrereqTree tree = compile("{\"and\":[{\"or\":[\"CS1231S\",\"CS1231\",\"MA1100\"]},\"CS1010\"]}");
+        ArrayList<String> prerequisites = new ArrayList<>();
+
+        tree.collectCoursePrereqs(List.of("CS1231", "MA1100", "CS1010"), prerequisites);
+
+        assertEquals(List.of("CS1231", "CS1010"), prerequisites);
+    }
+}
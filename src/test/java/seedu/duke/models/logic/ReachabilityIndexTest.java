@@ -0,0 +1,84 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReachabilityIndexTest {
+
+    private static Map<String, List<String>> cegChain() {
+        Map<String, List<String>> prereqs = new HashMap<>();
+        prereqs.put("CS1010", List.of());
+        prereqs.put("CS2040C", List.of("CS1010", "CS1010E"));
+        prereqs.put("CS2113", List.of("CS2040C"));
+        prereqs.put("CG2271", List.of("CG2028", "CS2040C"));
+        prereqs.put("CG2028", List.of("CS1010", "EE2026"));
+        return prereqs;
+    }
+
+    @Test
+    void isPrerequisiteOf_chainOfModules_expectTransitiveAnswers() {
+        ReachabilityIndex index = new ReachabilityIndex(cegChain());
+
+        assertTrue(index.isPrerequisiteOf("CS1010", "CS2040C"));
+        assertTrue(index.isPrerequisiteOf("CS1010", "CS2113"));
+        assertTrue(index.isPrerequisiteOf("EE2026", "CG2271"));
+        assertFalse(index.isPrerequisiteOf("CS2113", "CS1010"));
+        assertFalse(index.isPrerequisiteOf("EE2026", "CS2113"));
+        assertFalse(index.isPrerequisiteOf("CS1010", "CS1010"));
+        assertFalse(index.isPrerequisiteOf("CS1010", "MA1511"));
+    }
+
+    @Test
+    void getUnlocks_modulesOnlyMentionedAsPrerequisites_expectIndexedInAlphabeticalOrder() {
+        ReachabilityIndex index = new ReachabilityIndex(cegChain());
+
+        assertEquals(7, index.size());
+        assertTrue(index.contains("CS1010E"));
+        assertEquals(List.of("CG2028", "CG2271", "CS2040C", "CS2113"), index.getUnlocks("CS1010"));
+        assertEquals(List.of("CG2271", "CS2040C", "CS2113"), index.getUnlocks("CS1010E"));
+        assertEquals(4, index.countUnlocks("CS1010"));
+        assertEquals(List.of("CG2028", "CS1010", "CS1010E", "CS2040C", "EE2026"), index.getPrerequisites("CG2271"));
+        assertEquals(List.of(), index.getUnlocks("CS2113"));
+        assertEquals(List.of(), index.getUnlocks("MA1511"));
+    }
+
+    @Test
+    void getUnlocks_prerequisiteCycle_expectCycleAndItsDependentsReached() {
+        Map<String, List<String>> prereqs = new HashMap<>();
+        prereqs.put("A1000", List.of("B1000"));
+        prereqs.put("B1000", List.of("A1000"));
+        prereqs.put("C1000", List.of("B1000"));
+        prereqs.put("D1000", List.of("C1000"));
+        ReachabilityIndex index = new ReachabilityIndex(prereqs);
+
+        assertEquals(List.of("B1000", "C1000", "D1000"), index.getUnlocks("A1000"));
+        assertEquals(List.of("A1000", "C1000", "D1000"), index.getUnlocks("B1000"));
+        assertEquals(3, index.countUnlocks("A1000"));
+        assertEquals(List.of("A1000", "B1000", "C1000"), index.getPrerequisites("D1000"));
+    }
+
+    @Test
+    void getUnlocks_chainLongerThanOneWord_expectEveryLaterModule() {
+        Map<String, List<String>> prereqs = new HashMap<>();
+        List<String> modules = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            modules.add(String.format("M%04d", i));
+            prereqs.put(modules.get(i), i == 0 ? List.of() : List.of(modules.get(i - 1)));
+        }
+        ReachabilityIndex index = new ReachabilityIndex(prereqs);
+
+        assertEquals(modules.subList(1, 150), index.getUnlocks("M0000"));
+        assertEquals(modules.subList(0, 149), index.getPrerequisites("M0149"));
+        assertTrue(index.isPrerequisiteOf("M0010", "M0140"));
+        assertFalse(index.isPrerequisiteOf("M0140", "M0010"));
+        assertEquals(85, index.countUnlocks("M0064"));
+    }
+}
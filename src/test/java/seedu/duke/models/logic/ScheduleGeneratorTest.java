@@ -2,9 +2,29 @@ package seedu.duke.models.logic;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.duke.models.schema.PlanAlternative;
+import seedu.duke.models.schema.Schedule;
+import seedu.duke.models.schema.SemesterPlan;
+
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.duke.models.logic.Api.getModulePrereqBasedOnCourse;
+import static seedu.duke.models.logic.DataRepository.getRequirements;
+import static seedu.duke.models.logic.ScheduleGenerator.excludeModule;
+import static seedu.duke.models.logic.ScheduleGenerator.generateAlternativePlans;
+import static seedu.duke.models.logic.ScheduleGenerator.generateRecommendedPlan;
 import static seedu.duke.models.logic.ScheduleGenerator.generateRecommendedSchedule;
+import static seedu.duke.models.logic.ScheduleGenerator.includeModule;
+import static seedu.duke.models.logic.ScheduleGenerator.setModuleCompleted;
+import static seedu.duke.models.logic.ScheduleGenerator.warmUp;
 
 class ScheduleGeneratorTest {
     @Test
@@ -12,4 +32,122 @@ class ScheduleGeneratorTest {
         ArrayList<String> cegRequirementArray = generateRecommendedSchedule("CEG");
         assert(!cegRequirementArray.isEmpty());
     }
+
+    @Test
+    void generateRecommendedPlan_ceg_expectPrereqsInEarlierSemestersWithinCap() {
+        SemesterPlan plan = generateRecommendedPlan("CEG");
+
+        assertTrue(plan.getUnscheduledModules().isEmpty());
+        for (int sem = 1; sem <= plan.getNumberOfSemesters(); sem++) {
+            assertTrue(plan.getCredits(sem) <= 20);
+            for (String module : plan.getModules(sem)) {
+                List<String> prereqs = getModulePrereqBasedOnCourse(module, "CEG");
+                for (String prereq : prereqs == null ? List.<String>of() : prereqs) {
+                    int prereqSem = semesterOf(plan, prereq);
+                    assertTrue(prereqSem >= 1 && prereqSem < sem, prereq + " should be before " + module);
+                }
+            }
+        }
+    }
+
+    @Test
+    void generateAlternativePlans_ceg_expectDistinctRankedPlansWithinCap() {
+        List<PlanAlternative> plans = generateAlternativePlans("CEG", 3);
+
+        assertFalse(plans.isEmpty());
+        for (int i = 0; i < plans.size(); i++) {
+            SemesterPlan plan = plans.get(i).getPlan();
+            assertTrue(plan.getUnscheduledModules().isEmpty());
+            assertTrue(plans.get(i).getPeakCredits() <= 20);
+            if (i > 0) {
+                assertNotEquals(plans.get(i - 1).getPlan(), plan);
+                assertTrue(plans.get(i - 1).getGraduationSemester() <= plans.get(i).getGraduationSemester());
+            }
+            for (Map.Entry<String, Set<String>> choice : plans.get(i).getChosenPrereqs().entrySet()) {
+                for (String prereq : choice.getValue()) {
+                    assertTrue(semesterOf(plan, prereq) < semesterOf(plan, choice.getKey()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void generateRecommendedPlan_moduleAddedAndCompleted_expectPlanUpdated() {
+        try {
+            setModuleCompleted("CEG", "CS1010", true);
+            includeModule("CEG", "CS2100");
+            SemesterPlan plan = generateRecommendedPlan("CEG");
+
+            assertEquals(-1, semesterOf(plan, "CS1010"));
+            assertTrue(semesterOf(plan, "CS2100") >= 1);
+            assertEquals(1, semesterOf(plan, "CS2040C"));
+        } finally {
+            excludeModule("CEG", "CS2100");
+            setModuleCompleted("CEG", "CS1010", false);
+        }
+        assertEquals(1, semesterOf(generateRecommendedPlan("CEG"), "CS1010"));
+    }
+
+    @Test
+    void excludeModule_requiredModuleAddedAndDeleted_expectStillPlanned() {
+        includeModule("CEG", "CS1010");
+        excludeModule("CEG", "CS1010");
+
+        assertEquals(1, semesterOf(generateRecommendedPlan("CEG"), "CS1010"));
+    }
+
+    @Test
+    void addSemesterPlan_moduleCompletedThenPlanAccepted_expectWholePlanAdded() {
+        try {
+            setModuleCompleted("CEG", "CS1010", true);
+            Schedule schedule = new Schedule();
+            schedule.markCompleted("CS1010", 4);
+            SemesterPlan plan = generateRecommendedPlan("CEG", schedule.getSemestersOfModules());
+
+            assertEquals(List.of(), schedule.addSemesterPlan(plan));
+            assertEquals(semesterOf(plan, "CS2040C"), schedule.getSemesterOfModule("CS2040C"));
+            assertEquals(-1, schedule.getSemesterOfModule("CS1010"));
+            assertEquals(4, schedule.getCreditLedger().getCompletedCredits());
+        } finally {
+            setModuleCompleted("CEG", "CS1010", false);
+        }
+    }
+
+    @Test
+    void includeModule_moduleWithoutCredits_expectLeftOutWithoutError() {
+        try {
+            includeModule("CEG", "XX0000");
+            assertEquals(-1, semesterOf(generateRecommendedPlan("CEG"), "XX0000"));
+        } finally {
+            excludeModule("CEG", "XX0000");
+        }
+    }
+
+    @Test
+    void warmUp_ceg_expectCoursePrereqsOfEveryRequirement() {
+        Map<String, ArrayList<String>> prereqsByModule = warmUp("CEG");
+
+        assertEquals(getRequirements("CEG"), new ArrayList<>(prereqsByModule.keySet()));
+        for (Map.Entry<String, ArrayList<String>> entry : prereqsByModule.entrySet()) {
+            List<String> prereqs = getModulePrereqBasedOnCourse(entry.getKey(), "CEG");
+            assertEquals(new HashSet<>(prereqs == null ? List.of() : prereqs), new HashSet<>(entry.getValue()));
+        }
+    }
+
+    @Test
+    void warmUp_ceg_expectReachabilityIndexBuilt() {
+        warmUp("CEG");
+
+        assertTrue(Api.isReachabilityIndexBuilt());
+        assertTrue(Api.getReachabilityIndex().isPrerequisiteOf("CS1010", "CS2113"));
+    }
+
+    private static int semesterOf(SemesterPlan plan, String module) {
+        for (int sem = 1; sem <= plan.getNumberOfSemesters(); sem++) {
+            if (plan.getModules(sem).contains(module)) {
+                return sem;
+            }
+        }
+        return -1;
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.duke.models.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StubNusModsServerTest {
+    private static final String CS2113_PATH = "2023-2024/modules/CS2113.json";
+    private static final String CS2113_BODY = "{\"moduleCode\":\"CS2113\",\"title\":\"Software Engineering\"}";
+
+    @Test
+    void open_fixtureDirectory_expectRecordedBodyOrNull() throws Exception {
+        FixtureModuleDataSource fixtures = new FixtureModuleDataSource(createFixtures());
+
+        assertEquals(CS2113_BODY, fixtures.fetch(CS2113_PATH));
+        assertNull(fixtures.fetch("2023-2024/modules/CS9999.json"));
+        assertNull(fixtures.fetch("../outside.json"));
+    }
+
+    @Test
+    void fetch_fixturesThroughStub_expectSameBodiesOverHttp() throws Exception {
+        try (StubNusModsServer stub = StubNusModsServer.start(new FixtureModuleDataSource(createFixtures()))) {
+            NusModsClient client = stub.newClient();
+
+            assertEquals(CS2113_BODY, client.fetch(CS2113_PATH));
+            assertNull(client.fetch("2023-2024/modules/CS9999.json"));
+            assertEquals(2, stub.getRequestCount());
+        }
+    }
+
+    @Test
+    void fetch_stubWithLatency_expectDelayedResponse() throws Exception {
+        try (StubNusModsServer stub = StubNusModsServer.start(new FixtureModuleDataSource(createFixtures()))) {
+            NusModsClient client = stub.newClient();
+            client.fetch(CS2113_PATH);
+            stub.setLatency(Duration.ofMillis(100), Duration.ZERO);
+
+            long start = System.nanoTime();
+            assertEquals(CS2113_BODY, client.fetch(CS2113_PATH));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 100);
+        }
+    }
+
+    @Test
+    void fetch_stubAlwaysFailing_expectIoException() throws Exception {
+        try (StubNusModsServer stub = StubNusModsServer.start(new FixtureModuleDataSource(createFixtures()))) {
+            NusModsClient client = stub.newClient();
+            stub.setFailureRate(1);
+
+            assertThrows(IOException.class, () -> client.fetch(CS2113_PATH));
+            assertEquals(1, stub.getInjectedFailureCount());
+        }
+    }
+
+    //A file next to the fixture directory checks that paths cannot escape it
+    private static Path createFixtures() throws IOException {
+        Path parent = Files.createTempDirectory("nusmods");
+        Path fixtures = parent.resolve("fixtures");
+        Path modules = Files.createDirectories(fixtures.resolve("2023-2024").resolve("modules"));
+        Files.writeString(modules.resolve("CS2113.json"), CS2113_BODY, StandardCharsets.UTF_8);
+        Files.writeString(parent.resolve("outside.json"), CS2113_BODY, StandardCharsets.UTF_8);
+        return fixtures;
+    }
+}
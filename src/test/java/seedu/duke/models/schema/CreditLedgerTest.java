@@ -0,0 +1,43 @@
+package seedu.duke.models.schema;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CreditLedgerTest {
+
+    @Test
+    void recordScheduled_modulesInSeveralSemesters_expectRunningTotals() {
+        CreditLedger ledger = new CreditLedger(8);
+        ledger.recordScheduled("CS1010", 1, 4);
+        ledger.recordScheduled("MA1511", 1, 2);
+        ledger.recordScheduled("CP3880", 3, 12);
+
+        assertEquals(6, ledger.getCredits(1));
+        assertEquals(0, ledger.getCredits(2));
+        assertEquals(6, ledger.getCreditsUpTo(2));
+        assertEquals(18, ledger.getCreditsUpTo(3));
+        assertEquals(18, ledger.getScheduledCredits());
+        assertTrue(ledger.isOverloaded(3, 10, 20));
+        assertFalse(ledger.isOverloaded(1, 10, 20));
+    }
+
+    @Test
+    void recordUnscheduled_thenCompleted_expectTotalsUpdated() {
+        CreditLedger ledger = new CreditLedger(8);
+        ledger.recordScheduled("CS1010", 1, 4);
+        ledger.recordScheduled("CS1010", 2, 4);
+        assertEquals(0, ledger.getCredits(1));
+        assertEquals(4, ledger.getCredits(2));
+
+        ledger.recordUnscheduled("CS1010");
+        ledger.recordCompleted("CS1010", 0);
+        ledger.recordCompleted("CS1010", 0);
+
+        assertEquals(0, ledger.getScheduledCredits());
+        assertEquals(4, ledger.getCompletedCredits());
+        assertEquals(-1, ledger.getCreditsOf("CS2113"));
+    }
+}
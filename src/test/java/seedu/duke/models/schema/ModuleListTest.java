@@ -97,4 +97,51 @@ class ModuleListTest {
         boolean result = ml.exists(inputString);
         assertFalse(result);
     }
+
+    //success scenario: remove one of two copies of a module --> module still exists
+    @Test
+    void removeModuleTest_duplicateModule_expectStillExists() throws InvalidObjectException {
+        ModuleList ml = new ModuleList("CS1231S CS2030S CS1231S");
+
+        assertTrue(ml.removeModule("CS1231S"));
+        assertTrue(ml.exists("CS1231S"));
+        assertTrue(ml.removeModule("CS1231S"));
+        assertFalse(ml.exists("CS1231S"));
+        assertFalse(ml.removeModule("CS1231S"));
+    }
+
+    //success scenario: 2 ModuleList --> union without duplicates
+    @Test
+    void addAllTest_overlappingModuleLists_expectUnion() throws InvalidObjectException {
+        ModuleList first = new ModuleList("CS1231S CS2030S");
+        ModuleList second = new ModuleList("CS2030S CS2040S");
+
+        first.addAll(second);
+
+        assertEquals(new ModuleList("CS1231S CS2030S CS2040S").getMainModuleList(), first.getMainModuleList());
+        assertTrue(first.exists("CS2040S"));
+    }
+
+    //success scenario: difference computed twice --> count of the last difference only
+    @Test
+    void getDifferenceTest_calledTwice_expectCountNotAccumulated() throws InvalidObjectException {
+        ModuleList first = new ModuleList("CS1231S CS2030S CS2040S");
+        ModuleList second = new ModuleList("CS2030S");
+        ModuleList difference = new ModuleList();
+
+        difference.getDifference(first, second);
+        difference.getDifference(first, second);
+
+        assertEquals(2, difference.getNumberOfModules());
+        assertEquals(2, difference.getMainModuleList().size());
+    }
+
+    //failure scenario: list changed directly --> throws UnsupportedOperationException, membership unchanged
+    @Test
+    void getMainModuleListTest_modifyList_expectException() throws InvalidObjectException {
+        ModuleList ml = new ModuleList("CS1231S CS2030S");
+
+        assertThrows(UnsupportedOperationException.class, () -> ml.getMainModuleList().remove("CS1231S"));
+        assertTrue(ml.exists("CS1231S"));
+    }
 }
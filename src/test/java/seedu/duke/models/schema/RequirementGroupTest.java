@@ -0,0 +1,65 @@
+package seedu.duke.models.schema;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequirementGroupTest {
+    private static final List<String> REQUIREMENTS = List.of(
+            "*Modular Requirements for CS - Units",
+            "**Common Curriculum Requirements - 12",
+            "GEC1% (Cultures and Connections) - 4",
+            "GEA1000 / BT1101 / ST1131 (Data Literacy) - 4",
+            "IS1108 Digital Ethics and Data Privacy",
+            "Interdisciplinary (ID) Courses (at least 2)",
+            "",
+            "**Programme Requirements - 8",
+            "***Computer Science Foundation - 8",
+            "CS1231S Discrete Structures - 4",
+            "CS2040S Data Structures and Algorithms - 4",
+            "",
+            "**Unrestricted Electives - 40");
+
+    @Test
+    void parse_nestedGroups_expectTreeWithUnitTotals() {
+        RequirementGroup root = RequirementGroup.parse(REQUIREMENTS);
+
+        assertEquals("Modular Requirements for CS", root.getName());
+        assertEquals("Units", root.getUnits());
+        assertEquals(60, root.getRequiredCredits());
+        assertEquals(3, root.getSubgroups().size());
+
+        RequirementGroup foundation = root.getSubgroups().get(1).getSubgroups().get(0);
+        assertEquals("Computer Science Foundation", foundation.getName());
+        assertEquals(3, foundation.getLevel());
+        assertEquals(8, foundation.getRequiredCredits());
+        assertEquals(List.of("CS1231S", "CS2040S"), List.of(foundation.getRequirements().get(0).getDisplayCode(),
+                foundation.getRequirements().get(1).getDisplayCode()));
+        assertTrue(root.getSubgroups().get(2).isOpen());
+        assertFalse(foundation.isOpen());
+    }
+
+    @Test
+    void parse_requirementLines_expectOptionsAndCredits() {
+        List<ModuleRequirement> requirements = RequirementGroup.parse(REQUIREMENTS)
+                .getSubgroups().get(0).getRequirements();
+
+        assertTrue(requirements.get(0).matches("GEC1015"));
+        assertFalse(requirements.get(0).matches("GEN2000"));
+        assertEquals(List.of("GEA1000", "BT1101", "ST1131"), requirements.get(1).getOptions());
+        assertTrue(requirements.get(1).matches("BT1101"));
+        assertEquals(-1, requirements.get(2).getCredits());
+        assertEquals(List.of("IS1108"), requirements.get(2).getOptions());
+        assertFalse(requirements.get(3).hasOptions());
+    }
+
+    @Test
+    void parse_noHeader_expectNull() {
+        assertNull(RequirementGroup.parse(List.of("CS2113 Software Engineering - 4")));
+    }
+}
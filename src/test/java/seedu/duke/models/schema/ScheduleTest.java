@@ -4,9 +4,12 @@ import org.junit.jupiter.api.Test;
 import seedu.duke.exceptions.FailPrereqException;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ScheduleTest {
 
@@ -48,4 +51,74 @@ class ScheduleTest {
         assertThrows(IllegalArgumentException.class, () -> schedule.addModule("CS2040C", 1000));
     }
 
+    @Test
+    void getAllDependentsInSchedule_chainOfModules_expectDirectAndIndirectDependents() {
+        Schedule schedule = new Schedule("CS1010 MA1511 CS2040C CS2113", new int[]{2, 1, 1, 0, 0, 0, 0, 0});
+
+        assertEquals(List.of("CS2040C"), schedule.getDependentsInSchedule("CS1010"));
+        assertEquals(List.of("CS2040C", "CS2113"), schedule.getAllDependentsInSchedule("CS1010"));
+        assertEquals(List.of(), schedule.getAllDependentsInSchedule("MA1511"));
+    }
+
+    @Test
+    void deleteModule_prerequisiteOfChain_expectIndirectDependentsReported() {
+        Schedule schedule = new Schedule("CS1010 CS2040C CS2113", new int[]{1, 1, 1, 0, 0, 0, 0, 0});
+
+        FailPrereqException exception = assertThrows(FailPrereqException.class,
+                () -> schedule.deleteModule("CS1010"));
+        assertEquals("Unable to delete module. This module is a prerequisite for CS2040C. "
+                + "Later modules that may also depend on it: CS2113", exception.getMessage());
+        assertEquals(List.of("CS1010", "CS2040C", "CS2113"), schedule.getMainModuleList());
+    }
+
+    @Test
+    void addModule_thenDeleteModule_expectCreditLedgerUpdated() throws Exception {
+        Schedule schedule = new Schedule("CS1010", new int[]{1, 0, 0, 0, 0, 0, 0, 0});
+        schedule.addModule("CS2040C", 2);
+        schedule.addModule("MA1511", 2);
+
+        CreditLedger ledger = schedule.getCreditLedger();
+        assertEquals(4, ledger.getCredits(1));
+        assertEquals(6, ledger.getCredits(2));
+        assertEquals(10, ledger.getScheduledCredits());
+
+        schedule.deleteModule("MA1511");
+        assertEquals(4, ledger.getCredits(2));
+        assertEquals(8, ledger.getCreditsUpTo(8));
+    }
+
+    @Test
+    void deleteModule_loadedSchedule_expectSemesterSetsAndLedgerUpdated() throws Exception {
+        Schedule schedule = new Schedule("CS1010 MA1511 CS2040C", new int[]{2, 1, 0, 0, 0, 0, 0, 0});
+
+        schedule.deleteModule("MA1511");
+
+        assertFalse(schedule.getModulesCompletedBefore(2).contains("MA1511"));
+        assertTrue(schedule.getModulesCompletedBefore(2).contains("CS1010"));
+        assertTrue(schedule.getModulesCompletedBefore(3).contains("CS2040C"));
+        assertEquals(8, schedule.getCreditLedger().getScheduledCredits());
+        assertEquals(4, schedule.getCreditLedger().getCredits(1));
+    }
+
+    @Test
+    void addModule_moduleWithoutCredits_expectAddedAsZeroCredits() throws Exception {
+        Schedule schedule = new Schedule("CS1010", new int[]{1, 0, 0, 0, 0, 0, 0, 0});
+        schedule.addModule("XX1000", 1);
+        Schedule loadedSchedule = new Schedule("CS1010 XX1000", new int[]{2, 0, 0, 0, 0, 0, 0, 0});
+
+        assertEquals(List.of("XX1000", "CS1010"), schedule.getMainModuleList());
+        assertEquals(4, schedule.getCreditLedger().getCredits(1));
+        assertEquals(4, loadedSchedule.getCreditLedger().getCredits(1));
+    }
+
+    @Test
+    void addSemesterPlan_moduleWithoutPrerequisites_expectReportedAndRestAdded() {
+        Schedule schedule = new Schedule();
+        SemesterPlan plan = new SemesterPlan(List.of(List.of("CS2040C", "MA1511"), List.of("CS1010")),
+                new int[]{6, 4}, List.of());
+
+        assertEquals(List.of("CS2040C"), schedule.addSemesterPlan(plan));
+        assertEquals(1, schedule.getSemesterOfModule("MA1511"));
+        assertEquals(2, schedule.getSemesterOfModule("CS1010"));
+    }
 }
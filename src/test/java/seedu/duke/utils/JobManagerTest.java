@@ -0,0 +1,80 @@
+package seedu.duke.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobManagerTest {
+
+    @Test
+    void cancel_runningJob_expectInterrupted() throws InterruptedException {
+        JobManager jobManager = new JobManager();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Job job = jobManager.submit("recommend CEG", 60, () -> {
+            Job.current().setProgress("1/2 modules fetched");
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(job), jobManager.listJobs());
+        assertEquals("1/2 modules fetched", job.getProgress());
+
+        assertSame(job, jobManager.cancel(job.getId()));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(Job.Status.CANCELLED, job.getStatus());
+        assertNull(jobManager.cancel(job.getId()));
+        jobManager.shutdown();
+    }
+
+    @Test
+    void submit_jobPastDeadline_expectTimedOut() throws InterruptedException {
+        JobManager jobManager = new JobManager();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Job job = jobManager.submit("alternatives CEG", 1, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(Job.Status.TIMED_OUT, job.getStatus());
+        jobManager.shutdown();
+    }
+
+    @Test
+    void submit_failingJob_expectFailedAndCurrentJobCleared() throws InterruptedException {
+        JobManager jobManager = new JobManager();
+        CountDownLatch finished = new CountDownLatch(1);
+        Job job = jobManager.submit("info all", 60, () -> {
+            finished.countDown();
+            throw new IllegalStateException("no catalog");
+        });
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && !jobManager.listJobs().isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(Job.Status.FAILED, job.getStatus());
+        assertTrue(jobManager.listJobs().isEmpty());
+        assertNull(Job.current());
+        jobManager.shutdown();
+    }
+}
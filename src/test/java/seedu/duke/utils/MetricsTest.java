@@ -0,0 +1,61 @@
+package seedu.duke.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsTest {
+
+    @Test
+    void getPercentileNanos_uniformDurations_expectWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        long p50 = histogram.getPercentileNanos(50);
+        long p99 = histogram.getPercentileNanos(99);
+
+        assertEquals(100, histogram.getCount());
+        assertTrue(p50 >= TimeUnit.MILLISECONDS.toNanos(50) && p50 <= TimeUnit.MILLISECONDS.toNanos(63));
+        assertTrue(p99 >= TimeUnit.MILLISECONDS.toNanos(99) && p99 <= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.getMaxNanos());
+    }
+
+    @Test
+    void getPercentileNanos_smallAndEmpty_expectExactValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileNanos(50));
+
+        histogram.record(3);
+        histogram.record(-5);
+
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(3, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    void report_countersGaugesAndHistograms_expectAllListed() throws IOException {
+        Metrics.reset();
+        Metrics.increment("test.counter");
+        Metrics.increment("test.counter");
+        Metrics.gauge("test.gauge", () -> 42);
+        Metrics.histogram("test.latency").record(TimeUnit.MILLISECONDS.toNanos(2));
+
+        String report = Metrics.report();
+        Path file = Files.createTempDirectory("metrics").resolve("metrics.txt");
+        Metrics.dump(file);
+
+        assertTrue(report.matches("(?s).*test\\.counter\\s+2\\R.*"));
+        assertTrue(report.matches("(?s).*test\\.gauge\\s+42\\R.*"));
+        assertTrue(report.matches("(?s).*test\\.latency\\s+1\\s+2\\.000.*"));
+        assertEquals(report, Files.readString(file, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.duke.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParserTest {
+    @Test
+    void isValidInput_alternativesWithValidArguments_expectTrue() {
+        assertTrue(Parser.isValidInput("alternatives", new String[]{"alternatives", "ceg"}));
+        assertTrue(Parser.isValidInput("alternatives", new String[]{"alternatives", "CEG", "5"}));
+    }
+
+    @Test
+    void isValidInput_alternativesWithInvalidArguments_expectFalse() {
+        assertFalse(Parser.isValidInput("alternatives", new String[]{"alternatives"}));
+        assertFalse(Parser.isValidInput("alternatives", new String[]{"alternatives", "CEG", "x"}));
+        assertFalse(Parser.isValidInput("alternatives", new String[]{"alternatives", "CEG", "0"}));
+        assertFalse(Parser.isValidInput("alternatives", new String[]{"alternatives", "CEG", "99999999999"}));
+        assertFalse(Parser.isValidInput("alternatives", new String[]{"alternatives", "CEG", "2", "3"}));
+    }
+
+    @Test
+    void parseAlternativesCount_outOfRangeOrNotANumber_expectMinusOne() {
+        assertEquals(3, Parser.parseAlternativesCount("3"));
+        assertEquals(-1, Parser.parseAlternativesCount("6"));
+        assertEquals(-1, Parser.parseAlternativesCount("three"));
+    }
+}